@@ -2,22 +2,37 @@ package io.openems.backend.alerting.scheduler;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.TreeMap;
 
 import io.openems.backend.alerting.Handler;
 import io.openems.backend.alerting.Message;
 
+/**
+ * Schedules Messages for one {@link Handler}.
+ *
+ * <p>
+ * Messages are kept in buckets per minute of their notify stamp, matching the
+ * resolution of the {@link MinuteTimer}. Scheduling, removing and checking a
+ * message by its ID does not require a scan of all scheduled messages, which
+ * matters when thousands of Edges go offline and online again at once.
+ */
 public class MessageScheduler<T extends Message> {
 	private final Map<String, T> messageForId;
-	private final PriorityQueue<T> queue;
+	private final Map<String, Long> minuteForId;
+	private final TreeMap<Long, Set<T>> buckets;
 	private final Handler<T> handler;
 
 	public MessageScheduler(Handler<T> handler) {
 		this.handler = handler;
-		this.queue = new PriorityQueue<>();
-		this.messageForId = new TreeMap<>();
+		this.messageForId = new HashMap<>();
+		this.minuteForId = new HashMap<>();
+		this.buckets = new TreeMap<>();
 	}
 
 	/**
@@ -31,7 +46,9 @@ public class MessageScheduler<T extends Message> {
 		}
 		synchronized (this) {
 			this.messageForId.computeIfAbsent(msg.getId(), (key) -> {
-				this.queue.add(msg);
+				var minute = toMinute(msg.getNotifyStamp());
+				this.minuteForId.put(key, minute);
+				this.buckets.computeIfAbsent(minute, (m) -> new LinkedHashSet<>()).add(msg);
 				return msg;
 			});
 		}
@@ -49,7 +66,7 @@ public class MessageScheduler<T extends Message> {
 		synchronized (this) {
 			var msg = this.messageForId.remove(msgId);
 			if (msg != null) {
-				this.queue.remove(msg);
+				this.removeFromBucket(msg, this.minuteForId.remove(msgId));
 			}
 		}
 	}
@@ -61,7 +78,12 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Message msg) {
-		return this.queue.contains(msg);
+		if (msg == null) {
+			return false;
+		}
+		synchronized (this) {
+			return msg.equals(this.messageForId.get(msg.getId()));
+		}
 	}
 
 	/**
@@ -69,8 +91,8 @@ public class MessageScheduler<T extends Message> {
 	 *
 	 * @return size of message queue
 	 */
-	public int size() {
-		return this.queue.size();
+	public synchronized int size() {
+		return this.messageForId.size();
 	}
 
 	/**
@@ -78,27 +100,57 @@ public class MessageScheduler<T extends Message> {
 	 */
 	public void handle() {
 		var now = ZonedDateTime.now();
-		var msgs = new ArrayList<T>();
-		while (!this.queue.isEmpty() && now.isAfter(this.queue.peek().getNotifyStamp())) {
-			var msg = this.poll();
-			if (msg != null) {
-				msgs.add(msg);
-			}
-		}
+		var msgs = this.pollDue(now);
 		if (!msgs.isEmpty()) {
 			this.handler.send(now, msgs);
 		}
 	}
 
-	private T poll() {
-		T msg;
-		synchronized (this) {
-			msg = this.queue.poll();
-			if (msg != null) {
+	/**
+	 * Removes and returns all messages whose notify stamp is before the given
+	 * time. Only the buckets up to the current minute are visited.
+	 *
+	 * @param now the current time
+	 * @return the due messages, sorted by their notify stamp
+	 */
+	private synchronized List<T> pollDue(ZonedDateTime now) {
+		var result = new ArrayList<T>();
+		var dueBuckets = this.buckets.headMap(toMinute(now), true).values().iterator();
+		while (dueBuckets.hasNext()) {
+			var bucket = dueBuckets.next();
+			bucket.removeIf(msg -> {
+				if (!now.isAfter(msg.getNotifyStamp())) {
+					return false;
+				}
 				this.messageForId.remove(msg.getId());
+				this.minuteForId.remove(msg.getId());
+				result.add(msg);
+				return true;
+			});
+			if (bucket.isEmpty()) {
+				dueBuckets.remove();
 			}
 		}
-		return msg;
+		Collections.sort(result);
+		return result;
+	}
+
+	private void removeFromBucket(T msg, Long minute) {
+		if (minute == null) {
+			return;
+		}
+		var bucket = this.buckets.get(minute);
+		if (bucket == null) {
+			return;
+		}
+		bucket.remove(msg);
+		if (bucket.isEmpty()) {
+			this.buckets.remove(minute);
+		}
+	}
+
+	private static long toMinute(ZonedDateTime stamp) {
+		return Math.floorDiv(stamp.toEpochSecond(), 60);
 	}
 
 	/**
@@ -0,0 +1,70 @@
+package io.openems.backend.alerting.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.backend.alerting.scheduler.SchedulerTest.DummyHandler;
+import io.openems.backend.alerting.scheduler.SchedulerTest.DummyMessage;
+
+public class MessageSchedulerTest {
+
+	private static final int EDGES = 50_000;
+
+	@Test
+	public void testHandleInOrder() {
+		var handler = new DummyHandler();
+		var sut = new MessageScheduler<>(handler);
+		var late = new DummyMessage("late", -30);
+		var early = new DummyMessage("early", -90);
+		var middle = new DummyMessage("middle", -60);
+		var future = new DummyMessage("future", 120);
+		sut.schedule(late);
+		sut.schedule(early);
+		sut.schedule(future);
+		sut.schedule(middle);
+		assertEquals(4, sut.size());
+
+		sut.handle();
+
+		assertNotNull(handler.wasSentAt);
+		// Due messages are handled sorted by their notify stamp
+		assertEquals(List.of(early, middle, late), handler.sentMessages);
+		assertFalse(sut.isScheduled(middle));
+		assertFalse(sut.isScheduled(early));
+		assertFalse(sut.isScheduled(late));
+		assertTrue(sut.isScheduled(future));
+		assertEquals(1, sut.size());
+	}
+
+	@Test
+	public void testEdgesFlapping() {
+		var sut = new MessageScheduler<>(new DummyHandler());
+		var msgs = new ArrayList<DummyMessage>(EDGES);
+		for (var i = 0; i < EDGES; i++) {
+			msgs.add(new DummyMessage("edge" + i, i % 3600));
+		}
+
+		// All Edges go offline
+		msgs.forEach(sut::schedule);
+		assertEquals(EDGES, sut.size());
+		msgs.forEach(msg -> assertTrue(sut.isScheduled(msg)));
+
+		// All Edges come online again
+		msgs.forEach(msg -> sut.remove(msg.getId()));
+		assertEquals(0, sut.size());
+		msgs.forEach(msg -> assertFalse(sut.isScheduled(msg)));
+
+		// Flapping again
+		msgs.forEach(sut::schedule);
+		msgs.forEach(msg -> sut.remove(msg.getId()));
+		assertEquals(0, sut.size());
+	}
+
+}
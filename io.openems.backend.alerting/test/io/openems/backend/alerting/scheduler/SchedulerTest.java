@@ -142,6 +142,7 @@ public class SchedulerTest {
 
 	static class DummyHandler implements Handler<DummyMessage> {
 		ZonedDateTime wasSentAt = null;
+		final List<DummyMessage> sentMessages = new ArrayList<>();
 
 		@Override
 		public Runnable getEventHandler(EventReader event) {
@@ -156,6 +157,7 @@ public class SchedulerTest {
 		@Override
 		public void send(ZonedDateTime sentAt, List<DummyMessage> messages) {
 			this.wasSentAt = sentAt;
+			this.sentMessages.addAll(messages);
 		}
 
 		@Override
@@ -1,5 +1,7 @@
 package io.openems.backend.common.metadata;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -12,12 +14,20 @@ import com.google.common.base.Objects;
 import com.google.gson.JsonObject;
 
 import io.openems.backend.common.event.BackendEventConstants;
+import io.openems.common.channel.Level;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.types.SemanticVersion;
 import io.openems.common.utils.JsonUtils;
 
 public class Edge {
 
+	/**
+	 * Minimum interval between two {@link Events#ON_SET_LASTMESSAGE} events of
+	 * the same Edge. Listeners only persist the timestamp every few minutes, so
+	 * there is no benefit in notifying them about every single message.
+	 */
+	private static final Duration LASTMESSAGE_EVENT_INTERVAL = Duration.ofSeconds(60);
+
 	private final Logger log = LoggerFactory.getLogger(Edge.class);
 	private final Metadata parent;
 
@@ -27,6 +37,8 @@ public class Edge {
 	private String producttype;
 	private ZonedDateTime lastmessage = null;
 	private boolean isOnline = false;
+	private Level sumState = null;
+	private Instant lastmessageEvent = Instant.MIN;
 
 	private final List<EdgeUser> user;
 
@@ -129,17 +141,22 @@ public class Edge {
 	/**
 	 * Sets the Last-Message-Timestamp.
 	 *
+	 * <p>
+	 * Listeners are called at most once per {@link #LASTMESSAGE_EVENT_INTERVAL}
+	 * of Last-Message-Timestamps.
+	 *
 	 * @param timestamp     the Last-Message-Timestamp
 	 * @param callListeners whether to call the setLastmessage-Listeners
 	 */
 	public synchronized void setLastmessage(ZonedDateTime timestamp, boolean callListeners) {
-		if (callListeners) {
+		var stamp = timestamp.toInstant();
+		if (callListeners && stamp.isAfter(this.lastmessageEvent.plus(LASTMESSAGE_EVENT_INTERVAL))) {
+			this.lastmessageEvent = stamp;
 			EventBuilder.from(this.parent.getEventAdmin(), Events.ON_SET_LASTMESSAGE) //
 					.addArg(Events.OnSetLastmessage.EDGE, this) //
 					.send(); //
 		}
-		var now = timestamp;
-		this.lastmessage = now;
+		this.lastmessage = timestamp;
 	}
 
 	/**
@@ -225,6 +242,43 @@ public class Edge {
 		}
 	}
 
+	/*
+	 * Sum-State
+	 */
+	public Level getSumState() {
+		return this.sumState;
+	}
+
+	/**
+	 * Sets the Sum-State and calls the SetSumState-Listeners.
+	 *
+	 * @param sumState the Sum-State {@link Level}
+	 */
+	public synchronized void setSumState(Level sumState) {
+		this.setSumState(sumState, true);
+	}
+
+	/**
+	 * Sets the Sum-State.
+	 *
+	 * <p>
+	 * Listeners are only called if the Sum-State actually changed.
+	 *
+	 * @param sumState      the Sum-State {@link Level}
+	 * @param callListeners whether to call the SetSumState-Listeners
+	 */
+	public synchronized void setSumState(Level sumState, boolean callListeners) {
+		if (this.sumState != sumState) { // on change
+			if (callListeners) {
+				EventBuilder.from(this.parent.getEventAdmin(), Events.ON_SET_SUM_STATE) //
+						.addArg(Events.OnSetSumState.EDGE, this) //
+						.addArg(Events.OnSetSumState.SUM_STATE, sumState) //
+						.send(); //
+			}
+			this.sumState = sumState;
+		}
+	}
+
 	/**
 	 * Add User to UserList.
 	 *
@@ -0,0 +1,91 @@
+package io.openems.backend.common.metadata;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+
+import io.openems.backend.common.test.DummyMetadata;
+import io.openems.common.channel.Level;
+
+public class EdgeTest {
+
+	private static class TestMetadata extends DummyMetadata {
+
+		private final List<Event> events = new ArrayList<>();
+
+		@Override
+		public EventAdmin getEventAdmin() {
+			return new EventAdmin() {
+
+				@Override
+				public void postEvent(Event event) {
+					TestMetadata.this.events.add(event);
+				}
+
+				@Override
+				public void sendEvent(Event event) {
+					TestMetadata.this.events.add(event);
+				}
+			};
+		}
+
+		private long count(String topic) {
+			return this.events.stream().filter(e -> e.getTopic().equals(topic)).count();
+		}
+	}
+
+	private static final ZonedDateTime START = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testSetSumState() {
+		var metadata = new TestMetadata();
+		var sut = new Edge(metadata, "edge0", "", "", "", START);
+
+		sut.setSumState(Level.OK);
+		assertEquals(1, metadata.count(Edge.Events.ON_SET_SUM_STATE));
+		assertEquals(Level.OK, sut.getSumState());
+
+		// Unchanged Sum-State does not call the listeners
+		sut.setSumState(Level.OK);
+		assertEquals(1, metadata.count(Edge.Events.ON_SET_SUM_STATE));
+
+		sut.setSumState(Level.FAULT);
+		assertEquals(2, metadata.count(Edge.Events.ON_SET_SUM_STATE));
+		assertEquals(Level.FAULT,
+				metadata.events.get(1).getProperty(Edge.Events.OnSetSumState.SUM_STATE));
+
+		// Changes without listeners are only stored
+		sut.setSumState(Level.WARNING, false);
+		assertEquals(2, metadata.count(Edge.Events.ON_SET_SUM_STATE));
+		assertEquals(Level.WARNING, sut.getSumState());
+	}
+
+	@Test
+	public void testSetLastmessage() {
+		var metadata = new TestMetadata();
+		var sut = new Edge(metadata, "edge0", "", "", "", null);
+
+		sut.setLastmessage(START);
+		assertEquals(1, metadata.count(Edge.Events.ON_SET_LASTMESSAGE));
+
+		// Listeners are called at most once per minute
+		sut.setLastmessage(START.plusSeconds(30));
+		assertEquals(1, metadata.count(Edge.Events.ON_SET_LASTMESSAGE));
+		assertEquals(START.plusSeconds(30), sut.getLastmessage());
+
+		sut.setLastmessage(START.plusSeconds(61));
+		assertEquals(2, metadata.count(Edge.Events.ON_SET_LASTMESSAGE));
+
+		sut.setLastmessage(START.plusSeconds(200), false);
+		assertEquals(2, metadata.count(Edge.Events.ON_SET_LASTMESSAGE));
+		assertEquals(START.plusSeconds(200), sut.getLastmessage());
+	}
+
+}
@@ -0,0 +1,71 @@
+package io.openems.backend.edgewebsocket;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket admission control for new Edge connections.
+ *
+ * <p>
+ * After a restart of the Backend all Edges reconnect within seconds. Every
+ * connection requires authentication and is followed by a full EdgeConfig and
+ * Channel data. This class limits the number of accepted connections per
+ * second. Rejected Edges get a Retry-After hint; hints are handed out in
+ * consecutive slots, so that rejected Edges return evenly distributed.
+ */
+public class AdmissionControl {
+
+	private final double permitsPerSecond;
+	private final LongSupplier nanoTime;
+
+	private double permits;
+	private long lastRefill;
+	private long nextRetrySlot;
+
+	/**
+	 * Creates an {@link AdmissionControl}.
+	 *
+	 * @param permitsPerSecond the number of admitted connections per second;
+	 *                         zero or negative disables admission control
+	 */
+	public AdmissionControl(int permitsPerSecond) {
+		this(permitsPerSecond, System::nanoTime);
+	}
+
+	protected AdmissionControl(int permitsPerSecond, LongSupplier nanoTime) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.nanoTime = nanoTime;
+		this.permits = permitsPerSecond;
+		this.lastRefill = nanoTime.getAsLong();
+		this.nextRetrySlot = this.lastRefill;
+	}
+
+	/**
+	 * Tries to admit a new connection.
+	 *
+	 * @return zero if the connection is admitted; otherwise the number of seconds
+	 *         after which the Edge should retry
+	 */
+	public synchronized long tryAcquire() {
+		if (this.permitsPerSecond <= 0) {
+			return 0;
+		}
+		var now = this.nanoTime.getAsLong();
+
+		// Refill
+		this.permits = Math.min(this.permitsPerSecond,
+				this.permits + (now - this.lastRefill) * this.permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+		this.lastRefill = now;
+
+		if (this.permits >= 1) {
+			this.permits -= 1;
+			return 0;
+		}
+
+		// Reserve the next free retry slot
+		this.nextRetrySlot = Math.max(this.nextRetrySlot, now)
+				+ (long) (TimeUnit.SECONDS.toNanos(1) / this.permitsPerSecond);
+		return Math.max(1, (long) Math.ceil((this.nextRetrySlot - now) / (double) TimeUnit.SECONDS.toNanos(1)));
+	}
+
+}
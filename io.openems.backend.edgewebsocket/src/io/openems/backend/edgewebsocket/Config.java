@@ -19,6 +19,9 @@ import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
+	@AttributeDefinition(name = "Max. new connections per second", description = "Limits the rate of accepted Edge connections, e.g. after a restart. Rejected Edges are asked to retry later. Zero disables the limit.")
+	int maxConnectionsPerSecond() default 50;
+
 	String webconsole_configurationFactory_nameHint() default "Edge Websocket";
 
 }
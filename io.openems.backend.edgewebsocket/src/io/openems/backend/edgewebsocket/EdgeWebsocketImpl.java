@@ -104,12 +104,17 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent implement
 	/**
 	 * Create and start new server.
 	 *
-	 * @param port      the port
-	 * @param poolSize  number of threads dedicated to handle the tasks
-	 * @param debugMode activate a regular debug log about the state of the tasks
+	 * @param port                    the port
+	 * @param poolSize                number of threads dedicated to handle the
+	 *                                tasks
+	 * @param debugMode               activate a regular debug log about the state
+	 *                                of the tasks
+	 * @param maxConnectionsPerSecond the max number of accepted new connections
+	 *                                per second
 	 */
-	private synchronized void startServer(int port, int poolSize, DebugMode debugMode) {
-		this.server = new WebsocketServer(this, this.getName(), port, poolSize, debugMode);
+	private synchronized void startServer(int port, int poolSize, DebugMode debugMode,
+			int maxConnectionsPerSecond) {
+		this.server = new WebsocketServer(this, this.getName(), port, poolSize, debugMode, maxConnectionsPerSecond);
 		this.server.start();
 	}
 
@@ -262,7 +267,8 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent implement
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
 		case Metadata.Events.AFTER_IS_INITIALIZED:
-			this.startServer(this.config.port(), this.config.poolSize(), this.config.debugMode());
+			this.startServer(this.config.port(), this.config.poolSize(), this.config.debugMode(),
+					this.config.maxConnectionsPerSecond());
 			break;
 		}
 	}
@@ -7,17 +7,29 @@ import com.google.gson.JsonObject;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.WebsocketUtils;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
 	private final EdgeWebsocketImpl parent;
+	private final AdmissionControl admissionControl;
 
-	public OnOpen(EdgeWebsocketImpl parent) {
+	public OnOpen(EdgeWebsocketImpl parent, AdmissionControl admissionControl) {
 		this.parent = parent;
+		this.admissionControl = admissionControl;
 	}
 
 	@Override
 	public void run(WebSocket ws, JsonObject handshake) {
+		// limit rate of new connections, e.g. after a restart of the Backend
+		var retryAfter = this.admissionControl.tryAcquire();
+		if (retryAfter > 0) {
+			// send a close frame, so that the Edge receives the Retry-After hint
+			ws.close(CloseFrame.TRY_AGAIN_LATER,
+					"Too many connection attempts. " + WebsocketUtils.formatRetryAfter(retryAfter));
+			return;
+		}
+
 		// get websocket attachment
 		WsData wsData = ws.getAttachment();
 
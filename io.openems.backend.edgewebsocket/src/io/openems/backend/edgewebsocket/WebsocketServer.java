@@ -31,11 +31,12 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode) {
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode,
+			int maxConnectionsPerSecond) {
 		super(name, port, poolSize, debugMode, (executor) -> {
 		});
 		this.parent = parent;
-		this.onOpen = new OnOpen(parent);
+		this.onOpen = new OnOpen(parent, new AdmissionControl(maxConnectionsPerSecond));
 		this.onRequest = new OnRequest(parent);
 		this.onNotification = new OnNotification(parent);
 		this.onError = new OnError(parent);
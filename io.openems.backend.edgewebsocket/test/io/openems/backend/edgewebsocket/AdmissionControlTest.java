@@ -0,0 +1,41 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class AdmissionControlTest {
+
+	@Test
+	public void test() {
+		var clock = new AtomicLong(0);
+		var sut = new AdmissionControl(2, clock::get);
+
+		// Burst
+		assertEquals(0, sut.tryAcquire());
+		assertEquals(0, sut.tryAcquire());
+
+		// Rejected Edges get consecutive retry slots
+		assertEquals(1, sut.tryAcquire()); // 0.5 s
+		assertEquals(1, sut.tryAcquire()); // 1.0 s
+		assertEquals(2, sut.tryAcquire()); // 1.5 s
+		assertEquals(2, sut.tryAcquire()); // 2.0 s
+
+		// Refill
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+		assertEquals(0, sut.tryAcquire());
+		assertEquals(2, sut.tryAcquire()); // 2.5 s
+	}
+
+	@Test
+	public void testDisabled() {
+		var sut = new AdmissionControl(0);
+		for (var i = 0; i < 100; i++) {
+			assertEquals(0, sut.tryAcquire());
+		}
+	}
+
+}
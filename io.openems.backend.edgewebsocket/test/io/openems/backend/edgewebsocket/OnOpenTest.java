@@ -0,0 +1,125 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.java_websocket.framing.CloseFrame;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.DummyWebsocketServer;
+import io.openems.common.websocket.DummyWsData;
+import io.openems.common.websocket.OnClose;
+import io.openems.common.websocket.OnError;
+import io.openems.common.websocket.OnNotification;
+import io.openems.common.websocket.OnOpen;
+import io.openems.common.websocket.OnRequest;
+import io.openems.common.websocket.WebsocketUtils;
+import io.openems.common.websocket.WsData;
+
+public class OnOpenTest {
+
+	private static class TestClient extends AbstractWebsocketClient<WsData> {
+
+		private final CompletableFuture<Integer> closeCode = new CompletableFuture<>();
+		private volatile String closeReason = null;
+
+		public TestClient(URI serverUri) {
+			super("TestClient", serverUri);
+		}
+
+		@Override
+		protected WsData createWsData() {
+			return new DummyWsData();
+		}
+
+		@Override
+		protected OnOpen getOnOpen() {
+			return (ws, handshake) -> {
+			};
+		}
+
+		@Override
+		protected OnRequest getOnRequest() {
+			return null;
+		}
+
+		@Override
+		protected OnNotification getOnNotification() {
+			return null;
+		}
+
+		@Override
+		protected OnError getOnError() {
+			return (ws, ex) -> {
+			};
+		}
+
+		@Override
+		protected OnClose getOnClose() {
+			return (ws, code, reason, remote) -> {
+				this.closeReason = reason;
+				this.closeCode.complete(code);
+			};
+		}
+
+		@Override
+		protected void execute(Runnable command) {
+			command.run();
+		}
+
+		@Override
+		protected void logInfo(Logger log, String message) {
+			log.info(message);
+		}
+
+		@Override
+		protected void logWarn(Logger log, String message) {
+			log.warn(message);
+		}
+
+		@Override
+		protected void logError(Logger log, String message) {
+			log.error(message);
+		}
+	}
+
+	@Test
+	public void testRetryAfterReachesClient() throws Exception {
+		// Frozen clock: the only permit is used up, the next Edge is rejected
+		var admissionControl = new AdmissionControl(1, () -> 0L);
+		admissionControl.tryAcquire();
+
+		try (final var server = DummyWebsocketServer.create() //
+				.onOpen(new io.openems.backend.edgewebsocket.OnOpen(null, admissionControl)) //
+				.build()) {
+			server.start();
+
+			// block until Port is not anymore zero
+			int port;
+			do {
+				Thread.sleep(100);
+				port = server.getPort();
+			} while (port == 0);
+
+			var client = new TestClient(URI.create("ws://localhost:" + port));
+			try {
+				client.startBlocking();
+
+				assertEquals(CloseFrame.TRY_AGAIN_LATER, (int) client.closeCode.get(10, TimeUnit.SECONDS));
+				var retryAfter = WebsocketUtils.parseRetryAfter(client.closeReason);
+				assertTrue(retryAfter.isPresent());
+				assertEquals(1, retryAfter.getAsLong());
+
+			} finally {
+				client.stop();
+			}
+		}
+	}
+
+}
@@ -1,6 +1,7 @@
 package io.openems.backend.metadata.odoo;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
@@ -68,6 +69,7 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 
 	private static final int EXECUTOR_MIN_THREADS = 1;
 	private static final int EXECUTOR_MAX_THREADS = 50;
+	private static final Duration SESSION_CACHE_TTL = Duration.ofMinutes(5);
 
 	private final Logger log = LoggerFactory.getLogger(OdooMetadata.class);
 
@@ -89,6 +91,8 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 	 */
 	private final ConcurrentHashMap<String, User> users = new ConcurrentHashMap<>();
 
+	private final SessionCache sessionCache = new SessionCache(SESSION_CACHE_TTL);
+
 	public OdooMetadata() {
 		super("Metadata.Odoo");
 
@@ -133,6 +137,12 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 	 */
 	@Override
 	public User authenticate(String sessionId) throws OpenemsNamedException {
+		var user = this.sessionCache.get(sessionId, this::authenticateSession);
+		this.users.put(user.getId(), user);
+		return user;
+	}
+
+	private MyUser authenticateSession(String sessionId) throws OpenemsNamedException {
 		var result = this.odooHandler.authenticateSession(sessionId);
 
 		// Parse Result
@@ -146,7 +156,7 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 		var jUser = JsonUtils.getAsJsonObject(result, "user");
 		var odooUserId = JsonUtils.getAsInt(jUser, "id");
 
-		var user = new MyUser(//
+		return new MyUser(//
 				odooUserId, //
 				JsonUtils.getAsString(jUser, "login"), //
 				JsonUtils.getAsString(jUser, "name"), //
@@ -154,13 +164,11 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 				Language.from(JsonUtils.getAsString(jUser, "language")), //
 				Role.getRole(JsonUtils.getAsString(jUser, "global_role")), //
 				roles);
-
-		this.users.put(user.getId(), user);
-		return user;
 	}
 
 	@Override
 	public void logout(User user) {
+		this.sessionCache.invalidate(user.getToken());
 		this.odooHandler.logout(user.getToken());
 	}
 
@@ -232,6 +240,7 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 
 	@Override
 	public void addEdgeToUser(User user, Edge edge) throws OpenemsNamedException {
+		this.sessionCache.invalidateUser(user.getId());
 		this.odooHandler.assignEdgeToUser((MyUser) user, (MyEdge) edge, OdooUserRole.INSTALLER);
 	}
 
@@ -242,6 +251,7 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 
 	@Override
 	public void setUserInformation(User user, JsonObject jsonObject) throws OpenemsNamedException {
+		this.sessionCache.invalidateUser(user.getId());
 		this.odooHandler.setUserInformation((MyUser) user, jsonObject);
 	}
 
@@ -276,6 +286,7 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 
 	@Override
 	public void updateUserLanguage(User user, Language language) throws OpenemsNamedException {
+		this.sessionCache.invalidateUser(user.getId());
 		this.odooHandler.updateUserLanguage((MyUser) user, language);
 	}
 
@@ -362,6 +373,19 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 				this.logWarn(this.log, "Edge [" + edge.getId() + "]. " + e.getMessage());
 			}
 
+			// Update EdgeConfig; this also updates "openems_config_components". Skipped
+			// if the content is unchanged.
+			try {
+				if (!this.postgresHandler.edge.updateEdgeConfig(edge.getOdooId(), edge.getId(), newConfig)) {
+					return;
+				}
+			} catch (SQLException | OpenemsNamedException e) {
+				// Still record the change, so the history has no gaps. The write is retried
+				// with the next config of the Edge.
+				this.logWarn(this.log, "Edge [" + edge.getId() + "] " //
+						+ "Unable to update EdgeConfig: " + e.getMessage());
+			}
+
 			var diff = EdgeConfigDiff.diff(newConfig, oldConfig);
 			if (diff.isDifferent()) {
 				// Update "EdgeConfigUpdate"
@@ -374,14 +398,6 @@ public class OdooMetadata extends AbstractMetadata implements Metadata, Mailer,
 							+ "Unable to insert EdgeConfigUpdate: " + e.getMessage());
 				}
 			}
-
-			// Always update EdgeConfig, because it also updates "openems_config_components"
-			try {
-				this.postgresHandler.edge.updateEdgeConfig(edge.getOdooId(), newConfig);
-			} catch (SQLException | OpenemsNamedException e) {
-				this.logWarn(this.log, "Edge [" + edge.getId() + "] " //
-						+ "Unable to insert EdgeConfigUpdate: " + e.getMessage());
-			}
 		});
 	}
 
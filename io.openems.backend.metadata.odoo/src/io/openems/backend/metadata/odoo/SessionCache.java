@@ -0,0 +1,151 @@
+package io.openems.backend.metadata.odoo;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingFunction;
+
+/**
+ * Caches verified Odoo sessions, to avoid a round trip to Odoo on every UI
+ * websocket connection.
+ *
+ * <p>
+ * Entries expire after a fixed time-to-live and are invalidated on logout and
+ * when the user is modified via the Backend. Concurrent authentications of the
+ * same Session-ID are deduplicated, i.e. only the first one actually asks
+ * Odoo; all others wait for its result. Expired entries are swept at most
+ * once per time-to-live.
+ */
+public class SessionCache {
+
+	private static class Entry {
+		private final MyUser user;
+		private final long expiresAt;
+
+		private Entry(MyUser user, long expiresAt) {
+			this.user = user;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private final long ttl;
+	private final LongSupplier nanoTime;
+	private final ConcurrentHashMap<String, Entry> sessions = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, CompletableFuture<MyUser>> pending = new ConcurrentHashMap<>();
+	private final AtomicLong nextSweep;
+
+	public SessionCache(Duration ttl) {
+		this(ttl, System::nanoTime);
+	}
+
+	protected SessionCache(Duration ttl, LongSupplier nanoTime) {
+		this.ttl = ttl.toNanos();
+		this.nanoTime = nanoTime;
+		this.nextSweep = new AtomicLong(nanoTime.getAsLong() + this.ttl);
+	}
+
+	/**
+	 * Gets the {@link MyUser} for a Session-ID; authenticates it via the given
+	 * function if it is not cached.
+	 *
+	 * @param sessionId    the Session-ID
+	 * @param authenticate the authentication function
+	 * @return the {@link MyUser}
+	 * @throws OpenemsNamedException on authentication error
+	 */
+	public MyUser get(String sessionId, ThrowingFunction<String, MyUser, OpenemsNamedException> authenticate)
+			throws OpenemsNamedException {
+		var now = this.nanoTime.getAsLong();
+		var entry = this.sessions.get(sessionId);
+		if (entry != null && now - entry.expiresAt < 0) {
+			return entry.user;
+		}
+
+		var future = new CompletableFuture<MyUser>();
+		var existing = this.pending.putIfAbsent(sessionId, future);
+		if (existing != null) {
+			// Another thread is already authenticating this Session-ID
+			return join(existing);
+		}
+		try {
+			var user = authenticate.apply(sessionId);
+			this.sweep(now);
+			this.sessions.put(sessionId, new Entry(user, now + this.ttl));
+			future.complete(user);
+			return user;
+
+		} catch (OpenemsNamedException | RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+
+		} finally {
+			this.pending.remove(sessionId, future);
+		}
+	}
+
+	/**
+	 * Invalidates a Session-ID, e.g. on logout.
+	 *
+	 * @param sessionId the Session-ID
+	 */
+	public void invalidate(String sessionId) {
+		this.sessions.remove(sessionId);
+	}
+
+	/**
+	 * Invalidates all sessions of a User, e.g. after the User was modified.
+	 *
+	 * @param userId the User-ID
+	 */
+	public void invalidateUser(String userId) {
+		this.sessions.values().removeIf(e -> e.user.getId().equals(userId));
+	}
+
+	/**
+	 * Gets the number of cached sessions, including expired ones that were not
+	 * swept yet.
+	 *
+	 * @return the number of sessions
+	 */
+	protected int size() {
+		return this.sessions.size();
+	}
+
+	/**
+	 * Removes expired entries; at most once per time-to-live.
+	 *
+	 * @param now the current nano time
+	 */
+	private void sweep(long now) {
+		var next = this.nextSweep.get();
+		if (now - next < 0 || !this.nextSweep.compareAndSet(next, now + this.ttl)) {
+			return;
+		}
+		this.sessions.values().removeIf(e -> now - e.expiresAt >= 0);
+	}
+
+	private static MyUser join(CompletableFuture<MyUser> future) throws OpenemsNamedException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while waiting for authentication");
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof OpenemsNamedException) {
+				throw (OpenemsNamedException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new OpenemsException("Unable to authenticate: " + cause.getMessage());
+		}
+	}
+
+}
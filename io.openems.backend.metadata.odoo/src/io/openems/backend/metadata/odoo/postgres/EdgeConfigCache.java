@@ -0,0 +1,98 @@
+package io.openems.backend.metadata.odoo.postgres;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.Hashing;
+
+import io.openems.common.types.EdgeConfig;
+
+/**
+ * Caches parsed {@link EdgeConfig}s by the hash of their serialized content.
+ *
+ * <p>
+ * Edges with identical configuration share one {@link EdgeConfig} instance.
+ * For every Edge the hash of the configuration that is stored in the database
+ * is kept, so that unchanged updates can be skipped without a database
+ * round trip.
+ */
+public class EdgeConfigCache {
+
+	private final Map<String, String> hashByEdgeId = new ConcurrentHashMap<>();
+	private final Map<String, EdgeConfig> configByHash;
+
+	public EdgeConfigCache(int maxSize) {
+		this.configByHash = new LinkedHashMap<>(16, 0.75F, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<String, EdgeConfig> eldest) {
+				return this.size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Calculates the content hash of a serialized {@link EdgeConfig}.
+	 *
+	 * @param content the serialized {@link EdgeConfig}
+	 * @return the hash
+	 */
+	public static String hash(String content) {
+		return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+	}
+
+	/**
+	 * Gets the hash of the stored {@link EdgeConfig} of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the hash; null if unknown
+	 */
+	public String getHash(String edgeId) {
+		return this.hashByEdgeId.get(edgeId);
+	}
+
+	/**
+	 * Gets the cached {@link EdgeConfig} of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link EdgeConfig}; null if it is not cached
+	 */
+	public EdgeConfig get(String edgeId) {
+		var hash = this.hashByEdgeId.get(edgeId);
+		if (hash == null) {
+			return null;
+		}
+		return this.getByHash(hash);
+	}
+
+	/**
+	 * Gets a cached {@link EdgeConfig} by its content hash.
+	 *
+	 * @param hash the content hash
+	 * @return the {@link EdgeConfig}; null if it is not cached
+	 */
+	public EdgeConfig getByHash(String hash) {
+		synchronized (this.configByHash) {
+			return this.configByHash.get(hash);
+		}
+	}
+
+	/**
+	 * Adds the stored {@link EdgeConfig} of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param hash   the content hash
+	 * @param config the {@link EdgeConfig}
+	 */
+	public void put(String edgeId, String hash, EdgeConfig config) {
+		synchronized (this.configByHash) {
+			this.configByHash.putIfAbsent(hash, config);
+		}
+		this.hashByEdgeId.put(edgeId, hash);
+	}
+
+}
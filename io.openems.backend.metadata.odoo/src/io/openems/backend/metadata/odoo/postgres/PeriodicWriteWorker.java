@@ -1,16 +1,18 @@
 package io.openems.backend.metadata.odoo.postgres;
 
 import java.sql.SQLException;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,13 +25,20 @@ import io.openems.common.channel.Level;
 import io.openems.common.utils.ThreadPoolUtils;
 
 /**
- * This worker combines writes to lastMessage and lastUpdate fields, to avoid
- * DDOSing Odoo/Postgres by writing too often.
+ * This worker combines writes to lastMessage, isConnected and sumState fields,
+ * to avoid DDOSing Odoo/Postgres by writing too often.
+ *
+ * <p>
+ * Pending writes are deduplicated per Edge, i.e. only the latest value is
+ * kept. Every field is flushed with a single statement once per
+ * {@link #UPDATE_INTERVAL_IN_SECONDS}; the flushes of the different fields are
+ * spread evenly over that interval. If a flush fails, the entries are kept
+ * for the next run - unless they were replaced by newer values meanwhile.
  */
 public class PeriodicWriteWorker {
 
 	/**
-	 * DEBUG_MODE activates printing of reqular statistics about queued tasks.
+	 * DEBUG_MODE activates printing of flush duration and number of rows.
 	 */
 	private static final boolean DEBUG_MODE = true;
 
@@ -39,76 +48,83 @@ public class PeriodicWriteWorker {
 	private final PostgresHandler parent;
 
 	/**
-	 * Holds the scheduled task.
+	 * Holds the scheduled tasks.
 	 */
-	private ScheduledFuture<?> future = null;
+	private final List<ScheduledFuture<?>> futures = new ArrayList<>();
 
 	/**
-	 * Executor for subscriptions task.
+	 * Executor for flush tasks. Flushes are sequential by design.
 	 */
-	private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(10,
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
 			new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.PGPeriodic-%d").build());
 
+	private final Set<Integer> lastMessageOdooIds = ConcurrentHashMap.newKeySet();
+	private final Map<Integer, Boolean> isConnectedOdooIds = new ConcurrentHashMap<>();
+	private final Map<Integer, Level> sumStateOdooIds = new ConcurrentHashMap<>();
+
 	public PeriodicWriteWorker(PostgresHandler parent) {
 		this.parent = parent;
 	}
 
+	@FunctionalInterface
+	private static interface Flush {
+		int apply(PgEdgeHandler edge) throws SQLException;
+	}
+
+	@FunctionalInterface
+	protected static interface Write<T> {
+		int apply(T entries) throws SQLException;
+	}
+
 	/**
 	 * Starts the {@link PeriodicWriteWorker}.
 	 */
 	public synchronized void start() {
-		this.future = this.executor.scheduleWithFixedDelay(//
-				() -> this.task.accept(this.parent.edge), //
-				PeriodicWriteWorker.UPDATE_INTERVAL_IN_SECONDS, PeriodicWriteWorker.UPDATE_INTERVAL_IN_SECONDS,
-				TimeUnit.SECONDS);
+		var flushes = new LinkedHashMap<String, Flush>();
+		flushes.put("LastMessage", edge -> flush(this.lastMessageOdooIds, edge::updateLastMessage));
+		flushes.put("IsConnected", edge -> flush(this.isConnectedOdooIds, edge::updateOpenemsIsConnected));
+		flushes.put("SumState", edge -> flush(this.sumStateOdooIds, edge::updateSumState));
+
+		final var interval = TimeUnit.SECONDS.toMillis(PeriodicWriteWorker.UPDATE_INTERVAL_IN_SECONDS);
+		var index = 0;
+		for (var entry : flushes.entrySet()) {
+			var initialDelay = interval * ++index / flushes.size();
+			this.futures.add(this.executor.scheduleWithFixedDelay(//
+					() -> this.flush(entry.getKey(), entry.getValue()), //
+					initialDelay, interval, TimeUnit.MILLISECONDS));
+		}
 	}
 
 	/**
 	 * Stops the {@link PeriodicWriteWorker}.
 	 */
 	public synchronized void stop() {
-		// unsubscribe regular task
-		if (this.future != null) {
-			this.future.cancel(true);
+		// unsubscribe regular tasks
+		for (var future : this.futures) {
+			future.cancel(true);
 		}
+		this.futures.clear();
 		// Shutdown executor
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
-	private final LinkedBlockingQueue<Integer> lastMessageOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> isOnlineOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> isOfflineOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateOk = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateInfo = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateWarning = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateFault = new LinkedBlockingQueue<>();
-
-	private final Consumer<PgEdgeHandler> task = edge -> {
-		if (PeriodicWriteWorker.DEBUG_MODE) {
-			this.debugLog();
-		}
-
+	private void flush(String name, Flush flush) {
+		var start = System.nanoTime();
 		try {
-			// Last Message
-			edge.updateLastMessage(drainToSet(this.lastMessageOdooIds));
-
-			// Online/Offline
-			edge.updateOpenemsIsConnected(drainToSet(this.isOfflineOdooIds), false);
-			edge.updateOpenemsIsConnected(drainToSet(this.isOnlineOdooIds), true);
-
-			// Sum-State
-			edge.updateSumState(drainToSet(this.sumStateOk), Level.OK);
-			edge.updateSumState(drainToSet(this.sumStateInfo), Level.INFO);
-			edge.updateSumState(drainToSet(this.sumStateWarning), Level.WARNING);
-			edge.updateSumState(drainToSet(this.sumStateFault), Level.FAULT);
-
+			var rows = flush.apply(this.parent.edge);
+			if (PeriodicWriteWorker.DEBUG_MODE) {
+				this.parent.logInfo(this.log, "PeriodicWriteWorker. " //
+						+ "Flushed [" + name + "] " //
+						+ "Rows [" + rows + "] " //
+						+ "Duration [" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms]");
+			}
 		} catch (SQLException e) {
-			this.log.error("Unable to execute WriteWorker task: " + e.getMessage());
+			this.log.error("Unable to execute WriteWorker task [" + name + "]: " + e.getMessage());
 		}
-	};
+	}
 
 	/**
-	 * Called on {@link Edge.Events#ON_SET_LAST_MESSAGE_TIMESTAMP} event.
+	 * Called on {@link Edge.Events#ON_SET_LASTMESSAGE} event.
 	 *
 	 * @param edge the {@link MyEdge}.
 	 */
@@ -123,12 +139,7 @@ public class PeriodicWriteWorker {
 	 * @param isOnline true if online, false if offline
 	 */
 	public void onSetOnline(MyEdge edge, boolean isOnline) {
-		var odooId = edge.getOdooId();
-		if (isOnline) {
-			this.isOnlineOdooIds.add(odooId);
-		} else {
-			this.isOfflineOdooIds.add(odooId);
-		}
+		this.isConnectedOdooIds.put(edge.getOdooId(), isOnline);
 	}
 
 	/**
@@ -138,48 +149,84 @@ public class PeriodicWriteWorker {
 	 * @param sumState Sum-State {@link Level}
 	 */
 	public void onSetSumState(MyEdge edge, Level sumState) {
-		var odooId = edge.getOdooId();
-		switch (sumState) {
-		case OK:
-			this.sumStateOk.add(odooId);
-			break;
-		case INFO:
-			this.sumStateInfo.add(odooId);
-			break;
-		case WARNING:
-			this.sumStateWarning.add(odooId);
-			break;
-		case FAULT:
-			this.sumStateFault.add(odooId);
-			break;
+		this.sumStateOdooIds.put(edge.getOdooId(), sumState);
+	}
+
+	/**
+	 * Drains a concurrent {@link Set} and writes the entries. On error the entries
+	 * are added back for the next run.
+	 *
+	 * @param pending the concurrent {@link Set}
+	 * @param write   the {@link Write} callback
+	 * @return the number of written rows
+	 * @throws SQLException on error
+	 */
+	protected static int flush(Set<Integer> pending, Write<Set<Integer>> write) throws SQLException {
+		var ids = drain(pending);
+		try {
+			return write.apply(ids);
+		} catch (SQLException | RuntimeException e) {
+			pending.addAll(ids);
+			throw e;
 		}
 	}
 
 	/**
-	 * Moves all entries of a {@link LinkedBlockingQueue} to a Set and clears the
-	 * queue. This is thread-safe.
+	 * Drains a concurrent {@link Map} and writes the entries. On error the entries
+	 * are put back for the next run; values that were set meanwhile are newer and
+	 * are kept.
+	 *
+	 * @param <T>     the type of the values
+	 * @param pending the concurrent {@link Map}
+	 * @param write   the {@link Write} callback
+	 * @return the number of written rows
+	 * @throws SQLException on error
+	 */
+	protected static <T> int flush(Map<Integer, T> pending, Write<Map<Integer, T>> write) throws SQLException {
+		var entries = drain(pending);
+		try {
+			return write.apply(entries);
+		} catch (SQLException | RuntimeException e) {
+			entries.forEach(pending::putIfAbsent);
+			throw e;
+		}
+	}
+
+	/**
+	 * Moves all entries of a concurrent {@link Set} to a new {@link Set}. This is
+	 * thread-safe.
 	 * 
-	 * @param queue the {@link LinkedBlockingQueue}
+	 * @param set the concurrent {@link Set}
 	 * @return the {@link Set}
 	 */
-	protected static Set<Integer> drainToSet(LinkedBlockingQueue<Integer> queue) {
-		Set<Integer> result = new HashSet<>(queue.size());
-		queue.drainTo(result);
+	protected static Set<Integer> drain(Set<Integer> set) {
+		Set<Integer> result = new HashSet<>();
+		for (var id : set) {
+			if (set.remove(id)) {
+				result.add(id);
+			}
+		}
 		return result;
 	}
 
-	/*
-	 * From here required for DEBUG_MODE
+	/**
+	 * Moves all entries of a concurrent {@link Map} to a new {@link Map}. This is
+	 * thread-safe: a value that is replaced concurrently stays in the source
+	 * {@link Map} for the next run.
+	 * 
+	 * @param <T> the type of the values
+	 * @param map the concurrent {@link Map}
+	 * @return the {@link Map}
 	 */
-	private LocalDateTime lastExecute = null;
-
-	private synchronized void debugLog() {
-		var now = LocalDateTime.now();
-		if (this.lastExecute != null) {
-			this.parent.logInfo(this.log, "PeriodicWriteWorker. " //
-					+ "Time since last run: [" + ChronoUnit.SECONDS.between(this.lastExecute, now) + "s]" //
-			);
+	protected static <T> Map<Integer, T> drain(Map<Integer, T> map) {
+		Map<Integer, T> result = new HashMap<>();
+		for (var entry : map.entrySet()) {
+			var id = entry.getKey();
+			var value = entry.getValue();
+			if (map.remove(id, value)) {
+				result.put(id, value);
+			}
 		}
-		this.lastExecute = now;
+		return result;
 	}
 }
@@ -5,8 +5,8 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -23,7 +23,13 @@ import io.openems.common.utils.JsonUtils;
 
 public final class PgEdgeHandler {
 
+	/**
+	 * Max number of distinct parsed {@link EdgeConfig}s in the cache.
+	 */
+	private static final int EDGE_CONFIG_CACHE_SIZE = 500;
+
 	private final HikariDataSource dataSource;
+	private final EdgeConfigCache edgeConfigCache = new EdgeConfigCache(EDGE_CONFIG_CACHE_SIZE);
 
 	protected PgEdgeHandler(HikariDataSource dataSource) {
 		this.dataSource = dataSource;
@@ -32,12 +38,21 @@ public final class PgEdgeHandler {
 	/**
 	 * Gets the {@link EdgeConfig} for an Edge-ID.
 	 * 
+	 * <p>
+	 * The {@link EdgeConfig} is served from the {@link EdgeConfigCache} if
+	 * possible.
+	 * 
 	 * @param edgeId the Edge-ID
 	 * @return the {@link EdgeConfig}
 	 * @throws OpenemsNamedException on error
 	 * @throws SQLException          on error
 	 */
 	public EdgeConfig getEdgeConfig(String edgeId) throws SQLException, OpenemsNamedException {
+		var config = this.edgeConfigCache.get(edgeId);
+		if (config != null) {
+			return config;
+		}
+
 		try (var con = this.dataSource.getConnection(); //
 				var pst = con.prepareStatement(new StringBuilder() //
 						.append("SELECT ").append(EdgeDevice.OPENEMS_CONFIG.id()) //
@@ -52,8 +67,15 @@ public final class PgEdgeHandler {
 					if (string == null) {
 						throw new OpenemsException("EdgeConfig for [" + edgeId + "] is null in the Database");
 					}
-					return EdgeConfig.fromJson(//
-							JsonUtils.parseToJsonObject(string));
+					// Edges with identical configuration share one parsed EdgeConfig
+					var hash = EdgeConfigCache.hash(string);
+					config = this.edgeConfigCache.getByHash(hash);
+					if (config == null) {
+						config = EdgeConfig.fromJson(//
+								JsonUtils.parseToJsonObject(string));
+					}
+					this.edgeConfigCache.put(edgeId, hash, config);
+					return config;
 				}
 			}
 		}
@@ -63,12 +85,26 @@ public final class PgEdgeHandler {
 	/**
 	 * Updates the {@link EdgeConfig} for an Edge-ID.
 	 * 
+	 * <p>
+	 * The update is skipped if the content hash equals the hash of the stored
+	 * {@link EdgeConfig}.
+	 * 
 	 * @param odooId     the Odoo-ID
+	 * @param edgeId     the Edge-ID
 	 * @param edgeConfig the {@link EdgeConfig}
+	 * @return true if the {@link EdgeConfig} was updated; false if it was
+	 *         unchanged
 	 * @throws OpenemsNamedException on error
 	 * @throws SQLException          on error
 	 */
-	public void updateEdgeConfig(int odooId, EdgeConfig edgeConfig) throws SQLException, OpenemsNamedException {
+	public boolean updateEdgeConfig(int odooId, String edgeId, EdgeConfig edgeConfig)
+			throws SQLException, OpenemsNamedException {
+		var string = JsonUtils.prettyToString(edgeConfig.toJson());
+		var hash = EdgeConfigCache.hash(string);
+		if (hash.equals(this.edgeConfigCache.getHash(edgeId))) {
+			return false;
+		}
+
 		try (var con = this.dataSource.getConnection(); //
 				var pst = con.prepareStatement(new StringBuilder() //
 						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
@@ -77,11 +113,13 @@ public final class PgEdgeHandler {
 						.append(EdgeDevice.OPENEMS_CONFIG_COMPONENTS.id()).append(" = ?") //
 						.append(" WHERE id = ?") //
 						.toString())) {
-			pst.setString(1, JsonUtils.prettyToString(edgeConfig.toJson()));
+			pst.setString(1, string);
 			pst.setString(2, JsonUtils.prettyToString(edgeConfig.componentsToJson(JsonFormat.WITHOUT_CHANNELS)));
 			pst.setInt(3, odooId);
 			pst.execute();
 		}
+		this.edgeConfigCache.put(edgeId, hash, edgeConfig);
+		return true;
 	}
 
 	/**
@@ -133,83 +171,78 @@ public final class PgEdgeHandler {
 	}
 
 	/**
-	 * Updates the OpenemsIsConnected field for multiple Edge-IDs.
+	 * Updates the OpenemsIsConnected field for multiple Edge-IDs in one
+	 * statement.
 	 * 
-	 * @param odooIds     the Odoo-IDs
-	 * @param isConnected true if online; false if offline
+	 * @param odooIds the Odoo-IDs with their is-connected state
+	 * @return the number of updated rows
 	 * @throws SQLException on error
 	 */
-	public void updateOpenemsIsConnected(Set<Integer> odooIds, boolean isConnected) throws SQLException {
+	public int updateOpenemsIsConnected(Map<Integer, Boolean> odooIds) throws SQLException {
 		if (odooIds.isEmpty()) {
-			return;
+			return 0;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = ")
-					.append(isConnected ? "TRUE" : "FALSE") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
+						.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = v.value") //
+						.append(" FROM unnest(?::int[], ?::boolean[]) AS v(id, value)") //
+						.append(" WHERE ").append(EdgeDevice.ODOO_TABLE).append(".id = v.id") //
+						.toString())) {
+			pst.setArray(1, con.createArrayOf("integer", odooIds.keySet().toArray(new Integer[odooIds.size()])));
+			pst.setArray(2, con.createArrayOf("boolean", odooIds.values().toArray(new Boolean[odooIds.size()])));
+			return pst.executeUpdate();
 		}
 	}
 
 	/**
-	 * Updates the LastMessage field for multiple Edge-IDs.
+	 * Updates the LastMessage field for multiple Edge-IDs in one statement.
 	 * 
 	 * @param odooIds the Odoo-IDs
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * @return the number of updated rows
+	 * @throws SQLException on error
 	 */
-	public void updateLastMessage(Set<Integer> odooIds) throws SQLException {
+	public int updateLastMessage(Set<Integer> odooIds) throws SQLException {
 		if (odooIds.isEmpty()) {
-			return;
+			return 0;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
+						.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
+						.append(" WHERE id = ANY(?::int[])") //
+						.toString())) {
+			pst.setArray(1, con.createArrayOf("integer", odooIds.toArray(new Integer[odooIds.size()])));
+			return pst.executeUpdate();
 		}
 	}
 
 	/**
-	 * Updates the Sum-State field for multiple Edge-IDs.
+	 * Updates the Sum-State field for multiple Edge-IDs in one statement.
 	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @param level   the Sum-State {@link Level}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * @param odooIds the Odoo-IDs with their Sum-State {@link Level}
+	 * @return the number of updated rows
+	 * @throws SQLException on error
 	 */
-	public void updateSumState(Set<Integer> odooIds, Level level) throws SQLException {
+	public int updateSumState(Map<Integer, Level> odooIds) throws SQLException {
 		if (odooIds.isEmpty()) {
-			return;
+			return 0;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = '")
-					.append(level.getName().toLowerCase()) //
-					.append("' WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
+						.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = v.value") //
+						.append(" FROM unnest(?::int[], ?::text[]) AS v(id, value)") //
+						.append(" WHERE ").append(EdgeDevice.ODOO_TABLE).append(".id = v.id") //
+						.toString())) {
+			pst.setArray(1, con.createArrayOf("integer", odooIds.keySet().toArray(new Integer[odooIds.size()])));
+			pst.setArray(2, con.createArrayOf("text", odooIds.values().stream() //
+					.map(level -> level.getName().toLowerCase()) //
+					.toArray(String[]::new)));
+			return pst.executeUpdate();
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package io.openems.backend.metadata.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.session.Language;
+import io.openems.common.session.Role;
+
+public class SessionCacheTest {
+
+	private static MyUser createUser(String login) {
+		return new MyUser(1, login, "Name", "session", Language.DEFAULT, Role.OWNER, new TreeMap<>());
+	}
+
+	@Test
+	public void testTtlAndInvalidate() throws Exception {
+		var clock = new AtomicLong(0);
+		var sut = new SessionCache(Duration.ofMinutes(5), clock::get);
+		var calls = new AtomicInteger();
+		var user = createUser("user0");
+
+		assertSame(user, sut.get("session", s -> {
+			calls.incrementAndGet();
+			return user;
+		}));
+		sut.get("session", s -> {
+			calls.incrementAndGet();
+			return user;
+		});
+		assertEquals(1, calls.get());
+
+		// Expired
+		clock.addAndGet(Duration.ofMinutes(5).toNanos());
+		sut.get("session", s -> {
+			calls.incrementAndGet();
+			return user;
+		});
+		assertEquals(2, calls.get());
+
+		// Invalidated
+		sut.invalidateUser("user0");
+		sut.get("session", s -> {
+			calls.incrementAndGet();
+			return user;
+		});
+		assertEquals(3, calls.get());
+
+		// Errors are not cached
+		sut.invalidate("session");
+		assertThrows(OpenemsException.class, () -> sut.get("session", s -> {
+			throw new OpenemsException("Session expired");
+		}));
+		sut.get("session", s -> {
+			calls.incrementAndGet();
+			return user;
+		});
+		assertEquals(4, calls.get());
+	}
+
+	@Test
+	public void testSweep() throws Exception {
+		var clock = new AtomicLong(0);
+		var sut = new SessionCache(Duration.ofMinutes(5), clock::get);
+		var user = createUser("user0");
+
+		sut.get("a", s -> user);
+		clock.addAndGet(Duration.ofMinutes(1).toNanos());
+		sut.get("b", s -> user);
+		assertEquals(2, sut.size());
+
+		// First sweep after one time-to-live removes 'a'
+		clock.addAndGet(Duration.ofMinutes(4).toNanos());
+		sut.get("c", s -> user);
+		assertEquals(2, sut.size());
+
+		// 'b' expired, but no sweep within the interval
+		clock.addAndGet(Duration.ofMinutes(2).toNanos());
+		sut.get("d", s -> user);
+		assertEquals(3, sut.size());
+
+		// Next sweep removes 'b' and 'c'
+		clock.addAndGet(Duration.ofMinutes(3).toNanos());
+		sut.get("e", s -> user);
+		assertEquals(2, sut.size());
+	}
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		var sut = new SessionCache(Duration.ofMinutes(5));
+		var calls = new AtomicInteger();
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var user = createUser("user0");
+
+		var executor = Executors.newFixedThreadPool(4);
+		var futures = new ArrayList<Future<MyUser>>();
+		futures.add(executor.submit(() -> sut.get("session", s -> {
+			calls.incrementAndGet();
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new OpenemsException(e.getMessage());
+			}
+			return user;
+		})));
+		started.await();
+		for (var i = 0; i < 3; i++) {
+			futures.add(executor.submit(() -> sut.get("session", s -> {
+				calls.incrementAndGet();
+				return createUser("other");
+			})));
+		}
+		Thread.sleep(50);
+		release.countDown();
+
+		for (var future : futures) {
+			assertSame(user, future.get(1, TimeUnit.SECONDS));
+		}
+		assertEquals(1, calls.get());
+		executor.shutdown();
+	}
+
+}
@@ -0,0 +1,42 @@
+package io.openems.backend.metadata.odoo.postgres;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import io.openems.common.types.EdgeConfig;
+
+public class EdgeConfigCacheTest {
+
+	@Test
+	public void test() {
+		var sut = new EdgeConfigCache(2);
+		var hash1 = EdgeConfigCache.hash("{\"components\":{}}");
+		var hash2 = EdgeConfigCache.hash("{\"components\":{\"ess0\":{}}}");
+		var hash3 = EdgeConfigCache.hash("{\"components\":{\"meter0\":{}}}");
+		assertEquals(hash1, EdgeConfigCache.hash("{\"components\":{}}"));
+		assertNotEquals(hash1, hash2);
+
+		var config1 = EdgeConfig.empty();
+		sut.put("edge0", hash1, config1);
+		sut.put("edge1", hash1, EdgeConfig.empty());
+
+		// Identical configurations share one instance
+		assertSame(config1, sut.get("edge0"));
+		assertSame(config1, sut.get("edge1"));
+		assertEquals(hash1, sut.getHash("edge1"));
+		assertNull(sut.get("edge2"));
+
+		// Least recently used is evicted; the hash is kept
+		sut.put("edge2", hash2, EdgeConfig.empty());
+		sut.get("edge0");
+		sut.put("edge3", hash3, EdgeConfig.empty());
+		assertSame(config1, sut.get("edge0"));
+		assertNull(sut.get("edge2"));
+		assertEquals(hash2, sut.getHash("edge2"));
+	}
+
+}
@@ -1,24 +1,77 @@
 package io.openems.backend.metadata.odoo.postgres;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Test;
 
+import io.openems.common.channel.Level;
+
 public class PeriodicWriteWorkerTest {
 
 	@Test
-	public void testDrainToSet() {
-		final LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
-		queue.add(1);
-		queue.add(2);
-		queue.add(3);
-		queue.add(2);
-		queue.add(4);
-		var set = PeriodicWriteWorker.drainToSet(queue);
-		assertEquals(4, set.size());
-		assertEquals(0, queue.size());
+	public void testDrainSet() {
+		final var set = ConcurrentHashMap.<Integer>newKeySet();
+		set.add(1);
+		set.add(2);
+		set.add(3);
+		set.add(2);
+		set.add(4);
+		var result = PeriodicWriteWorker.drain(set);
+		assertEquals(4, result.size());
+		assertEquals(0, set.size());
+	}
+
+	@Test
+	public void testDrainMap() {
+		final var map = new ConcurrentHashMap<Integer, Level>();
+		map.put(1, Level.OK);
+		map.put(2, Level.WARNING);
+		map.put(1, Level.FAULT);
+		var result = PeriodicWriteWorker.drain(map);
+		assertEquals(2, result.size());
+		assertEquals(Level.FAULT, result.get(1));
+		assertEquals(Level.WARNING, result.get(2));
+		assertEquals(0, map.size());
+	}
+
+
+	@Test
+	public void testFlushFailure() throws SQLException {
+		final var set = ConcurrentHashMap.<Integer>newKeySet();
+		set.addAll(Set.of(1, 2));
+		try {
+			PeriodicWriteWorker.flush(set, ids -> {
+				set.add(3);
+				throw new SQLException("Connection refused");
+			});
+		} catch (SQLException e) {
+			// expected
+		}
+		assertEquals(Set.of(1, 2, 3), set);
+
+		final var map = new ConcurrentHashMap<Integer, Level>();
+		map.put(1, Level.OK);
+		map.put(2, Level.WARNING);
+		try {
+			PeriodicWriteWorker.flush(map, entries -> {
+				// Newer value arrives while writing
+				map.put(2, Level.FAULT);
+				throw new SQLException("Connection refused");
+			});
+		} catch (SQLException e) {
+			// expected
+		}
+		assertEquals(Level.OK, map.get(1));
+		assertEquals(Level.FAULT, map.get(2));
+
+		// Successful flush drains the entries
+		assertEquals(2, PeriodicWriteWorker.flush(map, entries -> entries.size()));
+		assertTrue(map.isEmpty());
 	}
 
 }
@@ -0,0 +1,64 @@
+package io.openems.common.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.OpenemsConstants;
+
+/**
+ * Provides static helper functions for files, e.g. caches in the OpenEMS Data
+ * Directory.
+ */
+public class FileUtils {
+
+	private FileUtils() {
+	}
+
+	/**
+	 * Gets the path of a JSON file in a sub-directory of the OpenEMS Data
+	 * Directory.
+	 *
+	 * <p>
+	 * Characters of the name that are not safe in a file name are replaced by
+	 * '_'.
+	 *
+	 * @param directory the sub-directory, e.g. "sunspec"
+	 * @param name      the name of the file without extension, e.g. a
+	 *                  Component-ID
+	 * @return the {@link Path}; null if no OpenEMS Data Directory is configured
+	 *         or name is null
+	 */
+	public static Path getJsonFileInDataDir(String directory, String name) {
+		var dataDir = OpenemsConstants.getOpenemsDataDir();
+		if (dataDir.isEmpty() || name == null) {
+			return null;
+		}
+		return Paths.get(dataDir, directory, name.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+	}
+
+	/**
+	 * Writes a {@link JsonElement} to a file.
+	 *
+	 * <p>
+	 * The JSON is written to a temporary file first, which then replaces the file
+	 * atomically. Like this a crash never leaves a partially written file.
+	 * Missing parent directories are created.
+	 *
+	 * @param file the {@link Path} of the file
+	 * @param json the {@link JsonElement}
+	 * @throws IOException on write error
+	 */
+	public static void writeJsonAtomically(Path file, JsonElement json) throws IOException {
+		Files.createDirectories(file.getParent());
+		var tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+		Files.writeString(tmpFile, json.toString(), StandardCharsets.UTF_8);
+		Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+}
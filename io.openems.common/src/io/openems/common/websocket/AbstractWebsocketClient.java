@@ -136,6 +136,10 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 
 				this.logInfo(
 						"Websocket [" + serverUri.toString() + "] closed. Code [" + code + "] Reason [" + reason + "]");
+				if (code == CloseFrame.TRY_AGAIN_LATER) {
+					WebsocketUtils.parseRetryAfter(reason) //
+							.ifPresent(AbstractWebsocketClient.this.reconnectorWorker::setRetryAfter);
+				}
 				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
 			}
 		};
@@ -11,6 +11,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -29,6 +30,7 @@ import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.utils.JsonrpcUtils;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
@@ -54,6 +56,20 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	private final ThreadPoolExecutor executor;
 
+	/**
+	 * Separate {@link ExecutorService} for {@link TimestampedDataNotification}s.
+	 * They are handled quickly and must not wait for slow JSON-RPC Requests - like
+	 * queries of historic data - that block the shared {@link #executor}.
+	 */
+	private final ThreadPoolExecutor notificationExecutor;
+
+	/**
+	 * Limits the JSON-RPC Requests per connection that are handled concurrently
+	 * by the shared {@link #executor}.
+	 */
+	private final ConcurrentHashMap<WebSocket, ConnectionTaskLimiter> requestLimiters = new ConcurrentHashMap<>();
+	private final int maxRequestsPerConnection;
+
 	/*
 	 * This Executor is used if Debug-Mode is activated.
 	 */
@@ -62,6 +78,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	private static final Function<String, AtomicInteger> ATOMIC_INTEGER_PROVIDER = (key) -> {
 		return new AtomicInteger(0);
 	};
+	private final WaitTimeStatistics waitTimes = new WaitTimeStatistics();
+	private final WaitTimeStatistics notificationWaitTimes = new WaitTimeStatistics();
 
 	private final Logger log = LoggerFactory.getLogger(AbstractWebsocketServer.class);
 	private final int port;
@@ -74,7 +92,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 *
 	 * @param name          to identify this server
 	 * @param port          to listen on
-	 * @param poolSize      number of threads dedicated to handle the tasks
+	 * @param poolSize      number of threads dedicated to handle the tasks. One
+	 *                      connection handles at most half of them concurrently
 	 * @param debugMode     activate a regular debug log about the state of the
 	 *                      tasks
 	 * @param debugCallback additional callback on regular debug log
@@ -84,6 +103,10 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		super(name);
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
 				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		this.notificationExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(
+				Math.max(1, Math.min(poolSize, Runtime.getRuntime().availableProcessors())),
+				new ThreadFactoryBuilder().setNameFormat(name + "-TimestampedData-%d").build());
+		this.maxRequestsPerConnection = Math.max(1, poolSize / 2);
 
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
@@ -132,8 +155,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 					}
 
 					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
+						AbstractWebsocketServer.this.executeRequest(ws, new OnRequestHandler(
+								AbstractWebsocketServer.this, ws, (JsonrpcRequest) message, response -> {
 									AbstractWebsocketServer.this.sendMessage(ws, response);
 								}));
 
@@ -142,8 +165,13 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
 
 					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+						var handler = new OnNotificationHandler(AbstractWebsocketServer.this, ws,
+								(JsonrpcNotification) message);
+						if (TimestampedDataNotification.METHOD.equals(((JsonrpcNotification) message).getMethod())) {
+							AbstractWebsocketServer.this.executeNotification(handler);
+						} else {
+							AbstractWebsocketServer.this.execute(handler);
+						}
 					}
 
 				} catch (Throwable t) {
@@ -168,6 +196,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			@Override
 			public void onClose(WebSocket ws, int code, String reason, boolean remote) {
 				try {
+					AbstractWebsocketServer.this.requestLimiters.remove(ws);
 					AbstractWebsocketServer.this
 							.execute(new OnCloseHandler(AbstractWebsocketServer.this, ws, code, reason, remote));
 
@@ -221,7 +250,11 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			this.debugLogExecutor.scheduleWithFixedDelay(() -> {
 				var b = new StringBuilder("[monitor] ") //
 						.append("Connections: ").append(this.ws.getConnections().size()).append(", ") //
-						.append(ThreadPoolUtils.debugLog(this.executor)); //
+						.append(ThreadPoolUtils.debugLog(this.executor)).append(", ") //
+						.append(this.waitTimes.getAndReset()).append(", ") //
+						.append("Queued Requests: ").append(this.getQueuedRequests()).append(", ") //
+						.append("TimestampedData: ").append(ThreadPoolUtils.debugLog(this.notificationExecutor)) //
+						.append(", ").append(this.notificationWaitTimes.getAndReset()); //
 				if (this.debugMode.isAtLeast(DebugMode.DETAILED) && this.executor.getActiveCount() > 0) {
 					b.append(", Tasks: ");
 					this.activeTasks.forEach((id, count) -> {
@@ -321,9 +354,51 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	@Override
 	protected void execute(Runnable command) {
+		this.execute(this.executor, this.waitTimes, command);
+	}
+
+	/**
+	 * Execute a {@link Runnable} that handles a JSON-RPC Request using the shared
+	 * {@link ExecutorService}. Requests of one connection above
+	 * {@link #maxRequestsPerConnection} are queued till a previous Request of the
+	 * same connection finished.
+	 *
+	 * @param ws      the {@link WebSocket} connection
+	 * @param command the {@link Runnable}
+	 */
+	protected void executeRequest(WebSocket ws, Runnable command) {
+		// Identify the original command; the limiter wraps it
+		final var id = AbstractWebsocketServer.getRunnableIdentifier(command);
+		this.requestLimiters //
+				.computeIfAbsent(ws, key -> new ConnectionTaskLimiter(this.maxRequestsPerConnection)) //
+				.execute(command, task -> this.execute(this.executor, this.waitTimes, id, task));
+	}
+
+	/**
+	 * Execute a {@link Runnable} that handles a {@link TimestampedDataNotification}
+	 * using the separate {@link ExecutorService}.
+	 *
+	 * @param command the {@link Runnable}
+	 */
+	protected void executeNotification(Runnable command) {
+		this.execute(this.notificationExecutor, this.notificationWaitTimes, command);
+	}
+
+	private int getQueuedRequests() {
+		return this.requestLimiters.values().stream() //
+				.mapToInt(ConnectionTaskLimiter::getPending) //
+				.sum();
+	}
+
+	private void execute(ThreadPoolExecutor executor, WaitTimeStatistics waitTimes, Runnable command) {
+		this.execute(executor, waitTimes, AbstractWebsocketServer.getRunnableIdentifier(command), command);
+	}
+
+	private void execute(ThreadPoolExecutor executor, WaitTimeStatistics waitTimes, String id, Runnable command) {
 		if (this.debugMode.isAtLeast(DebugMode.DETAILED)) {
-			this.executor.execute(() -> {
-				String id = AbstractWebsocketServer.getRunnableIdentifier(command);
+			final var submitted = System.nanoTime();
+			executor.execute(() -> {
+				waitTimes.add(System.nanoTime() - submitted);
 				try {
 					this.activeTasks.computeIfAbsent(id, ATOMIC_INTEGER_PROVIDER).incrementAndGet();
 					command.run();
@@ -333,8 +408,14 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 					this.activeTasks.get(id).decrementAndGet();
 				}
 			});
+		} else if (this.debugMode.isAtLeast(DebugMode.SIMPLE)) {
+			final var submitted = System.nanoTime();
+			executor.execute(() -> {
+				waitTimes.add(System.nanoTime() - submitted);
+				command.run();
+			});
 		} else {
-			this.executor.execute(command);
+			executor.execute(command);
 		}
 	}
 
@@ -352,6 +433,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	public void stop() {
 		// Shutdown executors
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.notificationExecutor, 5);
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 5);
 
 		var tries = 3;
@@ -387,4 +469,41 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		throw new OpenemsException("Unhandled Non-JSON-RPC message", e);
 	}
 
+	/**
+	 * Collects the time tasks had to wait in the queue of an
+	 * {@link ExecutorService} before they were executed.
+	 */
+	private static class WaitTimeStatistics {
+
+		private final AtomicLong count = new AtomicLong(0);
+		private final AtomicLong sum = new AtomicLong(0);
+		private final AtomicLong max = new AtomicLong(0);
+
+		/**
+		 * Adds a wait time.
+		 *
+		 * @param nanos the wait time in nanoseconds
+		 */
+		protected void add(long nanos) {
+			this.count.incrementAndGet();
+			this.sum.addAndGet(nanos);
+			this.max.accumulateAndGet(nanos, Math::max);
+		}
+
+		/**
+		 * Gets a debug log output and resets the statistics.
+		 *
+		 * @return the debug log output
+		 */
+		protected String getAndReset() {
+			var count = this.count.getAndSet(0);
+			var sum = this.sum.getAndSet(0);
+			var max = this.max.getAndSet(0);
+			return new StringBuilder("Wait: ") //
+					.append(count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(sum / count)).append("ms avg/") //
+					.append(TimeUnit.NANOSECONDS.toMillis(max)).append("ms max") //
+					.toString();
+		}
+	}
+
 }
@@ -6,6 +6,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocketImpl;
@@ -23,6 +24,7 @@ public class ClientReconnectorWorker extends AbstractWorker {
 	private static final int CONNECT_TIMEOUT_SECONDS = 100;
 	private static final int MAX_WAIT_SECONDS = 100;
 	private static final int MIN_WAIT_SECONDS = 10;
+	private static final int CYCLE_TIME = 2 * 60 * 1000; /* 2 minutes */
 
 	private static final long MIN_WAIT_SECONDS_BETWEEN_RETRIES = new Random()
 			.nextInt(ClientReconnectorWorker.MAX_WAIT_SECONDS) + ClientReconnectorWorker.MIN_WAIT_SECONDS;
@@ -30,6 +32,7 @@ public class ClientReconnectorWorker extends AbstractWorker {
 	private final Logger log = LoggerFactory.getLogger(ClientReconnectorWorker.class);
 	private final AbstractWebsocketClient<?> parent;
 	private Instant lastTry = Instant.MIN;
+	private volatile Instant notBefore = Instant.MIN;
 
 	public ClientReconnectorWorker(AbstractWebsocketClient<?> parent) {
 		this.parent = parent;
@@ -43,8 +46,16 @@ public class ClientReconnectorWorker extends AbstractWorker {
 		}
 
 		var start = Instant.now();
+		var notBefore = this.notBefore;
+		if (start.isBefore(notBefore)) {
+			this.parent.logInfo(this.log, "Waiting till next WebSocket reconnect as requested by server ["
+					+ Duration.between(start, notBefore).getSeconds() + "s]");
+			return;
+		}
+		// A hint of the server since the last try replaces the random wait
 		var waitedSeconds = Duration.between(this.lastTry, start).getSeconds();
-		if (waitedSeconds < ClientReconnectorWorker.MIN_WAIT_SECONDS_BETWEEN_RETRIES) {
+		if (!notBefore.isAfter(this.lastTry)
+				&& waitedSeconds < ClientReconnectorWorker.MIN_WAIT_SECONDS_BETWEEN_RETRIES) {
 			this.parent.logInfo(this.log, "Waiting till next WebSocket reconnect ["
 					+ (ClientReconnectorWorker.MIN_WAIT_SECONDS_BETWEEN_RETRIES - waitedSeconds) + "s]");
 			return;
@@ -73,6 +84,23 @@ public class ClientReconnectorWorker extends AbstractWorker {
 		this.lastTry = end;
 	}
 
+	/**
+	 * Delays the next reconnect as requested by the server via a Retry-After
+	 * hint. A random jitter of up to a quarter of the delay is added, so that
+	 * clients that were rejected at the same time do not return at the same
+	 * time.
+	 *
+	 * <p>
+	 * The reconnect is started when the delay is over, not at the next regular
+	 * cycle; see {@link #getCycleTime()}.
+	 *
+	 * @param seconds the requested delay in seconds
+	 */
+	public void setRetryAfter(long seconds) {
+		var jitter = ThreadLocalRandom.current().nextLong(seconds / 4 + 1);
+		this.notBefore = Instant.now().plusSeconds(seconds + jitter);
+	}
+
 	/**
 	 * This method is a copy of {@link WebSocketClient} reset()-method, because the
 	 * original one may block at the call of 'closeBlocking()' method.
@@ -160,7 +188,13 @@ public class ClientReconnectorWorker extends AbstractWorker {
 
 	@Override
 	protected int getCycleTime() {
-		return 2 * 60 * 1000; /* 2 minutes */
+		// Wake up exactly when a Retry-After hint of the server is over
+		var now = Instant.now();
+		var notBefore = this.notBefore;
+		if (now.isBefore(notBefore)) {
+			return (int) Math.min(CYCLE_TIME, Duration.between(now, notBefore).toMillis() + 1);
+		}
+		return CYCLE_TIME;
 	}
 
 }
@@ -0,0 +1,116 @@
+package io.openems.common.websocket;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Limits the number of tasks of one websocket connection that are handled
+ * concurrently by a shared executor.
+ *
+ * <p>
+ * Tasks above the limit are queued per connection and passed on to the
+ * executor once a running task of the same connection finished. Like this a
+ * single connection - e.g. a user running a heavy history export - can never
+ * occupy all threads of the shared pool.
+ */
+public class ConnectionTaskLimiter {
+
+	private final int limit;
+	private final Deque<Runnable> pending = new ArrayDeque<>();
+	private int running = 0;
+
+	public ConnectionTaskLimiter(int limit) {
+		this.limit = Math.max(1, limit);
+	}
+
+	/**
+	 * Executes a task via the given executor; or queues it if the limit of
+	 * concurrently running tasks is reached.
+	 *
+	 * <p>
+	 * If the executor rejects the task, the slot is given back and the exception
+	 * is rethrown.
+	 *
+	 * @param task     the task
+	 * @param executor the executor, e.g. 'ExecutorService::execute'
+	 * @throws RuntimeException if the executor rejects the task
+	 */
+	public void execute(Runnable task, Consumer<Runnable> executor) {
+		synchronized (this) {
+			if (this.running >= this.limit) {
+				// Queue the task together with its executor
+				this.pending.add(() -> executor.accept(this.wrap(task)));
+				return;
+			}
+			this.running++;
+		}
+		try {
+			executor.accept(this.wrap(task));
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				this.running--;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Gets the number of running tasks.
+	 *
+	 * @return the number of tasks
+	 */
+	public synchronized int getRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Gets the number of queued tasks.
+	 *
+	 * @return the number of tasks
+	 */
+	public synchronized int getPending() {
+		return this.pending.size();
+	}
+
+	private Runnable wrap(Runnable task) {
+		return () -> {
+			try {
+				task.run();
+			} finally {
+				this.executeNext();
+			}
+		};
+	}
+
+	/**
+	 * Passes the next queued task on to the executor; or gives back the slot if
+	 * there is none.
+	 *
+	 * <p>
+	 * If the executor rejects the task, the slot is given back and the task stays
+	 * first in the queue. It is passed on once the next task of this connection
+	 * finished.
+	 */
+	private void executeNext() {
+		Runnable next;
+		synchronized (this) {
+			next = this.pending.poll();
+			if (next == null) {
+				this.running--;
+				return;
+			}
+		}
+		try {
+			// Keep the slot for the next task of this connection
+			next.run();
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				this.running--;
+				this.pending.addFirst(next);
+			}
+			throw e;
+		}
+	}
+
+}
@@ -1,5 +1,8 @@
 package io.openems.common.websocket;
 
+import java.util.OptionalLong;
+import java.util.regex.Pattern;
+
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.Handshakedata;
 
@@ -7,6 +10,8 @@ import com.google.gson.JsonObject;
 
 public class WebsocketUtils {
 
+	private static final Pattern RETRY_AFTER_PATTERN = Pattern.compile("Retry-After \\[(\\d+)s\\]");
+
 	/**
 	 * Converts a Handshake to a JsonObject.
 	 *
@@ -40,4 +45,36 @@ public class WebsocketUtils {
 		return wsData.toString();
 	}
 
+	/**
+	 * Formats a Retry-After hint, that is appended to the reason of a
+	 * {@link org.java_websocket.framing.CloseFrame#TRY_AGAIN_LATER} close frame.
+	 *
+	 * @param seconds the number of seconds after which the client should retry
+	 * @return the hint
+	 */
+	public static String formatRetryAfter(long seconds) {
+		return "Retry-After [" + seconds + "s]";
+	}
+
+	/**
+	 * Parses a Retry-After hint from the reason of a close frame.
+	 *
+	 * @param reason the close reason; possibly null
+	 * @return the number of seconds; empty if there is no hint
+	 */
+	public static OptionalLong parseRetryAfter(String reason) {
+		if (reason == null) {
+			return OptionalLong.empty();
+		}
+		var matcher = RETRY_AFTER_PATTERN.matcher(reason);
+		if (!matcher.find()) {
+			return OptionalLong.empty();
+		}
+		try {
+			return OptionalLong.of(Long.parseLong(matcher.group(1)));
+		} catch (NumberFormatException e) {
+			return OptionalLong.empty();
+		}
+	}
+
 }
@@ -0,0 +1,53 @@
+package io.openems.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+public class FileUtilsTest {
+
+	@Test
+	public void testGetJsonFileInDataDir() {
+		var previous = System.getProperty("openems.data.dir");
+		try {
+			System.clearProperty("openems.data.dir");
+			assertNull(FileUtils.getJsonFileInDataDir("sunspec", "meter0"));
+
+			System.setProperty("openems.data.dir", "/var/lib/openems");
+			assertEquals(Paths.get("/var/lib/openems", "sunspec", "SMA_Meter_1.0.json"),
+					FileUtils.getJsonFileInDataDir("sunspec", "SMA|Meter 1.0"));
+			assertNull(FileUtils.getJsonFileInDataDir("sunspec", null));
+
+		} finally {
+			if (previous == null) {
+				System.clearProperty("openems.data.dir");
+			} else {
+				System.setProperty("openems.data.dir", previous);
+			}
+		}
+	}
+
+	@Test
+	public void testWriteJsonAtomically() throws Exception {
+		var file = Files.createTempDirectory("openems").resolve("cache").resolve("test.json");
+
+		FileUtils.writeJsonAtomically(file, JsonUtils.buildJsonObject() //
+				.addProperty("value", 1) //
+				.build());
+		assertEquals("{\"value\":1}", Files.readString(file, StandardCharsets.UTF_8));
+
+		// Replaces an existing file; no temporary file is left
+		FileUtils.writeJsonAtomically(file, JsonUtils.buildJsonObject() //
+				.addProperty("value", 2) //
+				.build());
+		assertEquals("{\"value\":2}", Files.readString(file, StandardCharsets.UTF_8));
+		assertFalse(Files.exists(file.resolveSibling("test.json.tmp")));
+	}
+
+}
@@ -1,6 +1,11 @@
 package io.openems.common.websocket;
 
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 
 import org.junit.Ignore;
 import org.junit.Test;
@@ -19,6 +24,8 @@ public class ClientReconnectorWorkerTest {
 
 	private static class MyWebsocketClient extends AbstractWebsocketClient<MyWsData> {
 
+		private volatile Instant connecting = null;
+
 		public MyWebsocketClient(String name, URI serverUri) {
 			super(name, serverUri);
 		}
@@ -66,8 +73,9 @@ public class ClientReconnectorWorkerTest {
 
 		@Override
 		protected void logInfo(Logger log, String message) {
-			// TODO Auto-generated method stub
-
+			if (this.connecting == null && message.startsWith("Connecting WebSocket")) {
+				this.connecting = Instant.now();
+			}
 		}
 
 		@Override
@@ -84,6 +92,29 @@ public class ClientReconnectorWorkerTest {
 
 	}
 
+	@Test
+	public void testRetryAfter() throws Exception {
+		// Nobody listens on this port
+		var client = new MyWebsocketClient("name", URI.create("ws://localhost:1"));
+		var sut = new ClientReconnectorWorker(client);
+		var start = Instant.now();
+		sut.setRetryAfter(2); // plus up to 0.5 s jitter
+		try {
+			sut.activate("ClientReconnectorWorkerTest");
+			for (var i = 0; i < 100 && client.connecting == null; i++) {
+				Thread.sleep(50);
+			}
+
+			// Reconnects when the hint is over, not at the next 2-minute cycle
+			assertNotNull(client.connecting);
+			var waited = Duration.between(start, client.connecting).toMillis();
+			assertTrue("Waited [" + waited + "ms]", waited >= 2000 && waited < 3500);
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
 	@Ignore
 	@Test
 	public void testResetWebSocketClient() throws Exception {
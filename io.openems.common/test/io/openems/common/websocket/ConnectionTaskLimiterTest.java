@@ -0,0 +1,148 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+public class ConnectionTaskLimiterTest {
+
+	@Test
+	public void testQueueing() {
+		final var executor = new ArrayDeque<Runnable>();
+		final List<Integer> done = new ArrayList<>();
+		final var sut = new ConnectionTaskLimiter(2);
+
+		for (var i = 0; i < 5; i++) {
+			final var task = i;
+			sut.execute(() -> done.add(task), executor::add);
+		}
+		// Only two tasks are passed to the executor
+		assertEquals(2, executor.size());
+		assertEquals(2, sut.getRunning());
+		assertEquals(3, sut.getPending());
+
+		// A finished task passes on the next task of the connection
+		executor.poll().run();
+		assertEquals(List.of(0), done);
+		assertEquals(2, executor.size());
+		assertEquals(2, sut.getPending());
+
+		while (!executor.isEmpty()) {
+			executor.poll().run();
+		}
+		assertEquals(List.of(0, 1, 2, 3, 4), done);
+		assertEquals(0, sut.getRunning());
+		assertEquals(0, sut.getPending());
+	}
+
+	@Test
+	public void testExecutorOfQueuedTask() {
+		final var first = new ArrayDeque<Runnable>();
+		final var second = new ArrayDeque<Runnable>();
+		final var sut = new ConnectionTaskLimiter(1);
+
+		sut.execute(() -> {
+		}, first::add);
+		sut.execute(() -> {
+		}, second::add);
+		assertEquals(1, first.size());
+		assertEquals(0, second.size());
+
+		// Queued task is passed on to its own executor
+		first.poll().run();
+		assertEquals(0, first.size());
+		assertEquals(1, second.size());
+	}
+
+	@Test
+	public void testRejected() {
+		final var executor = new ArrayDeque<Runnable>();
+		final var reject = new AtomicBoolean(true);
+		final List<Integer> done = new ArrayList<>();
+		final var sut = new ConnectionTaskLimiter(1);
+		final Consumer<Runnable> rejectingExecutor = r -> {
+			if (reject.get()) {
+				throw new RejectedExecutionException();
+			}
+			executor.add(r);
+		};
+
+		// Rejected task gives back its slot
+		try {
+			sut.execute(() -> done.add(0), rejectingExecutor);
+			fail();
+		} catch (RejectedExecutionException e) {
+			// expected
+		}
+		assertEquals(0, sut.getRunning());
+
+		reject.set(false);
+		sut.execute(() -> done.add(1), rejectingExecutor);
+		sut.execute(() -> done.add(2), rejectingExecutor);
+		assertEquals(1, sut.getRunning());
+		assertEquals(1, sut.getPending());
+
+		// Rejected next task is kept
+		reject.set(true);
+		try {
+			executor.poll().run();
+			fail();
+		} catch (RejectedExecutionException e) {
+			// expected
+		}
+		assertEquals(0, sut.getRunning());
+		assertEquals(1, sut.getPending());
+
+		// ...and passed on after the next task of the connection
+		reject.set(false);
+		sut.execute(() -> done.add(3), rejectingExecutor);
+		while (!executor.isEmpty()) {
+			executor.poll().run();
+		}
+		assertEquals(List.of(1, 3, 2), done);
+		assertEquals(0, sut.getRunning());
+		assertEquals(0, sut.getPending());
+	}
+
+	@Test
+	public void testConcurrency() throws InterruptedException {
+		final var executor = Executors.newFixedThreadPool(8);
+		final var sut = new ConnectionTaskLimiter(3);
+		final var running = new AtomicInteger();
+		final var maxRunning = new AtomicInteger();
+		final var latch = new CountDownLatch(50);
+		try {
+			for (var i = 0; i < 50; i++) {
+				sut.execute(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(2);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+					latch.countDown();
+				}, executor::execute);
+			}
+			latch.await(10, TimeUnit.SECONDS);
+			assertEquals(0, latch.getCount());
+			assertTrue(maxRunning.get() <= 3);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+public class WebsocketUtilsTest {
+
+	@Test
+	public void testRetryAfter() {
+		var reason = "Too many connection attempts. " + WebsocketUtils.formatRetryAfter(42);
+		assertEquals(42, WebsocketUtils.parseRetryAfter(reason).getAsLong());
+
+		assertFalse(WebsocketUtils.parseRetryAfter(null).isPresent());
+		assertFalse(WebsocketUtils.parseRetryAfter("Metadata is not yet initialized").isPresent());
+	}
+
+}
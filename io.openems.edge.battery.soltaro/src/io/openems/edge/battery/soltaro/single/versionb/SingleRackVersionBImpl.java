@@ -910,6 +910,7 @@ public class SingleRackVersionBImpl extends AbstractOpenemsModbusComponent imple
 	/*
 	 * Dynamically generate Channels and Modbus mappings for Cell-Temperatures and
 	 * for Cell-Voltages. Channel-IDs are like "CLUSTER_1_BATTERY_001_VOLTAGE".
+	 * The Channels are lazy, i.e. Channel objects are only created on first access.
 	 *
 	 * @param numberOfModules the number of battery modules
 	 */
@@ -924,7 +925,7 @@ public class SingleRackVersionBImpl extends AbstractOpenemsModbusComponent imple
 						// Create Voltage Channel
 						var channelId = new ChannelIdImpl(
 								"CLUSTER_1_BATTERY_" + String.format("%03d", sensor) + "_VOLTAGE",
-								Doc.of(OpenemsType.INTEGER).unit(Unit.MILLIVOLT));
+								Doc.of(OpenemsType.INTEGER).unit(Unit.MILLIVOLT).lazy());
 						this.addChannel(channelId);
 						// Create Modbus-Mapping for Voltages
 						var uwe = new UnsignedWordElement(VOLTAGE_ADDRESS_OFFSET + sensor);
@@ -934,7 +935,7 @@ public class SingleRackVersionBImpl extends AbstractOpenemsModbusComponent imple
 						// Create Temperature Channel
 						var channelId = new ChannelIdImpl(
 								"CLUSTER_1_BATTERY_" + String.format("%03d", sensor) + "_TEMPERATURE",
-								Doc.of(OpenemsType.INTEGER).unit(Unit.DEZIDEGREE_CELSIUS));
+								Doc.of(OpenemsType.INTEGER).unit(Unit.DEZIDEGREE_CELSIUS).lazy());
 						this.addChannel(channelId);
 						// Create Modbus-Mapping for Temperatures
 						var uwe = new UnsignedWordElement(TEMPERATURE_ADDRESS_OFFSET + sensor);
@@ -0,0 +1,128 @@
+package io.openems.edge.bridge.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.osgi.service.event.propertytypes.EventTopics;
+import org.osgi.service.metatype.annotations.Designate;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.bridge.http.api.BridgeHttp;
+import io.openems.edge.bridge.http.api.HttpSubscription;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
+
+@Designate(ocd = Config.class, factory = true)
+@Component(//
+		name = "Bridge.Http", //
+		immediate = true, //
+		configurationPolicy = ConfigurationPolicy.REQUIRE //
+)
+@EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE //
+})
+public class BridgeHttpImpl extends AbstractOpenemsComponent implements BridgeHttp, OpenemsComponent, EventHandler {
+
+	/**
+	 * Runs the asynchronous tasks of the {@link HttpClient}, i.e. also the
+	 * decoding of responses.
+	 */
+	private ExecutorService executor = null;
+	private final CycleScheduler scheduler = new CycleScheduler(this::send);
+
+	private HttpClient client = null;
+	private Duration timeout = null;
+
+	public BridgeHttpImpl() {
+		super(//
+				OpenemsComponent.ChannelId.values() //
+		);
+	}
+
+	@Activate
+	void activate(ComponentContext context, Config config) {
+		super.activate(context, config.id(), config.alias(), config.enabled());
+		this.timeout = Duration.ofMillis(config.timeout());
+		this.executor = Executors.newCachedThreadPool(
+				new ThreadFactoryBuilder().setNameFormat("Bridge.Http:" + config.id() + "-%d").build());
+		// HttpClient keeps connections alive and pools them per host
+		this.client = HttpClient.newBuilder() //
+				.version(HttpClient.Version.HTTP_1_1) //
+				.connectTimeout(this.timeout) //
+				.executor(this.executor) //
+				.build();
+	}
+
+	@Override
+	@Deactivate
+	protected void deactivate() {
+		super.deactivate();
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+	}
+
+	@Override
+	public void handleEvent(Event event) {
+		if (!this.isEnabled()) {
+			return;
+		}
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
+			this.scheduler.onCycle();
+			break;
+		}
+	}
+
+	@Override
+	public void subscribe(HttpSubscription subscription) {
+		this.scheduler.add(subscription);
+	}
+
+	@Override
+	public void unsubscribe(HttpSubscription subscription) {
+		this.scheduler.remove(subscription);
+	}
+
+	@Override
+	public CompletableFuture<String> request(String url) {
+		return this.scheduler.request(url);
+	}
+
+	private CompletableFuture<String> send(String url) {
+		var client = this.client;
+		if (client == null) {
+			return CompletableFuture.failedFuture(new OpenemsException("HTTP Bridge is not activated"));
+		}
+		var request = HttpRequest.newBuilder(URI.create(url)) //
+				.timeout(this.timeout) //
+				.GET() //
+				.build();
+		return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()) //
+				.thenApply(response -> {
+					var status = response.statusCode();
+					if (status < 200 || status >= 300) {
+						throw new CompletionException(new OpenemsException(
+								"Unexpected HTTP status " + status + " from [" + url + "]: " + response.body()));
+					}
+					return response.body();
+				});
+	}
+
+}
@@ -0,0 +1,24 @@
+package io.openems.edge.bridge.http;
+
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+@ObjectClassDefinition(//
+		name = "Bridge HTTP", //
+		description = "Provides a service for non-blocking communication with devices via HTTP.")
+@interface Config {
+
+	@AttributeDefinition(name = "Component-ID", description = "Unique ID of this Component")
+	String id() default "bridgeHttp0";
+
+	@AttributeDefinition(name = "Alias", description = "Human-readable name of this Component; defaults to Component-ID")
+	String alias() default "";
+
+	@AttributeDefinition(name = "Is enabled?", description = "Is this Component enabled?")
+	boolean enabled() default true;
+
+	@AttributeDefinition(name = "Timeout [ms]", description = "Timeout for connecting and for each request")
+	int timeout() default 5000;
+
+	String webconsole_configurationFactory_nameHint() default "Bridge HTTP [{id}]";
+}
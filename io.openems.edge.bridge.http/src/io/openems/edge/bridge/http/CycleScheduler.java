@@ -0,0 +1,171 @@
+package io.openems.edge.bridge.http;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.http.api.HttpSubscription;
+
+/**
+ * Starts the requests of {@link HttpSubscription}s aligned to the Cycle.
+ *
+ * <p>
+ * {@link #onCycle()} is called once per Cycle and only starts requests; the
+ * responses are handled on whatever thread completes the request.
+ */
+public class CycleScheduler {
+
+	/**
+	 * Maximum number of Cycles a failing host is skipped.
+	 */
+	protected static final int MAX_BACKOFF_CYCLES = 64;
+
+	private static class Endpoint {
+		private final HttpSubscription subscription;
+		private final Host host;
+		private final AtomicBoolean isPending = new AtomicBoolean(false);
+		private long nextCycle = 0;
+
+		private Endpoint(HttpSubscription subscription, Host host) {
+			this.subscription = subscription;
+			this.host = host;
+		}
+	}
+
+	private static class Host {
+		private int failures = 0;
+		private long nextCycle = 0;
+
+		private synchronized boolean isBackedOff(long cycle) {
+			return cycle < this.nextCycle;
+		}
+
+		private synchronized void onSuccess() {
+			this.failures = 0;
+			this.nextCycle = 0;
+		}
+
+		private synchronized void onFailure(long cycle) {
+			this.failures++;
+			this.nextCycle = cycle + 1 + Math.min(MAX_BACKOFF_CYCLES, 1L << Math.min(this.failures - 1, 30));
+		}
+	}
+
+	private final Function<String, CompletableFuture<String>> sender;
+	private final Map<HttpSubscription, Endpoint> endpoints = new ConcurrentHashMap<>();
+	private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+	private volatile long cycle = 0;
+
+	public CycleScheduler(Function<String, CompletableFuture<String>> sender) {
+		this.sender = sender;
+	}
+
+	/**
+	 * Adds a {@link HttpSubscription}.
+	 *
+	 * @param subscription the {@link HttpSubscription}
+	 */
+	public void add(HttpSubscription subscription) {
+		var authority = URI.create(subscription.getUrl()).getAuthority();
+		var host = this.hosts.computeIfAbsent(authority, a -> new Host());
+		this.endpoints.put(subscription, new Endpoint(subscription, host));
+	}
+
+	/**
+	 * Removes a {@link HttpSubscription}.
+	 *
+	 * @param subscription the {@link HttpSubscription}
+	 */
+	public void remove(HttpSubscription subscription) {
+		var endpoint = this.endpoints.remove(subscription);
+		if (endpoint != null && this.endpoints.values().stream().noneMatch(e -> e.host == endpoint.host)) {
+			this.hosts.values().remove(endpoint.host);
+		}
+	}
+
+	/**
+	 * Starts all due requests. Called once per Cycle.
+	 */
+	public void onCycle() {
+		final var cycle = ++this.cycle;
+		for (Endpoint endpoint : this.endpoints.values()) {
+			if (cycle < endpoint.nextCycle || endpoint.host.isBackedOff(cycle)) {
+				continue;
+			}
+			if (!endpoint.isPending.compareAndSet(false, true)) {
+				// Previous request is still pending
+				continue;
+			}
+			endpoint.nextCycle = cycle + endpoint.subscription.getCycleInterval();
+			this.send(endpoint);
+		}
+	}
+
+	/**
+	 * Sends a single request, e.g. to write a value.
+	 *
+	 * <p>
+	 * Requests to a host that is currently backed off fail immediately; the
+	 * result of the request is taken into account for the backoff of the host.
+	 *
+	 * @param url the URL
+	 * @return a {@link CompletableFuture} with the body of a successful response
+	 */
+	public CompletableFuture<String> request(String url) {
+		final var host = this.hosts.get(URI.create(url).getAuthority());
+		if (host != null && host.isBackedOff(this.cycle)) {
+			return CompletableFuture.failedFuture(new OpenemsException("Host of [" + url + "] is backed off"));
+		}
+		CompletableFuture<String> future;
+		try {
+			future = this.sender.apply(url);
+		} catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		if (host == null) {
+			return future;
+		}
+		return future.whenComplete((body, error) -> {
+			if (error != null) {
+				host.onFailure(this.cycle);
+			} else {
+				host.onSuccess();
+			}
+		});
+	}
+
+	private void send(Endpoint endpoint) {
+		CompletableFuture<String> future;
+		try {
+			future = this.sender.apply(endpoint.subscription.getUrl());
+		} catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		future.whenComplete((body, error) -> {
+			try {
+				if (error != null) {
+					endpoint.host.onFailure(this.cycle);
+					endpoint.subscription.handleError(
+							error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+					return;
+				}
+				endpoint.host.onSuccess();
+				try {
+					endpoint.subscription.handleResponse(body);
+				} catch (OpenemsNamedException | RuntimeException e) {
+					endpoint.subscription.handleError(e);
+				}
+			} finally {
+				endpoint.isPending.set(false);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,48 @@
+package io.openems.edge.bridge.http.api;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Provides non-blocking HTTP communication for devices that are polled via a
+ * REST API.
+ */
+@ProviderType
+public interface BridgeHttp extends OpenemsComponent {
+
+	/**
+	 * Adds a {@link HttpSubscription}.
+	 *
+	 * <p>
+	 * Due requests are started at the beginning of each Cycle. A request is not
+	 * started again while the previous one for the same {@link HttpSubscription}
+	 * is still pending; hosts that fail repeatedly are backed off.
+	 *
+	 * @param subscription the {@link HttpSubscription}
+	 */
+	public void subscribe(HttpSubscription subscription);
+
+	/**
+	 * Removes a {@link HttpSubscription}.
+	 *
+	 * @param subscription the {@link HttpSubscription}
+	 */
+	public void unsubscribe(HttpSubscription subscription);
+
+	/**
+	 * Sends a single HTTP GET request, e.g. to write a value.
+	 *
+	 * <p>
+	 * Requests to a host that is backed off because of failing
+	 * {@link HttpSubscription}s fail immediately.
+	 *
+	 * @param url the URL
+	 * @return a {@link CompletableFuture} with the body of a successful response;
+	 *         completed exceptionally on any error
+	 */
+	public CompletableFuture<String> request(String url);
+
+}
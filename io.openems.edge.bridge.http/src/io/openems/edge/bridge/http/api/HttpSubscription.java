@@ -0,0 +1,84 @@
+package io.openems.edge.bridge.http.api;
+
+import java.util.function.Consumer;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingConsumer;
+
+/**
+ * An HTTP GET endpoint that is polled by a {@link BridgeHttp}.
+ *
+ * <p>
+ * The callbacks are executed outside of the Cycle thread.
+ */
+public final class HttpSubscription {
+
+	private final String url;
+	private final int cycleInterval;
+	private final ThrowingConsumer<String, OpenemsNamedException> onResponse;
+	private final Consumer<Throwable> onError;
+
+	/**
+	 * Constructs a {@link HttpSubscription}.
+	 *
+	 * @param url           the URL of the endpoint
+	 * @param cycleInterval poll every n-th Cycle; 1 for every Cycle
+	 * @param onResponse    handles the body of a successful response
+	 * @param onError       handles any error, i.e. connection errors, timeouts,
+	 *                      HTTP status codes other than 2xx and exceptions of
+	 *                      'onResponse'
+	 */
+	public HttpSubscription(String url, int cycleInterval, ThrowingConsumer<String, OpenemsNamedException> onResponse,
+			Consumer<Throwable> onError) {
+		if (cycleInterval < 1) {
+			throw new IllegalArgumentException("Cycle-Interval must be at least 1");
+		}
+		this.url = url;
+		this.cycleInterval = cycleInterval;
+		this.onResponse = onResponse;
+		this.onError = onError;
+	}
+
+	/**
+	 * Gets the URL of the endpoint.
+	 *
+	 * @return the URL
+	 */
+	public String getUrl() {
+		return this.url;
+	}
+
+	/**
+	 * Gets the polling interval in number of Cycles.
+	 *
+	 * @return the interval
+	 */
+	public int getCycleInterval() {
+		return this.cycleInterval;
+	}
+
+	/**
+	 * Handles the body of a successful response.
+	 *
+	 * @param body the body
+	 * @throws OpenemsNamedException on error
+	 */
+	public void handleResponse(String body) throws OpenemsNamedException {
+		this.onResponse.accept(body);
+	}
+
+	/**
+	 * Handles an error.
+	 *
+	 * @param error the error
+	 */
+	public void handleError(Throwable error) {
+		this.onError.accept(error);
+	}
+
+	@Override
+	public String toString() {
+		return "HttpSubscription [url=" + this.url + ", cycleInterval=" + this.cycleInterval + "]";
+	}
+
+}
@@ -0,0 +1,150 @@
+package io.openems.edge.bridge.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.http.api.HttpSubscription;
+
+public class CycleSchedulerTest {
+
+	private static class Request {
+		private final String url;
+		private final CompletableFuture<String> future = new CompletableFuture<>();
+
+		private Request(String url) {
+			this.url = url;
+		}
+	}
+
+	@Test
+	public void testInterval() {
+		var requests = new ArrayList<Request>();
+		var responses = new ArrayList<String>();
+		var sut = new CycleScheduler(url -> {
+			var request = new Request(url);
+			requests.add(request);
+			return request.future;
+		});
+		var fast = new HttpSubscription("http://10.0.0.1/status", 1, responses::add, e -> {
+		});
+		var slow = new HttpSubscription("http://10.0.0.2/status", 3, responses::add, e -> {
+		});
+		sut.add(fast);
+		sut.add(slow);
+
+		sut.onCycle();
+		assertEquals(2, requests.size());
+
+		// Pending requests are not started again
+		sut.onCycle();
+		assertEquals(2, requests.size());
+
+		// Responses are handled on completion
+		requests.forEach(r -> r.future.complete(r.url));
+		assertEquals(List.of("http://10.0.0.1/status", "http://10.0.0.2/status"), sortedCopy(responses));
+
+		sut.onCycle(); // Cycle 3: only 'fast'
+		assertEquals(3, requests.size());
+		assertEquals("http://10.0.0.1/status", requests.get(2).url);
+		requests.get(2).future.complete("");
+
+		sut.onCycle(); // Cycle 4: 'fast' and 'slow'
+		assertEquals(5, requests.size());
+
+		sut.remove(slow);
+		requests.forEach(r -> r.future.complete(""));
+		sut.onCycle();
+		assertEquals(6, requests.size());
+	}
+
+	@Test
+	public void testBackoff() {
+		var requests = new ArrayList<Request>();
+		var errors = new ArrayList<Throwable>();
+		var sut = new CycleScheduler(url -> {
+			var request = new Request(url);
+			requests.add(request);
+			return request.future;
+		});
+		sut.add(new HttpSubscription("http://10.0.0.1/status", 1, body -> {
+			throw new OpenemsException("Invalid body");
+		}, errors::add));
+
+		// Cycle 1: request fails -> back off for 1 Cycle
+		sut.onCycle();
+		requests.get(0).future.completeExceptionally(new OpenemsException("Unreachable"));
+		assertEquals("Unreachable", errors.get(0).getMessage());
+
+		sut.onCycle(); // Cycle 2: backed off
+		assertEquals(1, requests.size());
+		sut.onCycle(); // Cycle 3: fails again -> back off for 2 Cycles
+		assertEquals(2, requests.size());
+		requests.get(1).future.completeExceptionally(new OpenemsException("Unreachable"));
+
+		sut.onCycle(); // Cycle 4
+		sut.onCycle(); // Cycle 5
+		assertEquals(2, requests.size());
+		sut.onCycle(); // Cycle 6: device responds; decoding errors do not back off
+		assertEquals(3, requests.size());
+		requests.get(2).future.complete("{}");
+		assertEquals("Invalid body", errors.get(2).getMessage());
+
+		sut.onCycle(); // Cycle 7
+		assertEquals(4, requests.size());
+		assertEquals(3, errors.size());
+	}
+
+	@Test
+	public void testRequestBackoff() {
+		var requests = new ArrayList<Request>();
+		var sut = new CycleScheduler(url -> {
+			var request = new Request(url);
+			requests.add(request);
+			return request.future;
+		});
+		sut.add(new HttpSubscription("http://10.0.0.1/status", 1, body -> {
+		}, e -> {
+		}));
+
+		// Cycle 1: status request fails -> host is backed off
+		sut.onCycle();
+		requests.get(0).future.completeExceptionally(new OpenemsException("Unreachable"));
+
+		// Writes to the backed off host fail without a request
+		var write = sut.request("http://10.0.0.1/relay/0?turn=on");
+		assertTrue(write.isCompletedExceptionally());
+		assertEquals(1, requests.size());
+
+		// Writes to other hosts are not affected
+		sut.request("http://10.0.0.2/relay/0?turn=on");
+		assertEquals(2, requests.size());
+
+		sut.onCycle(); // Cycle 2: still backed off
+		sut.onCycle(); // Cycle 3: status request succeeds
+		assertEquals(3, requests.size());
+		requests.get(2).future.complete("{}");
+
+		// A failing write backs off the host for the status requests
+		sut.request("http://10.0.0.1/relay/0?turn=on");
+		assertEquals(4, requests.size());
+		requests.get(3).future.completeExceptionally(new OpenemsException("Unreachable"));
+		sut.onCycle(); // Cycle 4: backed off
+		assertEquals(4, requests.size());
+		sut.onCycle(); // Cycle 5
+		assertEquals(5, requests.size());
+	}
+
+	private static List<String> sortedCopy(List<String> list) {
+		var result = new ArrayList<>(list);
+		result.sort(null);
+		return result;
+	}
+
+}
@@ -1,10 +1,9 @@
 package io.openems.edge.bridge.mbus;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
 
-import org.openmuc.jmbus.DecodingException;
 import org.openmuc.jmbus.MBusConnection;
 import org.openmuc.jmbus.MBusConnection.MBusSerialBuilder;
 import org.osgi.service.component.ComponentContext;
@@ -19,7 +18,6 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.worker.AbstractCycleWorker;
 import io.openems.edge.bridge.mbus.api.BridgeMbus;
 import io.openems.edge.bridge.mbus.api.MbusTask;
@@ -43,10 +41,10 @@ public class BridgeMbusImpl extends AbstractOpenemsComponent implements BridgeMb
 		);
 	}
 
-	private final Map<String, MbusTask> tasks = new HashMap<>();
+	private final MbusScheduler scheduler = new MbusScheduler(Clock.systemDefaultZone());
 	private final MbusWorker worker = new MbusWorker();
 
-	private MBusConnection mBusConnection;
+	private volatile MBusConnection mBusConnection;
 	private MBusSerialBuilder builder;
 	private String portName;
 
@@ -55,17 +53,19 @@ public class BridgeMbusImpl extends AbstractOpenemsComponent implements BridgeMb
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.portName = config.portName();
 
-		this.worker.activate(config.id());
+		this.builder = MBusConnection.newSerialBuilder(this.portName) //
+				.setBaudrate(config.baudrate()) //
+				.setTimeout(config.timeout());
 
-		this.builder = MBusConnection.newSerialBuilder(this.portName).setBaudrate(config.baudrate());
+		this.worker.activate(config.id());
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
-		this.mBusConnection.close();
 		this.worker.deactivate();
+		this.closeConnection();
 	}
 
 	@Override
@@ -85,42 +85,60 @@ public class BridgeMbusImpl extends AbstractOpenemsComponent implements BridgeMb
 		return this.mBusConnection;
 	}
 
+	private void closeConnection() {
+		var connection = this.mBusConnection;
+		this.mBusConnection = null;
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
 	private class MbusWorker extends AbstractCycleWorker {
 
 		@Override
-		protected void forever() throws OpenemsException, DecodingException {
-			// Check if time passed by, if not, do nothing
+		protected void forever() {
+			var start = System.nanoTime();
 			try {
-				BridgeMbusImpl.this.mBusConnection = BridgeMbusImpl.this.builder.build();
-
-				for (MbusTask task : BridgeMbusImpl.this.tasks.values()) {
-					try {
-						var data = task.getRequest();
-						data.decode();
-						// "Before accessing elements of a variable data structure it has to be decoded
-						// using the decode method." ??
-						task.setResponse(data);
-					} catch (IOException e) {
-						e.printStackTrace();
-					}
+				// Keep the serial port open; it is only reopened after a failure
+				if (BridgeMbusImpl.this.mBusConnection == null) {
+					BridgeMbusImpl.this.mBusConnection = BridgeMbusImpl.this.builder.build();
+				}
+
+				var failed = BridgeMbusImpl.this.scheduler.execute(task -> {
+					var data = task.getRequest();
+					// "Before accessing elements of a variable data structure it has to be decoded
+					// using the decode method."
+					data.decode();
+					task.setResponse(data);
+				});
+
+				// Devices that are backed off still count as failing
+				var failingDevices = BridgeMbusImpl.this.scheduler.getFailingDevices();
+				if (failed > 0) {
+					BridgeMbusImpl.this.logWarn(BridgeMbusImpl.this.log, "Reading failed for " + failingDevices);
 				}
+				BridgeMbusImpl.this.channel(BridgeMbus.ChannelId.SLAVE_COMMUNICATION_FAILED)
+						.setNextValue(!failingDevices.isEmpty());
 
-				BridgeMbusImpl.this.mBusConnection.close();
 			} catch (IOException e) {
 				BridgeMbusImpl.this.logError(BridgeMbusImpl.this.log,
 						"Connection via [" + BridgeMbusImpl.this.portName + "] failed: " + e.getMessage());
+				BridgeMbusImpl.this.closeConnection();
+				BridgeMbusImpl.this.channel(BridgeMbus.ChannelId.SLAVE_COMMUNICATION_FAILED).setNextValue(true);
 			}
+			BridgeMbusImpl.this.channel(BridgeMbus.ChannelId.EXECUTION_DURATION)
+					.setNextValue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 		}
 	}
 
 	@Override
 	public void addTask(String sourceId, MbusTask task) {
-		this.tasks.put(sourceId, task);
+		this.scheduler.add(sourceId, task);
 	}
 
 	@Override
 	public void removeTask(String sourceId) {
-		this.tasks.remove(sourceId);
+		this.scheduler.remove(sourceId);
 	}
 
 }
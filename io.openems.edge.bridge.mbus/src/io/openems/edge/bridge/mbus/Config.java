@@ -23,5 +23,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Baudrate", description = "Serial Device Speed")
 	int baudrate() default 2400;
 
+	@AttributeDefinition(name = "Timeout [ms]", description = "Maximum time to wait for the response of a device")
+	int timeout() default 500;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge M-Bus [{id}]";
 }
\ No newline at end of file
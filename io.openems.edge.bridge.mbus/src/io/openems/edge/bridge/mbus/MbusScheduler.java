@@ -0,0 +1,164 @@
+package io.openems.edge.bridge.mbus;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import io.openems.edge.bridge.mbus.api.MbusTask;
+
+/**
+ * Decides which {@link MbusTask}s are due and keeps track of the latency and
+ * failures of every device.
+ *
+ * <p>
+ * Every task is read at most once per poll interval. Devices that fail are
+ * skipped with an exponential backoff, so that a defective or missing device
+ * does not slow down the others.
+ */
+public class MbusScheduler {
+
+	/**
+	 * Reads a single {@link MbusTask}.
+	 */
+	@FunctionalInterface
+	public static interface Reader {
+
+		/**
+		 * Reads the device of the given {@link MbusTask}.
+		 *
+		 * @param task the {@link MbusTask}
+		 * @throws InterruptedIOException if the device did not respond in time
+		 * @throws IOException            if the connection failed
+		 * @throws Exception              if the response could not be handled
+		 */
+		public void read(MbusTask task) throws Exception;
+	}
+
+	protected static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+	protected static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+	private static class State {
+		private final String sourceId;
+		private final MbusTask task;
+
+		private Instant nextRead = Instant.MIN;
+		private int failures = 0;
+		private int timeouts = 0;
+		private Duration lastDuration = null;
+
+		private State(String sourceId, MbusTask task) {
+			this.sourceId = sourceId;
+			this.task = task;
+		}
+
+		@Override
+		public String toString() {
+			return this.sourceId + "[address=" + this.task.getPrimaryAddress() + ", latency="
+					+ (this.lastDuration == null ? "-" : this.lastDuration.toMillis() + "ms") + ", timeouts="
+					+ this.timeouts + ", failures=" + this.failures + "]";
+		}
+	}
+
+	private final Clock clock;
+	private final Map<String, State> states = new ConcurrentHashMap<>();
+
+	public MbusScheduler(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Adds a {@link MbusTask}; replaces any previous task with the same
+	 * Source-ID.
+	 *
+	 * @param sourceId the Source-ID
+	 * @param task     the {@link MbusTask}
+	 */
+	public void add(String sourceId, MbusTask task) {
+		this.states.put(sourceId, new State(sourceId, task));
+	}
+
+	/**
+	 * Removes the {@link MbusTask} with the given Source-ID.
+	 *
+	 * @param sourceId the Source-ID
+	 */
+	public void remove(String sourceId) {
+		this.states.remove(sourceId);
+	}
+
+	/**
+	 * Reads all due {@link MbusTask}s, longest overdue first.
+	 *
+	 * <p>
+	 * A failure of a single device is recorded and the device is backed off. A
+	 * failure of the connection aborts the run without blaming the device.
+	 *
+	 * @param reader the {@link Reader}
+	 * @return the number of devices that failed in this run
+	 * @throws IOException if the connection failed
+	 */
+	public int execute(Reader reader) throws IOException {
+		var now = Instant.now(this.clock);
+		var due = this.states.values().stream() //
+				.filter(s -> !now.isBefore(s.nextRead)) //
+				.sorted(Comparator.comparing(s -> s.nextRead)) //
+				.collect(Collectors.toList());
+		var failed = 0;
+		for (var state : due) {
+			var start = Instant.now(this.clock);
+			try {
+				reader.read(state.task);
+				state.lastDuration = Duration.between(start, Instant.now(this.clock));
+				state.failures = 0;
+				state.nextRead = start.plus(state.task.getPollInterval());
+
+			} catch (InterruptedIOException e) {
+				state.timeouts++;
+				this.onFailure(state, start);
+				failed++;
+
+			} catch (IOException e) {
+				throw e;
+
+			} catch (Exception e) {
+				this.onFailure(state, start);
+				failed++;
+			}
+		}
+		return failed;
+	}
+
+	private void onFailure(State state, Instant start) {
+		var end = Instant.now(this.clock);
+		state.lastDuration = Duration.between(start, end);
+		state.failures++;
+		var backoff = MIN_BACKOFF.multipliedBy(1L << Math.min(state.failures - 1, 16));
+		if (backoff.compareTo(MAX_BACKOFF) > 0) {
+			backoff = MAX_BACKOFF;
+		}
+		if (backoff.compareTo(state.task.getPollInterval()) < 0) {
+			backoff = state.task.getPollInterval();
+		}
+		state.nextRead = end.plus(backoff);
+	}
+
+	/**
+	 * Gets a human-readable summary of all devices that are currently failing,
+	 * including their latency and number of timeouts.
+	 *
+	 * @return the summary; empty if no device is failing
+	 */
+	public String getFailingDevices() {
+		return this.states.values().stream() //
+				.filter(s -> s.failures > 0) //
+				.map(State::toString) //
+				.collect(Collectors.joining(", "));
+	}
+
+}
@@ -2,22 +2,40 @@ package io.openems.edge.bridge.mbus.api;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.time.Duration;
 
 import org.openmuc.jmbus.VariableDataStructure;
 
 public class MbusTask {
 
+	/**
+	 * Poll interval for devices that should be read on every Cycle.
+	 */
+	public static final Duration EVERY_CYCLE = Duration.ZERO;
+
+	/**
+	 * Recommended poll interval for slowly changing devices like heat meters.
+	 */
+	public static final Duration HEAT_METER_POLL_INTERVAL = Duration.ofMinutes(1);
+
 	private final AbstractOpenemsMbusComponent openemsMbusComponent; // creator of this task instance
 	private final BridgeMbus bridgeMbus;
+	private final Duration pollInterval;
 
 	public MbusTask(BridgeMbus bridgeMbus, AbstractOpenemsMbusComponent openemsMbusComponent) {
+		this(bridgeMbus, openemsMbusComponent, EVERY_CYCLE);
+	}
+
+	public MbusTask(BridgeMbus bridgeMbus, AbstractOpenemsMbusComponent openemsMbusComponent,
+			Duration pollInterval) {
 		this.openemsMbusComponent = openemsMbusComponent;
 		this.bridgeMbus = bridgeMbus;
+		this.pollInterval = pollInterval;
 	}
 
 	/**
 	 * Get the Request.
-	 * 
+	 *
 	 * @return a {@link VariableDataStructure}
 	 * @throws InterruptedIOException on error
 	 * @throws IOException            on error
@@ -34,4 +52,14 @@ public class MbusTask {
 		return this.openemsMbusComponent.getPrimaryAddress();
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Gets the minimum time between two reads of this device.
+	 * {@link #EVERY_CYCLE} reads the device on every Cycle.
+	 *
+	 * @return the poll interval
+	 */
+	public Duration getPollInterval() {
+		return this.pollInterval;
+	}
+
+}
@@ -0,0 +1,120 @@
+package io.openems.edge.bridge.mbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.mbus.api.MbusTask;
+import io.openems.edge.common.test.TimeLeapClock;
+
+public class MbusSchedulerTest {
+
+	private static class DummyTask extends MbusTask {
+		private final int primaryAddress;
+
+		private DummyTask(int primaryAddress, Duration pollInterval) {
+			super(null, null, pollInterval);
+			this.primaryAddress = primaryAddress;
+		}
+
+		@Override
+		public int getPrimaryAddress() {
+			return this.primaryAddress;
+		}
+	}
+
+	@Test
+	public void testPollInterval() throws IOException {
+		var clock = new TimeLeapClock(Instant.ofEpochSecond(1_577_836_800), ZoneOffset.UTC);
+		var sut = new MbusScheduler(clock);
+		var electricity = new DummyTask(1, MbusTask.EVERY_CYCLE);
+		var heat = new DummyTask(2, MbusTask.HEAT_METER_POLL_INTERVAL);
+		sut.add("meter0", electricity);
+		sut.add("meter1", heat);
+
+		var reads = new ArrayList<Integer>();
+		assertEquals(0, sut.execute(task -> reads.add(task.getPrimaryAddress())));
+		assertEquals(2, reads.size());
+
+		clock.leap(1, ChronoUnit.SECONDS);
+		sut.execute(task -> reads.add(task.getPrimaryAddress()));
+		assertEquals(List.of(1, 2, 1), sortedFirst(reads, 2));
+
+		clock.leap(59, ChronoUnit.SECONDS);
+		sut.execute(task -> reads.add(task.getPrimaryAddress()));
+		assertEquals(5, reads.size());
+	}
+
+	@Test
+	public void testBackoff() throws IOException {
+		var clock = new TimeLeapClock(Instant.ofEpochSecond(1_577_836_800), ZoneOffset.UTC);
+		var sut = new MbusScheduler(clock);
+		sut.add("meter0", new DummyTask(1, MbusTask.EVERY_CYCLE));
+		sut.add("meter1", new DummyTask(2, MbusTask.EVERY_CYCLE));
+
+		var reads = new ArrayList<Integer>();
+		var isDefective = new AtomicBoolean(true);
+		MbusScheduler.Reader reader = task -> {
+			reads.add(task.getPrimaryAddress());
+			if (task.getPrimaryAddress() == 2 && isDefective.get()) {
+				throw new InterruptedIOException("Timeout");
+			}
+		};
+
+		assertEquals(1, sut.execute(reader)); // both are read; meter1 times out
+		assertTrue(sut.getFailingDevices().startsWith("meter1[address=2"));
+		assertEquals(0, sut.execute(reader)); // meter1 is backed off for 1 s
+		assertEquals(3, reads.size());
+		assertEquals(Integer.valueOf(1), reads.get(2));
+
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(1, sut.execute(reader)); // meter1 fails again -> 2 s
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(0, sut.execute(reader));
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(1, sut.execute(reader));
+
+		// Backoff is limited
+		for (var i = 0; i < 20; i++) {
+			clock.leap(MbusScheduler.MAX_BACKOFF.toSeconds(), ChronoUnit.SECONDS);
+			assertEquals(1, sut.execute(reader));
+		}
+
+		// Recovers on success
+		isDefective.set(false);
+		clock.leap(MbusScheduler.MAX_BACKOFF.toSeconds(), ChronoUnit.SECONDS);
+		assertEquals(0, sut.execute(reader));
+		assertEquals("", sut.getFailingDevices());
+		var before = reads.size();
+		sut.execute(reader);
+		assertEquals(before + 2, reads.size());
+	}
+
+	@Test(expected = IOException.class)
+	public void testConnectionFailure() throws IOException {
+		var sut = new MbusScheduler(new TimeLeapClock());
+		sut.add("meter0", new DummyTask(1, MbusTask.EVERY_CYCLE));
+		sut.execute(task -> {
+			throw new IOException("Port closed");
+		});
+	}
+
+	private static List<Integer> sortedFirst(List<Integer> list, int count) {
+		var result = new ArrayList<>(list.subList(0, count));
+		result.sort(null);
+		result.addAll(list.subList(count, list.size()));
+		return result;
+	}
+
+}
@@ -22,6 +22,8 @@ import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusSerial;
 import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
@@ -148,6 +150,43 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 		return this._connection;
 	}
 
+	@Override
+	public long getMinimumTransactionDuration(Task task) {
+		// Size of request and response frame in characters, i.e. Unit-ID, Function
+		// Code, header, data and CRC of FC3/FC4 and FC16
+		var dataBytes = 2 * task.getLength();
+		int requestChars;
+		int responseChars;
+		if (task instanceof WriteTask) {
+			requestChars = 9 + dataBytes;
+			responseChars = 8;
+		} else {
+			requestChars = 8;
+			responseChars = 5 + dataBytes;
+		}
+
+		// Start-Bit, Data-Bits, Parity-Bit and Stop-Bits
+		var bitsPerChar = 1. + this.databits + (this.parity == Parity.NONE ? 0 : 1);
+		switch (this.stopbits) {
+		case ONE:
+			bitsPerChar += 1;
+			break;
+		case ONE_POINT_FIVE:
+			bitsPerChar += 1.5;
+			break;
+		case TWO:
+			bitsPerChar += 2;
+			break;
+		}
+		var charTime = bitsPerChar * 1_000_000. / this.baudrate; // [µs]
+
+		// Silent interval of 3.5 characters after each frame; fixed to 1750 µs for
+		// baudrates above 19200 (Modbus over Serial Line, 2.5.1.1)
+		var interFrameGap = this.baudrate > 19200 ? 1750 : 3.5 * charTime;
+
+		return Math.round((requestChars + responseChars) * charTime + 2 * interFrameGap);
+	}
+
 	@Override
 	public int getBaudrate() {
 		return this.baudrate;
@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
@@ -121,6 +122,17 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	public abstract void closeModbusConnection();
 
+	/**
+	 * Gets the minimum duration of the transaction of a {@link Task} that is
+	 * imposed by the physical bus, e.g. transmission time and inter-frame gaps.
+	 *
+	 * @param task the {@link Task}
+	 * @return the duration in [µs]
+	 */
+	public long getMinimumTransactionDuration(Task task) {
+		return 0;
+	}
+
 	public LogVerbosity getLogVerbosity() {
 		return this.logVerbosity;
 	}
@@ -254,6 +254,8 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 
 		private final T element;
 		private final Map<Channel<?>, ElementToChannelConverter> channelMaps = new HashMap<>();
+		private final Map<io.openems.edge.common.channel.ChannelId, ElementToChannelConverter> lazyChannelMaps = //
+				new HashMap<>();
 
 		public ChannelMapper(T element) {
 			this.element = element;
@@ -282,6 +284,12 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 		 */
 		public ChannelMapper<T> m(io.openems.edge.common.channel.ChannelId channelId,
 				ElementToChannelConverter converter, ChannelMetaInfo channelMetaInfo) {
+			if (AbstractOpenemsModbusComponent.this.isLazyChannel(channelId)) {
+				// Do not create the Channel object; it is created without ChannelMetaInfo on
+				// first access
+				this.lazyChannelMaps.put(channelId, converter);
+				return this;
+			}
 			Channel<?> channel = AbstractOpenemsModbusComponent.this.channel(channelId);
 			channel.setMetaInfo(channelMetaInfo);
 			this.channelMaps.put(channel, converter);
@@ -320,13 +328,11 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 				 * Converter. If the converter returns an Optional.empty, the value is ignored.
 				 */
 				this.channelMaps.forEach((channel, converter) -> {
-					Object convertedValue;
-					try {
-						convertedValue = converter.elementToChannel(value);
-					} catch (IllegalArgumentException e) {
-						throw new IllegalArgumentException("Conversion for [" + channel.channelId() + "] failed", e);
-					}
-					channel.setNextValue(convertedValue);
+					channel.setNextValue(this.convert(channel.channelId(), converter, value));
+				});
+				this.lazyChannelMaps.forEach((channelId, converter) -> {
+					AbstractOpenemsModbusComponent.this._setNextValueLazily(channelId,
+							this.convert(channelId, converter, value));
 				});
 			});
 
@@ -375,6 +381,15 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 
 			return this.element;
 		}
+
+		private Object convert(io.openems.edge.common.channel.ChannelId channelId,
+				ElementToChannelConverter converter, Object value) {
+			try {
+				return converter.elementToChannel(value);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Conversion for [" + channelId + "] failed", e);
+			}
+		}
 	}
 
 	/**
@@ -19,7 +19,16 @@ public interface BridgeModbus extends OpenemsComponent {
 		CYCLE_TIME_IS_TOO_SHORT(Doc.of(Level.INFO) //
 				.debounce(10, Debounce.TRUE_VALUES_IN_A_ROW_TO_SET_TRUE)), //
 		EXECUTION_DURATION(Doc.of(OpenemsType.LONG) //
-				.unit(Unit.MILLISECONDS));
+				.unit(Unit.MILLISECONDS)), //
+		PREDICTED_EXECUTION_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Predicted 95th percentile of the duration of all planned tasks")), //
+		ACTUAL_EXECUTION_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Measured duration of all tasks of the last run")), //
+		LOW_PRIORITY_MAX_AGE(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Time since the least recently read LOW priority task"));
 
 		private final Doc doc;
 
@@ -91,6 +100,91 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getExecutionDurationChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#PREDICTED_EXECUTION_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPredictedExecutionDurationChannel() {
+		return this.channel(ChannelId.PREDICTED_EXECUTION_DURATION);
+	}
+
+	/**
+	 * Gets the Predicted Execution Duration in [ms], see {@link ChannelId#PREDICTED_EXECUTION_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPredictedExecutionDuration() {
+		return this.getPredictedExecutionDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PREDICTED_EXECUTION_DURATION} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPredictedExecutionDuration(long value) {
+		this.getPredictedExecutionDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#ACTUAL_EXECUTION_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getActualExecutionDurationChannel() {
+		return this.channel(ChannelId.ACTUAL_EXECUTION_DURATION);
+	}
+
+	/**
+	 * Gets the Actual Execution Duration in [ms], see {@link ChannelId#ACTUAL_EXECUTION_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getActualExecutionDuration() {
+		return this.getActualExecutionDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#ACTUAL_EXECUTION_DURATION} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setActualExecutionDuration(long value) {
+		this.getActualExecutionDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#LOW_PRIORITY_MAX_AGE}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getLowPriorityMaxAgeChannel() {
+		return this.channel(ChannelId.LOW_PRIORITY_MAX_AGE);
+	}
+
+	/**
+	 * Gets the maximum age of LOW priority tasks in [ms], see
+	 * {@link ChannelId#LOW_PRIORITY_MAX_AGE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getLowPriorityMaxAge() {
+		return this.getLowPriorityMaxAgeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#LOW_PRIORITY_MAX_AGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setLowPriorityMaxAge(long value) {
+		this.getLowPriorityMaxAgeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
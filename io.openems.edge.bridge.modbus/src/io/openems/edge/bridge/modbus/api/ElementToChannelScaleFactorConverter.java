@@ -47,16 +47,23 @@ public class ElementToChannelScaleFactorConverter extends ElementToChannelConver
 	}
 
 	public ElementToChannelScaleFactorConverter(int scaleFactor) {
+		this(Math.pow(10, scaleFactor), Math.pow(10, scaleFactor * -1));
+	}
+
+	private ElementToChannelScaleFactorConverter(double elementToChannelFactor, double channelToElementFactor) {
 		super(//
 				// element -> channel
-				value -> apply(value, scaleFactor * -1), //
+				value -> applyFactor(value, elementToChannelFactor), //
 
 				// channel -> element
-				value -> apply(value, scaleFactor));
+				value -> applyFactor(value, channelToElementFactor));
 	}
 
 	private static Object apply(Object value, int scaleFactor) {
-		var factor = Math.pow(10, scaleFactor * -1);
+		return applyFactor(value, Math.pow(10, scaleFactor * -1));
+	}
+
+	private static Object applyFactor(Object value, double factor) {
 		if (value == null) {
 			return null;
 		}
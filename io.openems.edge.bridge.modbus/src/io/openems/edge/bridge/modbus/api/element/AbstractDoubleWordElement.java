@@ -23,6 +23,9 @@ public abstract class AbstractDoubleWordElement<E, T> extends AbstractModbusRegi
 
 	private final Logger log = LoggerFactory.getLogger(AbstractDoubleWordElement.class);
 
+	// reused for every read; elements are only filled by the ModbusWorker
+	private final ByteBuffer inputBuffer = ByteBuffer.allocate(4);
+
 	public AbstractDoubleWordElement(OpenemsType type, int startAddress) {
 		super(type, startAddress);
 	}
@@ -41,15 +44,17 @@ public abstract class AbstractDoubleWordElement<E, T> extends AbstractModbusRegi
 	}
 
 	@Override
-	protected final void _setInputRegisters(InputRegister... registers) {
+	protected final void _setInputRegisters(InputRegister[] registers, int offset) {
 		// fill buffer
-		var buff = ByteBuffer.allocate(4).order(this.getByteOrder());
+		var buff = this.inputBuffer;
+		buff.clear();
+		buff.order(this.getByteOrder());
 		if (this.wordOrder == WordOrder.MSWLSW) {
-			buff.put(registers[0].toBytes());
-			buff.put(registers[1].toBytes());
+			putRegister(buff, registers[offset]);
+			putRegister(buff, registers[offset + 1]);
 		} else {
-			buff.put(registers[1].toBytes());
-			buff.put(registers[0].toBytes());
+			putRegister(buff, registers[offset + 1]);
+			putRegister(buff, registers[offset]);
 		}
 		buff.rewind();
 		// convert registers to Long
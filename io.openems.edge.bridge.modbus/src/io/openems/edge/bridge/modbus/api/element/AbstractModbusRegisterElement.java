@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api.element;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Optional;
 
@@ -72,24 +73,52 @@ public abstract class AbstractModbusRegisterElement<E, T> extends AbstractModbus
 
 	@Override
 	public void setInputRegisters(InputRegister... registers) throws OpenemsException {
+		if (registers.length != this.getLength()) {
+			throw new OpenemsException("Modbus Element [" + this + "]: registers length [" + registers.length
+					+ "] does not match required size of [" + this.getLength() + "]");
+		}
+		this.setInputRegisters(registers, 0);
+	}
+
+	@Override
+	public void setInputRegisters(InputRegister[] registers, int offset) throws OpenemsException {
 		if (this.isDebug()) {
 			var b = new StringBuilder("Element [" + this + "] set input registers to [");
-			for (var i = 0; i < registers.length; i++) {
-				b.append(registers[i].getValue());
-				if (i < registers.length - 1) {
+			for (var i = 0; i < this.getLength(); i++) {
+				b.append(registers[offset + i].getValue());
+				if (i < this.getLength() - 1) {
 					b.append(",");
 				}
 			}
 			b.append("].");
 			this.log.info(b.toString());
 		}
-		if (registers.length != this.getLength()) {
+		if (offset + this.getLength() > registers.length) {
 			throw new OpenemsException("Modbus Element [" + this + "]: registers length [" + registers.length
-					+ "] does not match required size of [" + this.getLength() + "]");
+					+ "] is too short for offset [" + offset + "] and required size of [" + this.getLength() + "]");
 		}
-		this._setInputRegisters(registers);
+		this._setInputRegisters(registers, offset);
 	}
 
-	protected abstract void _setInputRegisters(InputRegister... registers);
+	/**
+	 * Sets the value from the registers of this Element.
+	 *
+	 * @param registers the InputRegisters
+	 * @param offset    the position of the first register of this Element
+	 */
+	protected abstract void _setInputRegisters(InputRegister[] registers, int offset);
+
+	/**
+	 * Puts the two bytes of a register to a {@link ByteBuffer}, without
+	 * intermediate byte array.
+	 *
+	 * @param buff     the ByteBuffer
+	 * @param register the InputRegister
+	 */
+	protected static void putRegister(ByteBuffer buff, InputRegister register) {
+		var value = register.getValue();
+		buff.put((byte) (value >> 8));
+		buff.put((byte) value);
+	}
 
 }
@@ -23,6 +23,9 @@ public abstract class AbstractWordElement<E, T> extends AbstractModbusRegisterEl
 
 	private final Logger log = LoggerFactory.getLogger(AbstractWordElement.class);
 
+	// reused for every read; elements are only filled by the ModbusWorker
+	private final ByteBuffer inputBuffer = ByteBuffer.allocate(2);
+
 	public AbstractWordElement(OpenemsType type, int startAddress) {
 		super(type, startAddress);
 	}
@@ -33,10 +36,12 @@ public abstract class AbstractWordElement<E, T> extends AbstractModbusRegisterEl
 	}
 
 	@Override
-	protected void _setInputRegisters(InputRegister... registers) {
+	protected void _setInputRegisters(InputRegister[] registers, int offset) {
 		// convert registers
-		var buff = ByteBuffer.allocate(2).order(this.getByteOrder());
-		buff.put(registers[0].toBytes());
+		var buff = this.inputBuffer;
+		buff.clear();
+		buff.order(this.getByteOrder());
+		putRegister(buff, registers[offset]);
 		var value = this.fromByteBuffer(buff);
 		// set value
 		super.setValue(value);
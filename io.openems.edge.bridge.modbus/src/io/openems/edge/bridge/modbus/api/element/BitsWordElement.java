@@ -90,14 +90,21 @@ public class BitsWordElement extends UnsignedWordElement {
 			throw new IllegalArgumentException("Bit-Index must be between 0 and 15 for Channel-ID [" + channelId + "]");
 		}
 
-		Channel<?> channel = this.component.channel(channelId);
-		if (channel.getType() != OpenemsType.BOOLEAN) {
+		if (channelId.doc().getType() != OpenemsType.BOOLEAN) {
 			throw new IllegalArgumentException("Channel [" + channelId + "] must be of type [BOOLEAN] for bit-mapping");
 		}
+
+		if (this.component.isLazyChannel(channelId)) {
+			// Do not create the Channel object; lazy Channels are always read-only
+			this.channels[bitIndex] = new ChannelWrapper(channelId, null, converter);
+			return this;
+		}
+
+		Channel<?> channel = this.component.channel(channelId);
 		@SuppressWarnings("unchecked")
 		var booleanChannel = (Channel<Boolean>) channel;
 
-		var channelWrapper = new ChannelWrapper(booleanChannel, converter);
+		var channelWrapper = new ChannelWrapper(channelId, booleanChannel, converter);
 
 		// Set Channel-Source
 		channel.setMetaInfo(channelMetaInfoBit);
@@ -133,16 +140,12 @@ public class BitsWordElement extends UnsignedWordElement {
 	 * @param registers the InputRegisters
 	 */
 	@Override
-	protected void _setInputRegisters(InputRegister... registers) {
-		if (registers.length != 1) {
-			throw new IllegalArgumentException("Expected only one Register instead of [" + registers.length
-					+ "] for Component [" + this.component.id() + "] on address [" + this.getStartAddress() + "]");
-		}
-
+	protected void _setInputRegisters(InputRegister[] registers, int offset) {
 		// convert Register to int
-		var buff = ByteBuffer.allocate(2).order(this.getByteOrder());
-		buff.put(registers[0].toBytes());
-		var value = Short.toUnsignedInt(buff.getShort(0));
+		var value = registers[offset].getValue();
+		if (this.getByteOrder() == ByteOrder.LITTLE_ENDIAN) {
+			value = Short.toUnsignedInt(Short.reverseBytes((short) value));
+		}
 
 		for (var bitIndex = 0; bitIndex < 16; bitIndex++) {
 			// Get Wrapper
@@ -164,7 +167,11 @@ public class BitsWordElement extends UnsignedWordElement {
 			}
 
 			// Set Value to Channel
-			wrapper.channel.setNextValue(setValue);
+			if (wrapper.channel != null) {
+				wrapper.channel.setNextValue(setValue);
+			} else {
+				this.component._setNextValueLazily(wrapper.channelId, setValue);
+			}
 		}
 	}
 
@@ -205,7 +212,7 @@ public class BitsWordElement extends UnsignedWordElement {
 			}
 			var valueOpt = wrapper.getWriteValue();
 			if (!valueOpt.isPresent()) {
-				channelsWithMissingWriteValue.add(wrapper.channel.address());
+				channelsWithMissingWriteValue.add(new ChannelAddress(this.component.id(), wrapper.channelId.id()));
 				continue;
 			}
 			// Write-Value exists
@@ -279,11 +286,14 @@ public class BitsWordElement extends UnsignedWordElement {
 	}
 
 	private static class ChannelWrapper {
-		private final Channel<?> channel;
+		private final ChannelId channelId;
+		/* 'null' for a lazy Channel that should not be created */
+		private final Channel<Boolean> channel;
 		private final BitConverter converter;
 		private Optional<Boolean> writeValue = Optional.empty();
 
-		protected ChannelWrapper(Channel<Boolean> channel, BitConverter converter) {
+		protected ChannelWrapper(ChannelId channelId, Channel<Boolean> channel, BitConverter converter) {
+			this.channelId = channelId;
 			this.channel = channel;
 			this.converter = converter;
 		}
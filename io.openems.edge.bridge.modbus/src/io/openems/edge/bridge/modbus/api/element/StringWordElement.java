@@ -38,17 +38,17 @@ public class StringWordElement extends AbstractModbusRegisterElement<StringWordE
 	}
 
 	@Override
-	protected final void _setInputRegisters(InputRegister... registers) {
+	protected final void _setInputRegisters(InputRegister[] registers, int offset) {
 		// convert registers
 		var buff = ByteBuffer.allocate(this.length * 2).order(this.getByteOrder());
-		for (InputRegister r : registers) {
-			var bs = r.toBytes();
-			for (var i = 0; i < bs.length; i++) {
-				if (bs[i] == 0) {
-					bs[i] = 32; // replace '0' with ASCII space
-				}
+		for (var i = offset; i < offset + this.length; i++) {
+			putRegister(buff, registers[i]);
+		}
+		var bs = buff.array();
+		for (var i = 0; i < bs.length; i++) {
+			if (bs[i] == 0) {
+				bs[i] = 32; // replace '0' with ASCII space
 			}
-			buff.put(bs);
 		}
 
 		var value = this.fromByteBuffer(buff);
@@ -1,6 +1,9 @@
 package io.openems.edge.bridge.modbus.api.task;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -14,6 +17,7 @@ import com.ghgande.j2mod.modbus.procimg.InputRegister;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.element.AbstractModbusElement;
+import io.openems.edge.bridge.modbus.api.element.DummyElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.common.taskmanager.Priority;
 
@@ -28,6 +32,12 @@ public abstract class AbstractReadTask<T> extends AbstractTask implements ReadTa
 
 	private final Priority priority;
 
+	private long refreshInterval = 0;
+
+	// Pre-compiled on first response by compileFillPlan()
+	private ModbusElement<?>[] fillPlanElements = null;
+	private int[] fillPlanPositions = null;
+
 	public AbstractReadTask(int startAddress, Priority priority, AbstractModbusElement<?>... elements) {
 		super(startAddress, elements);
 		this.priority = priority;
@@ -105,21 +115,59 @@ public abstract class AbstractReadTask<T> extends AbstractTask implements ReadTa
 	}
 
 	protected void fillElements(T[] response) {
+		if (this.fillPlanElements == null) {
+			this.compileFillPlan();
+		}
+		var elements = this.fillPlanElements;
+		var positions = this.fillPlanPositions;
+		for (var i = 0; i < elements.length; i++) {
+			try {
+				this.doElementSetInput(elements[i], positions[i], response);
+			} catch (OpenemsException e) {
+				this.doWarnLog(e);
+			}
+		}
+	}
+
+	/**
+	 * Compiles the elements that need to be filled and their positions in the
+	 * response. Elements of this task do not change after construction, so
+	 * instance checks and position calculation are done only once. Ignored
+	 * elements and {@link DummyElement}s are skipped.
+	 */
+	private void compileFillPlan() {
+		var elements = this.getElements();
+		List<ModbusElement<?>> planElements = new ArrayList<>(elements.length);
+		var planPositions = new int[elements.length];
 		var position = 0;
-		for (ModbusElement<?> modbusElement : this.getElements()) {
+		for (ModbusElement<?> modbusElement : elements) {
 			if (!this.isCorrectElementInstance(modbusElement)) {
 				this.doErrorLog(modbusElement);
-			} else {
-				try {
-					if (!modbusElement.isIgnored()) {
-						this.doElementSetInput(modbusElement, position, response);
-					}
-				} catch (OpenemsException e) {
-					this.doWarnLog(e);
-				}
+			} else if (!modbusElement.isIgnored() && !(modbusElement instanceof DummyElement)) {
+				planPositions[planElements.size()] = position;
+				planElements.add(modbusElement);
 			}
 			position = this.increasePosition(position, modbusElement);
 		}
+		this.fillPlanPositions = Arrays.copyOf(planPositions, planElements.size());
+		this.fillPlanElements = planElements.toArray(new ModbusElement<?>[planElements.size()]);
+	}
+
+	/**
+	 * Declares the targeted refresh interval of a {@link Priority#LOW} task. The
+	 * task is not read again before the interval has passed.
+	 *
+	 * @param refreshInterval the interval
+	 * @return myself
+	 */
+	public AbstractReadTask<T> refreshInterval(Duration refreshInterval) {
+		this.refreshInterval = refreshInterval.toMillis();
+		return this;
+	}
+
+	@Override
+	public long getRefreshInterval() {
+		return this.refreshInterval;
 	}
 
 	@Override
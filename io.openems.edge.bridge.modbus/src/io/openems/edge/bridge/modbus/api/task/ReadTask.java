@@ -2,6 +2,7 @@ package io.openems.edge.bridge.modbus.api.task;
 
 import io.openems.edge.bridge.modbus.api.element.AbstractModbusElement;
 import io.openems.edge.common.taskmanager.ManagedTask;
+import io.openems.edge.common.taskmanager.Priority;
 
 /**
  * A Modbus 'ReadTask' is holding references to one or more Modbus
@@ -10,4 +11,15 @@ import io.openems.edge.common.taskmanager.ManagedTask;
  * WriteTask} inherits from ReadTask.
  */
 public interface ReadTask extends Task, ManagedTask {
+
+	/**
+	 * Gets the targeted refresh interval of a {@link Priority#LOW} task.
+	 *
+	 * @return the interval in [ms]; 0 to read all LOW tasks in turn, i.e. one of
+	 *         them per Cycle on average
+	 */
+	public default long getRefreshInterval() {
+		return 0;
+	}
+
 }
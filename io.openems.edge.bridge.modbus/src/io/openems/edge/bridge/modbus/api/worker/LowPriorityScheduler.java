@@ -0,0 +1,184 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import com.google.common.collect.Multimap;
+
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Plans the execution of {@link Priority#LOW} Read-Tasks.
+ *
+ * <p>
+ * Every task is due once its refresh interval (see
+ * {@link ReadTask#getRefreshInterval()}) has passed since it was last planned.
+ * Tasks without a declared interval are due once every N Cycles, where N is
+ * the number of LOW tasks; on average this reads one of them per Cycle, i.e.
+ * the bus load does not grow with the number of LOW tasks. The first deadlines
+ * of new tasks are one Cycle apart, so that they stay spread over the Cycles
+ * instead of becoming due all at once. Due tasks are planned
+ * earliest-deadline-first into the idle time of the Cycle, i.e. the time that
+ * is left after all HIGH priority and write tasks. The earliest due task is
+ * always planned, even if it does not fit.
+ *
+ * <p>
+ * To be fair among Components, a first round plans at most one task per
+ * Component; remaining idle time is filled in a second round. Components with
+ * failed communication are skipped in the second round.
+ */
+class LowPriorityScheduler {
+
+	private static class State {
+		private final String sourceId;
+		private final ReadTask task;
+		private long lastPlanned;
+		private boolean hasBeenPlanned = false;
+		private long deadline;
+
+		private State(String sourceId, ReadTask task, long now, long deadline) {
+			this.sourceId = sourceId;
+			this.task = task;
+			this.lastPlanned = now;
+			this.deadline = deadline;
+		}
+
+		private void updateDeadline(long defaultRefreshInterval) {
+			if (!this.hasBeenPlanned) {
+				return;
+			}
+			var refreshInterval = this.task.getRefreshInterval();
+			this.deadline = this.lastPlanned + (refreshInterval > 0 ? refreshInterval : defaultRefreshInterval);
+		}
+	}
+
+	private static final Comparator<State> EARLIEST_DEADLINE_FIRST = Comparator.comparingLong(s -> s.deadline);
+
+	private final Clock clock;
+	private final Map<ReadTask, State> states = new IdentityHashMap<>();
+
+	private long maxAge = 0;
+
+	public LowPriorityScheduler(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Gets the tasks to be executed in the current Cycle.
+	 *
+	 * @param tasks     the {@link Priority#LOW} tasks by Source-ID
+	 * @param cycleTime the Cycle-Time in [ms]
+	 * @param budget    the idle time of the Cycle in [ms]
+	 * @param duration  the predicted duration of a task in [ms]
+	 * @return the planned tasks, earliest deadline first
+	 */
+	public synchronized List<ReadTask> getTasks(Multimap<String, ReadTask> tasks, long cycleTime, long budget,
+			ToLongFunction<ReadTask> duration) {
+		var now = this.clock.millis();
+		var defaultRefreshInterval = tasks.size() * cycleTime;
+
+		// Collect due tasks; forget about removed tasks
+		List<State> due = new ArrayList<>();
+		Set<ReadTask> current = Collections.newSetFromMap(new IdentityHashMap<>());
+		var maxAge = 0L;
+		var newTasks = 0;
+		for (var entry : tasks.entries()) {
+			var task = entry.getValue();
+			current.add(task);
+			var state = this.states.get(task);
+			if (state == null) {
+				// Stagger the first deadlines by one Cycle each
+				state = new State(entry.getKey(), task, now, now + newTasks++ * cycleTime);
+				this.states.put(task, state);
+			}
+			state.updateDeadline(defaultRefreshInterval);
+			if (state.deadline <= now) {
+				due.add(state);
+			}
+			maxAge = Math.max(maxAge, now - state.lastPlanned);
+		}
+		this.states.keySet().retainAll(current);
+		this.maxAge = maxAge;
+		due.sort(EARLIEST_DEADLINE_FIRST);
+
+		// First round: one task per Component
+		List<ReadTask> result = new ArrayList<>();
+		Set<State> planned = new HashSet<>();
+		Set<String> plannedComponents = new HashSet<>();
+		var remaining = budget;
+		for (var state : due) {
+			if (plannedComponents.contains(state.sourceId)) {
+				continue;
+			}
+			var taskDuration = duration.applyAsLong(state.task);
+			if (!result.isEmpty() && taskDuration > remaining) {
+				continue;
+			}
+			plannedComponents.add(state.sourceId);
+			planned.add(state);
+			remaining -= taskDuration;
+			this.plan(state, now, result);
+		}
+
+		// Second round: fill remaining idle time
+		for (var state : due) {
+			if (planned.contains(state)) {
+				continue;
+			}
+			var taskDuration = duration.applyAsLong(state.task);
+			if (taskDuration > remaining || isCommunicationFailed(state.task)) {
+				continue;
+			}
+			remaining -= taskDuration;
+			this.plan(state, now, result);
+		}
+		return result;
+	}
+
+	private void plan(State state, long now, Collection<ReadTask> result) {
+		state.lastPlanned = now;
+		state.hasBeenPlanned = true;
+		result.add(state.task);
+	}
+
+	private static boolean isCommunicationFailed(ReadTask task) {
+		var parent = task.getParent();
+		return parent != null && parent.getModbusCommunicationFailed().get() == Boolean.TRUE;
+	}
+
+	/**
+	 * Gets the time since the given task was last planned for execution.
+	 *
+	 * @param task the {@link ReadTask}
+	 * @return the age in [ms]; null if the task is unknown
+	 */
+	public synchronized Long getAge(ReadTask task) {
+		var state = this.states.get(task);
+		if (state == null) {
+			return null;
+		}
+		return this.clock.millis() - state.lastPlanned;
+	}
+
+	/**
+	 * Gets the maximum age of all tasks, i.e. the time since the least recently
+	 * planned task was planned for execution, as seen in the last call of
+	 * {@link #getTasks(Multimap, long, long, ToLongFunction)}.
+	 *
+	 * @return the maximum age in [ms]
+	 */
+	public synchronized long getMaxAge() {
+		return this.maxAge;
+	}
+
+}
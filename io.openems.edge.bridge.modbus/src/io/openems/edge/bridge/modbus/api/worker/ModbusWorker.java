@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
@@ -36,23 +37,62 @@ import io.openems.edge.common.taskmanager.Priority;
  * TOPIC_CYCLE_EXECUTE_WRITE event) and all Read-Tasks as late as possible to
  * have correct values available exactly when they are needed (i.e. at the
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event).
+ *
+ * <p>
+ * Low priority Read-Tasks are planned by the {@link LowPriorityScheduler} into
+ * the idle time that is left in the cycle.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
-	private static final long TASK_DURATION_BUFFER = 50;
+	/**
+	 * Buffer for scheduling delays of the worker thread in [ms]. Variations of
+	 * the task durations are covered by the {@link TimingModel}.
+	 */
+	private static final long TASK_DURATION_BUFFER = 10;
+
+	/**
+	 * Sums up the predicted durations of independent tasks.
+	 */
+	private class Prediction {
+		private double mean = 0;
+		private double variance = 0;
+
+		private void addAll(Collection<? extends Task> tasks) {
+			for (Task task : tasks) {
+				this.mean += ModbusWorker.this.timingModel.getMean(task);
+				this.variance += ModbusWorker.this.timingModel.getVariance(task);
+			}
+		}
+
+		/**
+		 * Gets the predicted 95th percentile of the total duration.
+		 *
+		 * @return the duration in [ms]
+		 */
+		private long getDuration() {
+			return Math.round(this.mean + TimingModel.Z_95 * Math.sqrt(this.variance));
+		}
+	}
 
 	private final Logger log = LoggerFactory.getLogger(ModbusWorker.class);
 	private final Stopwatch stopwatch = Stopwatch.createUnstarted();
 	private final LinkedBlockingDeque<Task> tasksQueue = new LinkedBlockingDeque<>();
 	private final MetaTasksManager<ReadTask> readTasksManager = new MetaTasksManager<>();
 	private final MetaTasksManager<WriteTask> writeTasksManager = new MetaTasksManager<>();
+	private final LowPriorityScheduler lowPriorityScheduler = new LowPriorityScheduler(Clock.systemDefaultZone());
 	private final AbstractModbusBridge parent;
+	private final TimingModel timingModel;
 
 	// The measured duration between BeforeProcessImage event and ExecuteWrite event
 	private long durationBetweenBeforeProcessImageTillExecuteWrite = 0;
 
+	// The measured duration of the tasks in the current queue; only accessed by
+	// the worker thread
+	private double actualDuration = 0;
+
 	public ModbusWorker(AbstractModbusBridge parent) {
 		this.parent = parent;
+		this.timingModel = new TimingModel(parent::getMinimumTransactionDuration);
 	}
 
 	/**
@@ -68,33 +108,30 @@ public class ModbusWorker extends AbstractImmediateWorker {
 			return;
 		}
 
-		// Collect the next read-tasks
-		List<ReadTask> nextReadTasks = new ArrayList<>();
-		var lowPriorityTask = this.getOneLowPriorityReadTask();
-		if (lowPriorityTask != null) {
-			nextReadTasks.add(lowPriorityTask);
-		}
-		nextReadTasks.addAll(this.getAllHighPriorityReadTasks());
-		var readTasksDuration = 0L;
-		for (ReadTask task : nextReadTasks) {
-			readTasksDuration += task.getExecuteDuration();
-		}
-
-		// collect the next write-tasks
-		var writeTasksDuration = 0L;
+		// Collect the next high-priority read-tasks and write-tasks
+		var highPriorityTasks = this.getAllHighPriorityReadTasks();
 		var nextWriteTasks = this.getAllWriteTasks();
-		for (WriteTask task : nextWriteTasks) {
-			writeTasksDuration += task.getExecuteDuration();
-		}
+		var fixedTasksPrediction = new Prediction();
+		fixedTasksPrediction.addAll(highPriorityTasks);
+		fixedTasksPrediction.addAll(nextWriteTasks);
 
-		// plan the execution for the next cycles
-		var totalDuration = readTasksDuration + writeTasksDuration;
-		var totalDurationWithBuffer = totalDuration + TASK_DURATION_BUFFER;
+		// Fill the idle time of the cycle with low-priority read-tasks
 		var cycleTime = this.parent.getCycle().getCycleTime();
+		var idleTime = cycleTime - fixedTasksPrediction.getDuration() - TASK_DURATION_BUFFER;
+		List<ReadTask> nextReadTasks = new ArrayList<>(this.getLowPriorityReadTasks(cycleTime, idleTime));
+		nextReadTasks.addAll(highPriorityTasks);
+
+		// plan the execution for the next cycles
+		var prediction = new Prediction();
+		prediction.addAll(nextReadTasks);
+		prediction.addAll(nextWriteTasks);
+		var predictedDuration = prediction.getDuration();
+		var totalDurationWithBuffer = predictedDuration + TASK_DURATION_BUFFER;
 		var noOfRequiredCycles = ceilDiv(totalDurationWithBuffer, cycleTime);
 
-		// Set EXECUTION_DURATION channel
-		this.parent._setExecutionDuration(totalDuration);
+		// Set EXECUTION_DURATION and PREDICTED_EXECUTION_DURATION channels
+		this.parent._setExecutionDuration(Math.round(prediction.mean));
+		this.parent._setPredictedExecutionDuration(predictedDuration);
 
 		// Set CYCLE_TIME_IS_TOO_SHORT state-channel
 		if (noOfRequiredCycles > 1) {
@@ -103,14 +140,16 @@ public class ModbusWorker extends AbstractImmediateWorker {
 			this.parent._setCycleTimeIsTooShort(false);
 		}
 
-		var durationOfTasksBeforeExecuteWriteEvent = 0L;
+		// Plan read-tasks to finish before ExecuteWrite event, even if they take
+		// longer than usual
+		var durationOfTasksBeforeExecuteWriteEvent = 0.;
 		var noOfTasksBeforeExecuteWriteEvent = 0;
 		for (ReadTask task : nextReadTasks) {
+			durationOfTasksBeforeExecuteWriteEvent += this.timingModel.getP95(task);
 			if (durationOfTasksBeforeExecuteWriteEvent > this.durationBetweenBeforeProcessImageTillExecuteWrite) {
 				break;
 			}
 			noOfTasksBeforeExecuteWriteEvent++;
-			durationOfTasksBeforeExecuteWriteEvent += task.getExecuteDuration();
 		}
 
 		// Build Queue
@@ -159,17 +198,30 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	protected void forever() throws InterruptedException {
 		var task = this.tasksQueue.takeLast();
 
-		// If there are no tasks in the bridge, there will always be only one
-		// 'WaitTask'.
-		if (task instanceof WaitTask && !this.hasTasks()) {
-			return;
+		if (task instanceof WaitTask) {
+			// All other tasks of the queue have been executed
+			this.parent._setActualExecutionDuration(Math.round(this.actualDuration));
+			this.actualDuration = 0;
+
+			// If there are no tasks in the bridge, there will always be only one
+			// 'WaitTask'.
+			if (!this.hasTasks()) {
+				return;
+			}
 		}
 
 		var modbusComponent = task.getParent();
+		var start = System.nanoTime();
 		try {
 			// execute the task
 			var noOfExecutedSubTasks = task.execute(this.parent);
 
+			if (!(task instanceof WaitTask)) {
+				var duration = (System.nanoTime() - start) / 1_000_000.;
+				this.timingModel.record(task, duration);
+				this.actualDuration += duration;
+			}
+
 			if (noOfExecutedSubTasks > 0) {
 				// no exception & at least one sub-task executed -> remove this component from
 				// erroneous list and set the CommunicationFailedChannel to false
@@ -179,6 +231,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 			}
 
 		} catch (OpenemsException e) {
+			this.actualDuration += (System.nanoTime() - start) / 1_000_000.;
 			OpenemsComponent.logWarn(this.parent, this.log, task.toString() + " execution failed: " + e.getMessage());
 
 			// mark this component as erroneous
@@ -194,13 +247,21 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	}
 
 	/**
-	 * Gets one Read-Tasks with priority Low or Once.
+	 * Gets the Low-Priority Read-Tasks for the next cycle.
 	 *
-	 * @return a list of ReadTasks by Source-ID
+	 * <p>
+	 * See {@link LowPriorityScheduler} for details.
+	 *
+	 * @param cycleTime the cycle time in [ms]
+	 * @param idleTime  the idle time of the cycle in [ms]
+	 * @return a list of ReadTasks
 	 */
-	private ReadTask getOneLowPriorityReadTask() {
-		var lowPriorityTask = this.readTasksManager.getOneTask(Priority.LOW);
-		return lowPriorityTask;
+	private List<ReadTask> getLowPriorityReadTasks(long cycleTime, long idleTime) {
+		var tasks = this.readTasksManager.getAllTasksBySourceId(Priority.LOW);
+		var result = this.lowPriorityScheduler.getTasks(tasks, cycleTime, idleTime,
+				task -> Math.round(this.timingModel.getP95(task)));
+		this.parent._setLowPriorityMaxAge(this.lowPriorityScheduler.getMaxAge());
+		return result;
 	}
 
 	/**
@@ -0,0 +1,119 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.ToLongFunction;
+
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Learns the execution duration of Modbus Tasks on one bridge.
+ *
+ * <p>
+ * Mean and variance of every task are tracked as exponentially weighted moving
+ * averages; the 95th percentile is approximated from both. Before the first
+ * execution a task is predicted by its default duration, but never below the
+ * minimum duration that is imposed by the physical bus (e.g. transmission time
+ * and inter-frame gaps on a serial line).
+ */
+class TimingModel {
+
+	/**
+	 * Weight of a new sample in the moving averages.
+	 */
+	private static final double ALPHA = 0.1;
+
+	/**
+	 * Z-Score of the 95th percentile of a normal distribution.
+	 */
+	static final double Z_95 = 1.645;
+
+	/**
+	 * Relative standard deviation that is assumed for unknown tasks.
+	 */
+	private static final double DEFAULT_RELATIVE_DEVIATION = 0.25;
+
+	private static class Stats {
+		private double mean;
+		private double variance;
+	}
+
+	private final Map<Task, Stats> stats = new WeakHashMap<>();
+	private final ToLongFunction<Task> minimumDuration;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param minimumDuration the minimum duration of a task in [µs] that is
+	 *                        imposed by the physical bus
+	 */
+	public TimingModel(ToLongFunction<Task> minimumDuration) {
+		this.minimumDuration = minimumDuration;
+	}
+
+	/**
+	 * Records a measured execution duration.
+	 *
+	 * @param task     the {@link Task}
+	 * @param duration the duration in [ms]
+	 */
+	public synchronized void record(Task task, double duration) {
+		var stats = this.stats.get(task);
+		if (stats == null) {
+			stats = new Stats();
+			stats.mean = duration;
+			stats.variance = square(duration * DEFAULT_RELATIVE_DEVIATION);
+			this.stats.put(task, stats);
+			return;
+		}
+		var diff = duration - stats.mean;
+		var increment = ALPHA * diff;
+		stats.mean += increment;
+		stats.variance = (1 - ALPHA) * (stats.variance + diff * increment);
+	}
+
+	/**
+	 * Gets the predicted mean execution duration.
+	 *
+	 * @param task the {@link Task}
+	 * @return the duration in [ms]
+	 */
+	public synchronized double getMean(Task task) {
+		var stats = this.stats.get(task);
+		var mean = stats != null ? stats.mean : task.getExecuteDuration();
+		return Math.max(mean, this.getMinimum(task));
+	}
+
+	/**
+	 * Gets the variance of the execution duration.
+	 *
+	 * @param task the {@link Task}
+	 * @return the variance in [ms²]
+	 */
+	public synchronized double getVariance(Task task) {
+		var stats = this.stats.get(task);
+		if (stats != null) {
+			return stats.variance;
+		}
+		return square(this.getMean(task) * DEFAULT_RELATIVE_DEVIATION);
+	}
+
+	/**
+	 * Gets the predicted 95th percentile of the execution duration.
+	 *
+	 * @param task the {@link Task}
+	 * @return the duration in [ms]
+	 */
+	public synchronized double getP95(Task task) {
+		return this.getMean(task) + Z_95 * Math.sqrt(this.getVariance(task));
+	}
+
+	private double getMinimum(Task task) {
+		return this.minimumDuration.applyAsLong(task) / 1000.;
+	}
+
+	private static double square(double value) {
+		return value * value;
+	}
+
+}
@@ -1,6 +1,11 @@
 package io.openems.edge.bridge.modbus.sunspec;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -15,14 +20,15 @@ import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
 import io.openems.edge.bridge.modbus.api.ElementToChannelConverter;
 import io.openems.edge.bridge.modbus.api.ElementToChannelScaleFactorConverter;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
-import io.openems.edge.bridge.modbus.api.ModbusUtils;
 import io.openems.edge.bridge.modbus.api.element.AbstractModbusElement;
 import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.StringWordElement;
 import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
 import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
 import io.openems.edge.bridge.modbus.api.task.FC16WriteRegistersTask;
@@ -36,12 +42,32 @@ import io.openems.edge.common.taskmanager.Priority;
  */
 public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsModbusComponent {
 
+	/**
+	 * Maximum number of registers of one FC3 request (Modbus Application Protocol,
+	 * 6.3).
+	 */
+	protected static final int MAX_REGISTERS_PER_READ = 125;
+
+	/**
+	 * Maximum number of unused registers that are read in order to merge two
+	 * Read-Tasks.
+	 */
+	private static final int MAX_MERGE_GAP = 16;
+
 	private final Logger log = LoggerFactory.getLogger(AbstractOpenemsSunSpecComponent.class);
 
 	// The active SunSpec-Models and their reading-priority
 	private final Map<SunSpecModel, Priority> activeModels;
 	private final ModbusProtocol modbusProtocol;
 
+	// Read-Elements of added blocks by reading-priority; merged to tasks once all
+	// blocks were added
+	private final Map<Priority, List<AbstractModbusElement<?>>> pendingReadElements = new EnumMap<>(
+			Priority.class);
+
+	// The blocks found while walking the SunSpec model chain
+	private final List<SunSpecBlockMap.Block> discoveredBlocks = new ArrayList<>();
+
 	private int readFromCommonBlockNo = 1;
 	private int commonBlockCounter = 0;
 
@@ -83,22 +109,29 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 				.collect(Collectors.toSet());
 
 		// Start the SunSpec read procedure...
-		this.isSunSpec().thenAccept(isSunSpec -> {
-			if (!isSunSpec) {
-				throw new IllegalArgumentException("This modbus device is not SunSpec!");
+		this.readIdentity().thenAccept(identity -> {
+			// Use the blocks that were discovered before on this device
+			var cacheFile = SunSpecBlockMap.getCacheFile(identity);
+			var blockMap = this.readBlockMap(cacheFile, identity);
+			if (blockMap != null && blockMap.containsAll(expectedBlocks)) {
+				this.logInfo(this.log, "Using cached SunSpec block map [" + cacheFile + "]");
+				for (var block : blockMap.getBlocks()) {
+					this.addActiveBlock(block.getBlockId(), block.getStartAddress());
+				}
+				this.completeSunSpecInitialization();
+				return;
 			}
 
 			try {
-				this.readNextBlock(40_002, expectedBlocks).thenRun(() -> {
-					this.isSunSpecInitializationCompleted = true;
-					this.onSunSpecInitializationCompleted();
+				this.readNextBlock(40_002, expectedBlocks).thenAccept(complete -> {
+					this.writeBlockMap(cacheFile, new SunSpecBlockMap(identity, this.discoveredBlocks, complete));
+					this.completeSunSpecInitialization();
 				});
 
 			} catch (OpenemsException e) {
 				this.logWarn(this.log, "Error while reading SunSpec identifier block: " + e.getMessage());
 				e.printStackTrace();
-				this.isSunSpecInitializationCompleted = true;
-				this.onSunSpecInitializationCompleted();
+				this.completeSunSpecInitialization();
 			}
 		});
 		return super.activate(context, id, alias, enabled, unitId, cm, modbusReference, modbusId);
@@ -110,25 +143,54 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	}
 
 	/**
-	 * Validates that this device complies to SunSpec specification.
+	 * Validates that this device complies to SunSpec specification and reads its
+	 * identity from the Common Model.
 	 *
 	 * <p>
-	 * Tests if first registers are 0x53756e53 ("SunS").
+	 * Tests if first registers are 0x53756e53 ("SunS"). Manufacturer, model,
+	 * version and serial number are read within the same request.
 	 *
-	 * @return a future true if it is SunSpec; otherwise false
+	 * @return a future with the identity of the device; null if it can not be
+	 *         identified
 	 * @throws OpenemsException on error
 	 */
-	private CompletableFuture<Boolean> isSunSpec() throws OpenemsException {
-		final var result = new CompletableFuture<Boolean>();
-		ModbusUtils.readELementOnce(this.modbusProtocol, new UnsignedDoublewordElement(40_000), true)
-				.thenAccept(value -> {
-					if (value == 0x53756e53) {
-						result.complete(true);
-					} else {
-						result.complete(false);
-					}
-				});
-		return result;
+	private CompletableFuture<String> readIdentity() throws OpenemsException {
+		return this.readElementsOnce(//
+				new UnsignedDoublewordElement(40_000), //
+				new UnsignedWordElement(40_002), // Common Model ID
+				new UnsignedWordElement(40_003), // Common Model length
+				new StringWordElement(40_004, 16), // Mn
+				new StringWordElement(40_020, 16), // Md
+				new StringWordElement(40_036, 8), // Opt
+				new StringWordElement(40_044, 8), // Vr
+				new StringWordElement(40_052, 16) // SN
+		).thenApply(values -> {
+			if ((Long) values.get(0) != 0x53756e53) {
+				throw new IllegalArgumentException("This modbus device is not SunSpec!");
+			}
+			if ((Integer) values.get(1) != 1 /* SunSpecModel.S_1 */) {
+				return null;
+			}
+			return SunSpecBlockMap.getIdentity(((String) values.get(3)).trim(), ((String) values.get(4)).trim(),
+					((String) values.get(6)).trim(), ((String) values.get(7)).trim(), this.readFromCommonBlockNo);
+		});
+	}
+
+	private SunSpecBlockMap readBlockMap(Path cacheFile, String identity) {
+		try {
+			return SunSpecBlockMap.read(cacheFile, identity);
+		} catch (IOException | OpenemsNamedException | RuntimeException e) {
+			this.logWarn(this.log, "Unable to read SunSpec block map [" + cacheFile + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeBlockMap(Path cacheFile, SunSpecBlockMap blockMap) {
+		try {
+			blockMap.write(cacheFile);
+		} catch (IOException e) {
+			this.logWarn(this.log, "Unable to write SunSpec block map [" + cacheFile + "]: " + e.getMessage());
+		}
 	}
 
 	/**
@@ -136,16 +198,18 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	 *
 	 * @param startAddress    the startAddress
 	 * @param remainingBlocks the remaining blocks expected to read
-	 * @return a future that completes once reading the block finished
+	 * @return a future that completes once reading the block finished; true if
+	 *         the END_OF_MAP was reached
 	 * @throws OpenemsException on error
 	 */
-	private CompletableFuture<Void> readNextBlock(int startAddress, Set<Integer> remainingBlocks)
+	private CompletableFuture<Boolean> readNextBlock(int startAddress, Set<Integer> remainingBlocks)
 			throws OpenemsException {
-		final var finished = new CompletableFuture<Void>();
+		final var finished = new CompletableFuture<Boolean>();
 
 		// Finish if all expected Blocks have been read
 		if (remainingBlocks.isEmpty()) {
-			finished.complete(null);
+			finished.complete(false);
+			return finished;
 		}
 
 		/*
@@ -162,7 +226,7 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 
 					// END_OF_MAP
 					if (blockId == 0xFFFF) {
-						finished.complete(null);
+						finished.complete(true);
 						return;
 					}
 
@@ -177,25 +241,9 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 						// ignore all SunSpec blocks before 'startFromCommonBlockNo' was passed
 
 					} else {
-
-						// Should this Block be considered?
-						var activeEntry = this.getActiveModelForId(blockId);
-						if (activeEntry != null) {
-							var sunSpecModel = activeEntry.getKey();
-							var priority = activeEntry.getValue();
-							try {
-								this.addBlock(startAddress, sunSpecModel, priority);
-								remainingBlocks.remove(activeEntry.getKey().getBlockId());
-							} catch (OpenemsException e) {
-								this.logWarn(this.log, "Error while adding SunSpec-Model [" + blockId
-										+ "] starting at [" + startAddress + "]: " + e.getMessage());
-								e.printStackTrace();
-							}
-
-						} else {
-							// This block is not considered, because the Model is not active
-							this.logInfo(this.log,
-									"Ignoring SunSpec-Model [" + blockId + "] starting at [" + startAddress + "]");
+						this.discoveredBlocks.add(new SunSpecBlockMap.Block(blockId, startAddress));
+						if (this.addActiveBlock(blockId, startAddress)) {
+							remainingBlocks.remove(blockId);
 						}
 					}
 
@@ -205,20 +253,52 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 
 						final var readNextBlockFuture = this.readNextBlock(nextBlockStartAddress, remainingBlocks);
 						// Announce finished when next block (recursively) is finished
-						readNextBlockFuture.thenRun(() -> {
-							finished.complete(null);
+						readNextBlockFuture.thenAccept(complete -> {
+							finished.complete(complete);
 						});
 					} catch (OpenemsException e) {
 						this.logWarn(this.log, "Error while adding SunSpec-Model [" + blockId + "] starting at ["
 								+ startAddress + "]: " + e.getMessage());
 						e.printStackTrace();
-						finished.complete(null); // announce finish immediately to not get stuck
+						finished.complete(false); // announce finish immediately to not get stuck
 					}
 
 				});
 		return finished;
 	}
 
+	/**
+	 * Adds the block if its Model is active.
+	 *
+	 * @param blockId      the SunSpec Block-ID
+	 * @param startAddress the start address of the block
+	 * @return true if the block was added
+	 */
+	private boolean addActiveBlock(int blockId, int startAddress) {
+		// Should this Block be considered?
+		var activeEntry = this.getActiveModelForId(blockId);
+		if (activeEntry == null) {
+			// This block is not considered, because the Model is not active
+			this.logInfo(this.log, "Ignoring SunSpec-Model [" + blockId + "] starting at [" + startAddress + "]");
+			return false;
+		}
+		try {
+			this.addBlock(startAddress, activeEntry.getKey(), activeEntry.getValue());
+			return true;
+		} catch (OpenemsException e) {
+			this.logWarn(this.log, "Error while adding SunSpec-Model [" + blockId + "] starting at ["
+					+ startAddress + "]: " + e.getMessage());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	private void completeSunSpecInitialization() {
+		this.isSunSpecInitializationCompleted = true;
+		this.addPendingReadTasks();
+		this.onSunSpecInitializationCompleted();
+	}
+
 	/**
 	 * Gets the Model and its reading priority; or null if the Model is not
 	 * 'active', i.e. not used by this implementation.
@@ -342,8 +422,74 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 			}
 		}
 
-		final Task readTask = new FC3ReadRegistersTask(elements[0].getStartAddress(), priority, elements);
-		this.modbusProtocol.addTask(readTask);
+		this.pendingReadElements.computeIfAbsent(priority, p -> new ArrayList<>()).addAll(Arrays.asList(elements));
+		if (this.isSunSpecInitializationCompleted) {
+			this.addPendingReadTasks();
+		}
+	}
+
+	/**
+	 * Adds Read-Tasks for all pending Read-Elements. Elements of adjacent blocks
+	 * are merged to as few tasks as possible.
+	 */
+	private void addPendingReadTasks() {
+		for (var entry : this.pendingReadElements.entrySet()) {
+			for (var chunk : toReadChunks(entry.getValue())) {
+				final Task readTask = new FC3ReadRegistersTask(chunk.get(0).getStartAddress(), entry.getKey(),
+						chunk.toArray(new AbstractModbusElement<?>[chunk.size()]));
+				try {
+					this.modbusProtocol.addTask(readTask);
+				} catch (OpenemsException e) {
+					this.logWarn(this.log,
+							"Error while adding SunSpec Read-Task [" + readTask + "]: " + e.getMessage());
+				}
+			}
+		}
+		this.pendingReadElements.clear();
+	}
+
+	/**
+	 * Splits Read-Elements into chunks that can be read with one request each.
+	 *
+	 * <p>
+	 * Elements are ordered by address. Small gaps between elements - e.g. the
+	 * header of the next SunSpec block - are filled with
+	 * {@link DummyRegisterElement}s; a chunk never exceeds
+	 * {@link #MAX_REGISTERS_PER_READ}.
+	 *
+	 * @param elements the Read-Elements
+	 * @return the chunks
+	 */
+	protected static List<List<AbstractModbusElement<?>>> toReadChunks(List<AbstractModbusElement<?>> elements) {
+		List<AbstractModbusElement<?>> sorted = new ArrayList<>(elements);
+		sorted.sort(Comparator.comparingInt(AbstractModbusElement::getStartAddress));
+
+		List<List<AbstractModbusElement<?>>> result = new ArrayList<>();
+		List<AbstractModbusElement<?>> chunk = new ArrayList<>();
+		var chunkStartAddress = 0;
+		var nextAddress = 0;
+		for (var element : sorted) {
+			var startAddress = element.getStartAddress();
+			if (!chunk.isEmpty()) {
+				var gap = startAddress - nextAddress;
+				if (gap < 0 || gap > MAX_MERGE_GAP
+						|| startAddress + element.getLength() - chunkStartAddress > MAX_REGISTERS_PER_READ) {
+					result.add(chunk);
+					chunk = new ArrayList<>();
+				} else if (gap > 0) {
+					chunk.add(new DummyRegisterElement(nextAddress, startAddress - 1));
+				}
+			}
+			if (chunk.isEmpty()) {
+				chunkStartAddress = startAddress;
+			}
+			chunk.add(element);
+			nextAddress = startAddress + element.getLength();
+		}
+		if (!chunk.isEmpty()) {
+			result.add(chunk);
+		}
+		return result;
 	}
 
 	/**
@@ -355,13 +501,26 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 	 * @throws OpenemsException on error
 	 */
 	@SafeVarargs
+	@SuppressWarnings("unchecked")
 	private final <T> CompletableFuture<List<T>> readElementsOnceTyped(AbstractModbusElement<T>... elements)
 			throws OpenemsException {
+		return this.readElementsOnce(elements).thenApply(values -> (List<T>) values);
+	}
+
+	/**
+	 * Reads given Elements of possibly different types once from Modbus.
+	 *
+	 * @param elements the elements
+	 * @return a future list with the values
+	 * @throws OpenemsException on error
+	 */
+	private CompletableFuture<List<Object>> readElementsOnce(AbstractModbusElement<?>... elements)
+			throws OpenemsException {
 		// Register listeners for elements
 		@SuppressWarnings("unchecked")
-		final var subResults = (CompletableFuture<T>[]) new CompletableFuture<?>[elements.length];
+		final var subResults = (CompletableFuture<Object>[]) new CompletableFuture<?>[elements.length];
 		for (var i = 0; i < elements.length; i++) {
-			var subResult = new CompletableFuture<T>();
+			var subResult = new CompletableFuture<Object>();
 			subResults[i] = subResult;
 
 			var element = elements[i];
@@ -379,13 +538,13 @@ public abstract class AbstractOpenemsSunSpecComponent extends AbstractOpenemsMod
 		this.modbusProtocol.addTask(task);
 
 		// Prepare result
-		final var result = new CompletableFuture<List<T>>();
+		final var result = new CompletableFuture<List<Object>>();
 		CompletableFuture.allOf(subResults).thenRun(() -> {
 			// do not try again
 			this.modbusProtocol.removeTask(task);
 
 			// get all results and complete result
-			List<T> values = Stream.of(subResults) //
+			List<Object> values = Stream.of(subResults) //
 					.map(CompletableFuture::join) //
 					.collect(Collectors.toCollection(ArrayList::new));
 			result.complete(values);
@@ -0,0 +1,163 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.FileUtils;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * The SunSpec blocks that were discovered on a device, i.e. their Block-IDs and
+ * start addresses.
+ *
+ * <p>
+ * Block maps are persisted in the OpenEMS Data Directory per device identity,
+ * i.e. manufacturer, model, version and serial number from the SunSpec Common
+ * Model. A firmware update changes the version and with it the identity, so
+ * the blocks are discovered again.
+ */
+public class SunSpecBlockMap {
+
+	private static final String CACHE_PATH = "sunspec";
+
+	public static class Block {
+		private final int blockId;
+		private final int startAddress;
+
+		public Block(int blockId, int startAddress) {
+			this.blockId = blockId;
+			this.startAddress = startAddress;
+		}
+
+		public int getBlockId() {
+			return this.blockId;
+		}
+
+		public int getStartAddress() {
+			return this.startAddress;
+		}
+	}
+
+	/**
+	 * Builds the identity of a device.
+	 *
+	 * @param manufacturer          the manufacturer (Common Model 'Mn')
+	 * @param model                 the model (Common Model 'Md')
+	 * @param version               the version (Common Model 'Vr')
+	 * @param serialNumber          the serial number (Common Model 'SN')
+	 * @param readFromCommonBlockNo the Common Block the device starts at
+	 * @return the identity; null if the device can not be identified
+	 */
+	public static String getIdentity(String manufacturer, String model, String version, String serialNumber,
+			int readFromCommonBlockNo) {
+		if (serialNumber == null || serialNumber.isBlank()) {
+			return null;
+		}
+		return String.join("|", manufacturer, model, version, serialNumber, String.valueOf(readFromCommonBlockNo));
+	}
+
+	/**
+	 * Gets the cache file for a device identity in the OpenEMS Data Directory.
+	 *
+	 * @param identity the identity, see
+	 *                 {@link #getIdentity(String, String, String, String, int)}
+	 * @return the {@link Path}; null if no OpenEMS Data Directory is configured
+	 */
+	public static Path getCacheFile(String identity) {
+		return FileUtils.getJsonFileInDataDir(CACHE_PATH, identity);
+	}
+
+	/**
+	 * Reads a persisted block map.
+	 *
+	 * @param file     the cache file; possibly null
+	 * @param identity the expected identity
+	 * @return the {@link SunSpecBlockMap}; null if not available
+	 * @throws IOException           on read error
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static SunSpecBlockMap read(Path file, String identity) throws IOException, OpenemsNamedException {
+		if (file == null || !Files.exists(file)) {
+			return null;
+		}
+		var json = JsonUtils.parseToJsonObject(Files.readString(file, StandardCharsets.UTF_8));
+		if (!identity.equals(JsonUtils.getAsString(json, "identity"))) {
+			return null;
+		}
+		List<Block> blocks = new ArrayList<>();
+		for (JsonElement block : JsonUtils.getAsJsonArray(json, "blocks")) {
+			blocks.add(new Block(JsonUtils.getAsInt(block, "blockId"), JsonUtils.getAsInt(block, "startAddress")));
+		}
+		return new SunSpecBlockMap(identity, blocks, JsonUtils.getAsBoolean(json, "complete"));
+	}
+
+	private final String identity;
+	private final List<Block> blocks;
+	private final boolean complete;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param identity the identity of the device
+	 * @param blocks   the discovered blocks, ordered by start address
+	 * @param complete true if all blocks till the END_OF_MAP were discovered
+	 */
+	public SunSpecBlockMap(String identity, List<Block> blocks, boolean complete) {
+		this.identity = identity;
+		this.blocks = Collections.unmodifiableList(blocks);
+		this.complete = complete;
+	}
+
+	public List<Block> getBlocks() {
+		return this.blocks;
+	}
+
+	/**
+	 * Does this block map contain all required blocks?.
+	 *
+	 * @param blockIds the required Block-IDs
+	 * @return true if all blocks are known or the map is complete
+	 */
+	public boolean containsAll(Collection<Integer> blockIds) {
+		if (this.complete) {
+			return true;
+		}
+		return blockIds.stream() //
+				.allMatch(blockId -> this.blocks.stream().anyMatch(b -> b.blockId == blockId));
+	}
+
+	/**
+	 * Persists this block map.
+	 *
+	 * @param file the cache file; possibly null
+	 * @throws IOException on write error
+	 */
+	public void write(Path file) throws IOException {
+		if (file == null) {
+			return;
+		}
+		var blocks = JsonUtils.buildJsonArray();
+		for (var block : this.blocks) {
+			blocks.add(JsonUtils.buildJsonObject() //
+					.addProperty("blockId", block.blockId) //
+					.addProperty("startAddress", block.startAddress) //
+					.build());
+		}
+		var json = JsonUtils.buildJsonObject() //
+				.addProperty("identity", this.identity) //
+				.addProperty("complete", this.complete) //
+				.add("blocks", blocks.build()) //
+				.build();
+		FileUtils.writeJsonAtomically(file, json);
+	}
+
+}
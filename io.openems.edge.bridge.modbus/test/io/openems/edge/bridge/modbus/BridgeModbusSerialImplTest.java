@@ -1,10 +1,15 @@
 package io.openems.edge.bridge.modbus;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.common.taskmanager.Priority;
 import io.openems.edge.common.test.ComponentTest;
 
 public class BridgeModbusSerialImplTest {
@@ -27,4 +32,25 @@ public class BridgeModbusSerialImplTest {
 		;
 	}
 
+	@Test
+	public void testMinimumTransactionDuration() throws Exception {
+		var sut = new BridgeModbusSerialImpl();
+		new ComponentTest(sut) //
+				.activate(MyConfigSerial.create() //
+						.setId(MODBUS_ID) //
+						.setPortName("/etc/ttyUSB0") //
+						.setBaudRate(9600) //
+						.setDatabits(8) //
+						.setParity(Parity.NONE) //
+						.setStopbits(Stopbit.ONE) //
+						.setInvalidateElementsAfterReadErrors(1) //
+						.setLogVerbosity(LogVerbosity.NONE) //
+						.build()) //
+		;
+
+		// 15 characters of 10 bits at 9600 baud plus two gaps of 3.5 characters
+		var task = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedWordElement(0));
+		assertEquals(22917, sut.getMinimumTransactionDuration(task));
+	}
+
 }
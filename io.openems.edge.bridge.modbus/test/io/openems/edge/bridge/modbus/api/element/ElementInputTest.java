@@ -0,0 +1,61 @@
+package io.openems.edge.bridge.modbus.api.element;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+
+import io.openems.common.exceptions.OpenemsException;
+
+public class ElementInputTest {
+
+	private static final InputRegister[] REGISTERS = { //
+			new SimpleRegister(0xFFFF), //
+			new SimpleRegister(0x0001), //
+			new SimpleRegister(0x0002), //
+			new SimpleRegister(0x4142), //
+			new SimpleRegister(0x4300) };
+
+	private static <T> T setInput(AbstractModbusRegisterElement<?, T> element, int offset) throws OpenemsException {
+		var result = new AtomicReference<T>();
+		element.onUpdateCallback(result::set);
+		element.setInputRegisters(REGISTERS, offset);
+		return result.get();
+	}
+
+	@Test
+	public void testWord() throws OpenemsException {
+		assertEquals(Short.valueOf((short) -1), setInput(new SignedWordElement(0), 0));
+		assertEquals(Integer.valueOf(1), setInput(new UnsignedWordElement(1), 1));
+		assertEquals(Integer.valueOf(0x0100), setInput(new UnsignedWordElement(1) //
+				.byteOrder(ByteOrder.LITTLE_ENDIAN), 1));
+	}
+
+	@Test
+	public void testDoubleword() throws OpenemsException {
+		assertEquals(Long.valueOf(0x00010002), setInput(new UnsignedDoublewordElement(1), 1));
+		assertEquals(Long.valueOf(0x00020001), setInput(new UnsignedDoublewordElement(1) //
+				.wordOrder(WordOrder.LSWMSW), 1));
+
+		// Reused buffer is reset between reads
+		var element = new UnsignedDoublewordElement(1);
+		assertEquals(Long.valueOf(0x00010002), setInput(element, 1));
+		assertEquals(Long.valueOf(0xFFFF0001L), setInput(element, 0));
+	}
+
+	@Test
+	public void testString() throws OpenemsException {
+		assertEquals("ABC", setInput(new StringWordElement(3, 2), 3));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testTooShort() throws OpenemsException {
+		setInput(new UnsignedDoublewordElement(4), 4);
+	}
+
+}
@@ -0,0 +1,105 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.test.TimeLeapClock;
+
+public class LowPrioritySchedulerTest {
+
+	private static ReadTask task(int address) {
+		// Execute duration defaults to 300 ms
+		return new FC3ReadRegistersTask(address, Priority.LOW, new UnsignedWordElement(address));
+	}
+
+	@Test
+	public void test() {
+		var clock = new TimeLeapClock();
+		var sut = new LowPriorityScheduler(clock);
+
+		var a1 = task(1);
+		var a2 = task(2);
+		var a3 = task(3);
+		var b1 = new FC3ReadRegistersTask(10, Priority.LOW, new UnsignedWordElement(10)) //
+				.refreshInterval(Duration.ofSeconds(10));
+		Multimap<String, ReadTask> tasks = ArrayListMultimap.create();
+		tasks.putAll("a", List.of(a1, a2, a3));
+		tasks.put("b", b1);
+
+		// First deadlines are one Cycle apart
+		assertEquals(List.of(a1), sut.getTasks(tasks, 1000, 650, ReadTask::getExecuteDuration));
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(List.of(a2), sut.getTasks(tasks, 1000, 650, ReadTask::getExecuteDuration));
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(List.of(a3), sut.getTasks(tasks, 1000, 650, ReadTask::getExecuteDuration));
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(List.of(b1), sut.getTasks(tasks, 1000, 650, ReadTask::getExecuteDuration));
+
+		// Tasks without refresh interval are due every 4 Cycles, i.e. once per number
+		// of LOW tasks
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(List.of(a1), sut.getTasks(tasks, 1000, 650, ReadTask::getExecuteDuration));
+
+		// Remaining idle time is filled with further due tasks
+		clock.leap(3, ChronoUnit.SECONDS);
+		assertEquals(List.of(a2, a3), sut.getTasks(tasks, 1000, 650, ReadTask::getExecuteDuration));
+
+		// One task per Component first; 'b1' is due again after its refresh interval
+		clock.leap(6, ChronoUnit.SECONDS);
+		assertEquals(List.of(a1, b1), sut.getTasks(tasks, 1000, 650, ReadTask::getExecuteDuration));
+
+		// Earliest deadline is always planned, even without idle time
+		clock.leap(1, ChronoUnit.SECONDS);
+		assertEquals(List.of(a2), sut.getTasks(tasks, 1000, 0, ReadTask::getExecuteDuration));
+		assertEquals(7000L, sut.getMaxAge());
+		assertEquals(Long.valueOf(1000), sut.getAge(b1));
+		assertEquals(Long.valueOf(0), sut.getAge(a2));
+
+		// Removed tasks are forgotten
+		tasks.removeAll("b");
+		sut.getTasks(tasks, 1000, 0, ReadTask::getExecuteDuration);
+		assertEquals(null, sut.getAge(b1));
+	}
+
+	@Test
+	public void testLoadDoesNotGrowWithNumberOfTasks() {
+		for (var noOfTasks : List.of(1, 5, 20, 50)) {
+			var clock = new TimeLeapClock();
+			var sut = new LowPriorityScheduler(clock);
+			Multimap<String, ReadTask> tasks = ArrayListMultimap.create();
+			for (var i = 0; i < noOfTasks; i++) {
+				tasks.put("device0", task(i));
+			}
+
+			// Plenty of idle time in every Cycle
+			var reads = 0;
+			var maxReadsPerCycle = 0;
+			for (var cycle = 0; cycle < 200; cycle++) {
+				var planned = sut.getTasks(tasks, 1000, 100_000, ReadTask::getExecuteDuration).size();
+				reads += planned;
+				maxReadsPerCycle = Math.max(maxReadsPerCycle, planned);
+				clock.leap(1, ChronoUnit.SECONDS);
+			}
+
+			// One LOW task per Cycle, as with the former round-robin; no bursts
+			assertTrue(reads <= 200);
+			assertEquals(1, maxReadsPerCycle);
+			// ...and every task is read regularly
+			assertTrue(sut.getMaxAge() <= noOfTasks * 1000L);
+		}
+	}
+
+}
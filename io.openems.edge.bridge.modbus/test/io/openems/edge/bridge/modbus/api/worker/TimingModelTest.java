@@ -0,0 +1,43 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class TimingModelTest {
+
+	@Test
+	public void test() {
+		var sut = new TimingModel(t -> 0);
+		var task = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedWordElement(0));
+
+		// Default execute duration before first execution
+		assertEquals(300., sut.getMean(task), 0.001);
+		assertEquals(300. + TimingModel.Z_95 * 75., sut.getP95(task), 0.001);
+
+		// Learns from measured durations
+		sut.record(task, 40);
+		assertEquals(40., sut.getMean(task), 0.001);
+		for (var i = 0; i < 100; i++) {
+			sut.record(task, i % 2 == 0 ? 30 : 50);
+		}
+		assertEquals(40., sut.getMean(task), 1.);
+		var p95 = sut.getP95(task);
+		assertTrue(p95 > 50 && p95 < 60);
+	}
+
+	@Test
+	public void testMinimumDuration() {
+		var sut = new TimingModel(t -> 22_917);
+		var task = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedWordElement(0));
+
+		sut.record(task, 10);
+		assertEquals(22.917, sut.getMean(task), 0.001);
+	}
+
+}
@@ -0,0 +1,93 @@
+package io.openems.edge.bridge.modbus.sunspec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.element.AbstractModbusElement;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+
+public class SunSpecBlockMapTest {
+
+	@Test
+	public void testReadWrite() throws Exception {
+		var identity = SunSpecBlockMap.getIdentity("Fronius", "Symo 10.0-3-M", "0.3.30.2", "12345678", 1);
+		var file = Files.createTempDirectory("sunspec").resolve("blockmap.json");
+
+		new SunSpecBlockMap(identity, List.of(//
+				new SunSpecBlockMap.Block(1, 40_002), //
+				new SunSpecBlockMap.Block(103, 40_070)), false).write(file);
+
+		var sut = SunSpecBlockMap.read(file, identity);
+		assertEquals(2, sut.getBlocks().size());
+		assertEquals(103, sut.getBlocks().get(1).getBlockId());
+		assertEquals(40_070, sut.getBlocks().get(1).getStartAddress());
+		assertTrue(sut.containsAll(Set.of(1, 103)));
+		assertFalse(sut.containsAll(Set.of(1, 103, 160)));
+
+		// Firmware update changes the identity
+		assertNull(SunSpecBlockMap.read(file,
+				SunSpecBlockMap.getIdentity("Fronius", "Symo 10.0-3-M", "0.3.31.0", "12345678", 1)));
+
+		// Complete maps contain all available blocks
+		new SunSpecBlockMap(identity, List.of(), true).write(file);
+		assertTrue(SunSpecBlockMap.read(file, identity).containsAll(Set.of(1, 103, 160)));
+
+		// Devices without serial number are not cached
+		assertNull(SunSpecBlockMap.getIdentity("Fronius", "Symo 10.0-3-M", "0.3.30.2", " ", 1));
+	}
+
+	@Test
+	public void testToReadChunks() {
+		List<AbstractModbusElement<?>> elements = new ArrayList<>(List.of(//
+				new UnsignedWordElement(40_072), //
+				new UnsignedWordElement(40_070), //
+				new UnsignedDoublewordElement(40_071), //
+				new UnsignedWordElement(40_080), //
+				new UnsignedWordElement(40_100)));
+		for (var address = 41_000; address < 41_200; address += 10) {
+			elements.add(new UnsignedWordElement(address));
+		}
+
+		var chunks = AbstractOpenemsSunSpecComponent.toReadChunks(elements);
+		assertEquals(5, chunks.size());
+
+		// Sorted and adjacent
+		var chunk = chunks.get(0);
+		assertEquals(2, chunk.size());
+		assertEquals(40_070, chunk.get(0).getStartAddress());
+		assertEquals(40_071, chunk.get(1).getStartAddress());
+
+		// Overlapping element starts a new chunk; small gap is filled
+		chunk = chunks.get(1);
+		assertEquals(3, chunk.size());
+		assertEquals(40_072, chunk.get(0).getStartAddress());
+		assertTrue(chunk.get(1) instanceof DummyRegisterElement);
+		assertEquals(40_073, chunk.get(1).getStartAddress());
+		assertEquals(7, chunk.get(1).getLength());
+		assertEquals(40_080, chunk.get(2).getStartAddress());
+
+		// Big gap starts a new chunk
+		assertEquals(40_100, chunks.get(2).get(0).getStartAddress());
+
+		// Chunks never exceed the maximum PDU size
+		for (var i = 3; i < 5; i++) {
+			chunk = chunks.get(i);
+			var last = chunk.get(chunk.size() - 1);
+			var length = last.getStartAddress() + last.getLength() - chunk.get(0).getStartAddress();
+			assertTrue(length <= AbstractOpenemsSunSpecComponent.MAX_REGISTERS_PER_READ);
+		}
+		assertEquals(41_130, chunks.get(4).get(0).getStartAddress());
+	}
+
+}
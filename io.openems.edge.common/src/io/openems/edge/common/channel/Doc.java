@@ -142,6 +142,19 @@ public interface Doc {
 	 */
 	public boolean isDebug();
 
+	/**
+	 * Is the Channel lazy?.
+	 *
+	 * <p>
+	 * The Channel object of a lazy Channel is only created on first access via
+	 * {@link OpenemsComponent#channel(String)}; until then its value is held in a
+	 * compact store of the Component. This is useful for rarely used Channels, like
+	 * cell details or error bits of a device.
+	 *
+	 * @return true for lazy Channels
+	 */
+	public boolean isLazy();
+
 	/**
 	 * Creates an instance of {@link Channel} for the given Channel-ID using its
 	 * Channel-{@link AbstractDoc}.
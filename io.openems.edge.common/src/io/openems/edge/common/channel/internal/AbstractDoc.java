@@ -153,6 +153,27 @@ public abstract class AbstractDoc<T> implements Doc {
 		return this.debug;
 	}
 
+	/*
+	 * Lazy Channel
+	 */
+	private boolean lazy = false;
+
+	/**
+	 * Creates the Channel object only on first access. Only applied for
+	 * {@link AccessMode#READ_ONLY} Channels.
+	 *
+	 * @return myself
+	 */
+	public AbstractDoc<T> lazy() {
+		this.lazy = true;
+		return this.self();
+	}
+
+	@Override
+	public boolean isLazy() {
+		return this.lazy;
+	}
+
 	/*
 	 * On Channel initialization Callback
 	 */
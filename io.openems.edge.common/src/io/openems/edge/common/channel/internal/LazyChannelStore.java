@@ -0,0 +1,222 @@
+package io.openems.edge.common.channel.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.type.TypeUtils;
+
+/**
+ * Holds the lazy Channels of a Component that were not materialized yet, i.e.
+ * for which no {@link Channel} object was created so far (see
+ * {@link Doc#isLazy()}).
+ *
+ * <p>
+ * The latest value of each Channel is stored compactly: booleans in a
+ * {@link BitSet}, numbers in a primitive long array. Only Strings are held as
+ * objects.
+ */
+public class LazyChannelStore {
+
+	private final Map<String, Integer> indexes = new HashMap<>();
+	private final List<ChannelId> channelIds = new ArrayList<>();
+	private final BitSet defined = new BitSet();
+	private final BitSet booleans = new BitSet();
+	private long[] numbers = new long[0];
+	private Object[] objects = new Object[0];
+
+	/**
+	 * Adds a lazy Channel.
+	 *
+	 * @param channelId the {@link ChannelId}
+	 * @return false if the Channel-ID had already been added
+	 */
+	public synchronized boolean add(ChannelId channelId) {
+		if (this.indexes.containsKey(channelId.id())) {
+			return false;
+		}
+		this.indexes.put(channelId.id(), this.channelIds.size());
+		this.channelIds.add(channelId);
+		return true;
+	}
+
+	/**
+	 * Is the Channel a lazy Channel that was not materialized yet?.
+	 *
+	 * @param channelId the Channel-ID as a string
+	 * @return true if the Channel is held by this store
+	 */
+	public synchronized boolean contains(String channelId) {
+		return this.indexes.containsKey(channelId);
+	}
+
+	/**
+	 * Gets the Channel-IDs of all Channels that were not materialized yet.
+	 *
+	 * @return a collection of {@link ChannelId}s
+	 */
+	public synchronized Collection<ChannelId> getChannelIds() {
+		List<ChannelId> result = new ArrayList<>(this.indexes.size());
+		for (var channelId : this.channelIds) {
+			if (channelId != null) {
+				result.add(channelId);
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Gets the number of Channels that were not materialized yet.
+	 *
+	 * @return the number of Channels
+	 */
+	public synchronized int size() {
+		return this.indexes.size();
+	}
+
+	/**
+	 * Stores the next value of a Channel.
+	 *
+	 * @param channelId the Channel-ID as a string
+	 * @param value     the value; converted to the type of the Channel
+	 * @return false if the Channel is not held by this store
+	 * @throws IllegalArgumentException if the value can not be converted
+	 */
+	public synchronized boolean setNextValue(String channelId, Object value) throws IllegalArgumentException {
+		var index = this.indexes.get(channelId);
+		if (index == null) {
+			return false;
+		}
+		var type = this.channelIds.get(index).doc().getType();
+		var typedValue = TypeUtils.getAsType(type, value);
+		if (typedValue == null) {
+			this.defined.clear(index);
+			return true;
+		}
+		switch (type) {
+		case BOOLEAN:
+			this.booleans.set(index, (Boolean) typedValue);
+			break;
+		case SHORT:
+		case INTEGER:
+		case LONG:
+			this.getNumbers(index)[index] = ((Number) typedValue).longValue();
+			break;
+		case FLOAT:
+		case DOUBLE:
+			this.getNumbers(index)[index] = Double.doubleToRawLongBits(((Number) typedValue).doubleValue());
+			break;
+		case STRING:
+			this.getObjects(index)[index] = typedValue;
+			break;
+		}
+		this.defined.set(index);
+		return true;
+	}
+
+	/**
+	 * Gets the stored value of a Channel.
+	 *
+	 * @param channelId the Channel-ID as a string
+	 * @return the value; null if no value is stored
+	 */
+	public synchronized Object getValue(String channelId) {
+		var index = this.indexes.get(channelId);
+		if (index == null || !this.defined.get(index)) {
+			return null;
+		}
+		switch (this.channelIds.get(index).doc().getType()) {
+		case BOOLEAN:
+			return this.booleans.get(index);
+		case SHORT:
+			return (short) this.numbers[index];
+		case INTEGER:
+			return (int) this.numbers[index];
+		case LONG:
+			return this.numbers[index];
+		case FLOAT:
+			return (float) Double.longBitsToDouble(this.numbers[index]);
+		case DOUBLE:
+			return Double.longBitsToDouble(this.numbers[index]);
+		case STRING:
+			return this.objects[index];
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the stored values of all Channels that were not materialized yet.
+	 *
+	 * @return a map of {@link ChannelId} to value; Channels without value are
+	 *         not contained
+	 */
+	public synchronized Map<ChannelId, Object> getValues() {
+		if (this.defined.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<ChannelId, Object> result = new HashMap<>();
+		for (var index = this.defined.nextSetBit(0); index >= 0; index = this.defined.nextSetBit(index + 1)) {
+			var channelId = this.channelIds.get(index);
+			result.put(channelId, this.getValue(channelId.id()));
+		}
+		return result;
+	}
+
+	/**
+	 * Creates the {@link Channel} object for a lazy Channel and removes it from
+	 * this store. The stored value is applied to the Channel.
+	 *
+	 * @param <C>       the type of the Channel
+	 * @param component the {@link OpenemsComponent}
+	 * @param channelId the Channel-ID as a string
+	 * @return the Channel; null if the Channel is not held by this store
+	 */
+	public synchronized <C extends Channel<?>> C materialize(OpenemsComponent component, String channelId) {
+		var index = this.indexes.get(channelId);
+		if (index == null) {
+			return null;
+		}
+		var id = this.channelIds.get(index);
+		C channel = id.doc().createChannelInstance(component, id);
+		if (this.defined.get(index)) {
+			// Apply as current and as next value
+			var value = this.getValue(channelId);
+			channel.setNextValue(value);
+			channel.nextProcessImage();
+			channel.setNextValue(value);
+		}
+
+		// Release storage
+		this.indexes.remove(channelId);
+		this.channelIds.set(index, null);
+		this.defined.clear(index);
+		if (index < this.objects.length) {
+			this.objects[index] = null;
+		}
+		return channel;
+	}
+
+	private long[] getNumbers(int index) {
+		if (index >= this.numbers.length) {
+			this.numbers = Arrays.copyOf(this.numbers, this.channelIds.size());
+		}
+		return this.numbers;
+	}
+
+	private Object[] getObjects(int index) {
+		if (index >= this.objects.length) {
+			this.objects = Arrays.copyOf(this.objects, this.channelIds.size());
+		}
+		return this.objects;
+	}
+
+}
@@ -18,6 +18,8 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.CaseFormat;
 
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.ChannelCategory;
 import io.openems.common.channel.PersistencePriority;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.EdgeConfig;
@@ -28,6 +30,7 @@ import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.internal.AbstractDoc;
+import io.openems.edge.common.channel.internal.LazyChannelStore;
 import io.openems.edge.common.type.TypeUtils;
 
 /**
@@ -49,6 +52,11 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 	 */
 	private final Map<String, Channel<?>> channels = new ConcurrentHashMap<>();
 
+	/**
+	 * Holds lazy Channels that were not materialized yet.
+	 */
+	private final LazyChannelStore lazyChannels = new LazyChannelStore();
+
 	private String id = null;
 	private String alias = null;
 	private ComponentContext componentContext = null;
@@ -348,11 +356,22 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 	 * <li>Registers the Channel
 	 * </ul>
 	 *
+	 * <p>
+	 * Creation of lazy {@link AccessMode#READ_ONLY} Channels (see
+	 * {@link Doc#isLazy()}) is deferred till first access.
+	 *
 	 * @param channelId the given Channel-ID
-	 * @return the newly created Channel
+	 * @return the newly created Channel; null for a lazy Channel
 	 */
 	protected Channel<?> addChannel(io.openems.edge.common.channel.ChannelId channelId) {
 		var doc = channelId.doc();
+		if (doc.isLazy() && doc.getAccessMode() == AccessMode.READ_ONLY) {
+			if (this.channels.containsKey(channelId.id()) || !this.lazyChannels.add(channelId)) {
+				throw new IllegalArgumentException(
+						"Duplicated Channel-ID [" + channelId.id() + "] for Component [" + this.id + "]");
+			}
+			return null;
+		}
 		Channel<?> channel = doc.createChannelInstance(this, channelId);
 		this.addChannel(channel);
 		return channel;
@@ -370,7 +389,8 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 			throw new NullPointerException(
 					"Trying to add 'null' Channel. Hint: Check for missing handling of Enum value.");
 		}
-		if (this.channels.containsKey(channel.channelId().id())) {
+		if (this.channels.containsKey(channel.channelId().id())
+				|| this.lazyChannels.contains(channel.channelId().id())) {
 			throw new IllegalArgumentException(
 					"Duplicated Channel-ID [" + channel.channelId().id() + "] for Component [" + this.id + "]");
 		}
@@ -452,7 +472,92 @@ public abstract class AbstractOpenemsComponent implements OpenemsComponent {
 	@Deprecated()
 	@Override
 	public Channel<?> _channel(String channelName) {
-		return this.channels.get(channelName);
+		var channel = this.channels.get(channelName);
+		if (channel == null) {
+			channel = this.materializeChannel(channelName);
+		}
+		return channel;
+	}
+
+	/**
+	 * Creates the Channel object for a lazy Channel.
+	 *
+	 * @param channelName the Channel-ID as a string
+	 * @return the Channel or null if there is no such lazy Channel
+	 */
+	private Channel<?> materializeChannel(String channelName) {
+		synchronized (this.lazyChannels) {
+			var channel = this.channels.get(channelName);
+			if (channel == null) {
+				channel = this.lazyChannels.materialize(this, channelName);
+				if (channel != null) {
+					this.channels.put(channelName, channel);
+					if (channel instanceof StateChannel) {
+						this.getStateChannel().addChannel((StateChannel) channel);
+					}
+				}
+			}
+			return channel;
+		}
+	}
+
+	/**
+	 * Sets the 'next value' of a Channel without creating the Channel object of a
+	 * lazy Channel.
+	 *
+	 * <p>
+	 * The value of a lazy Channel that was not accessed yet is kept in a compact
+	 * store. Lazy StateChannels are created once they become active, so that they
+	 * are considered for the State of this Component.
+	 *
+	 * @param channelId the Channel-ID
+	 * @param value     the 'next value'
+	 * @throws IllegalArgumentException if the Channel is not defined or the value
+	 *                                  can not be converted
+	 */
+	public void _setNextValueLazily(io.openems.edge.common.channel.ChannelId channelId, Object value)
+			throws IllegalArgumentException {
+		var channel = this.channels.get(channelId.id());
+		if (channel == null) {
+			var doc = channelId.doc();
+			if (doc.getChannelCategory() == ChannelCategory.STATE && Boolean.TRUE.equals(value)) {
+				channel = this.materializeChannel(channelId.id());
+
+			} else {
+				synchronized (this.lazyChannels) {
+					try {
+						if (this.lazyChannels.setNextValue(channelId.id(), value)) {
+							return;
+						}
+					} catch (IllegalArgumentException e) {
+						throw new IllegalArgumentException("Unable to set value [" + value + "] for Channel [" + this.id
+								+ "/" + channelId.id() + "]: " + e.getMessage(), e);
+					}
+				}
+				channel = this.channel(channelId);
+			}
+		}
+		channel.setNextValue(value);
+	}
+
+	/**
+	 * Is the Channel a lazy Channel whose Channel object was not created yet?.
+	 *
+	 * @param channelId the Channel-ID
+	 * @return true if the Channel was not materialized yet
+	 */
+	public boolean isLazyChannel(io.openems.edge.common.channel.ChannelId channelId) {
+		return this.lazyChannels.contains(channelId.id());
+	}
+
+	@Override
+	public Collection<io.openems.edge.common.channel.ChannelId> lazyChannelIds() {
+		return this.lazyChannels.getChannelIds();
+	}
+
+	@Override
+	public Map<io.openems.edge.common.channel.ChannelId, Object> lazyChannelValues() {
+		return this.lazyChannels.getValues();
 	}
 
 	/**
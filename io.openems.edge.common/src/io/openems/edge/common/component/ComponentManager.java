@@ -6,11 +6,14 @@ import java.util.List;
 import org.osgi.framework.BundleContext;
 
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.jsonapi.JsonApi;
@@ -31,7 +34,10 @@ public interface ComponentManager extends OpenemsComponent, JsonApi, ClockProvid
 		WAS_OUT_OF_MEMORY(Doc.of(Level.INFO) //
 				.text("OutOfMemory had happened. Found heap dump files.")),
 		DEFAULT_CONFIGURATION_FAILED(Doc.of(Level.FAULT) //
-				.text("Applying the default configuration failed.")),;
+				.text("Applying the default configuration failed.")), //
+		STARTUP_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Time from start till the first stable Cycles")),;
 
 		private final Doc doc;
 
@@ -161,6 +167,47 @@ public interface ComponentManager extends OpenemsComponent, JsonApi, ClockProvid
 		this.getDefaultConfigurationFailedChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#STARTUP_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getStartupDurationChannel() {
+		return this.channel(ChannelId.STARTUP_DURATION);
+	}
+
+	/**
+	 * Gets the Startup Duration in [ms]. See {@link ChannelId#STARTUP_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getStartupDuration() {
+		return this.getStartupDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#STARTUP_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setStartupDuration(Long value) {
+		this.getStartupDurationChannel().setNextValue(value);
+	}
+
+	/**
+	 * Is the startup of OpenEMS Edge completed, i.e. are Components activated and
+	 * Cycles running stable?
+	 *
+	 * <p>
+	 * Non-critical background tasks should be deferred till then.
+	 *
+	 * @return true if startup is completed
+	 */
+	public default boolean isStartupCompleted() {
+		return true;
+	}
+
 	/**
 	 * Gets the OpenEMS Clock - either the real system clock or a mocked clock for
 	 * simulations.
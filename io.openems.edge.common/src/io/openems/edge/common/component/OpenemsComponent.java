@@ -2,7 +2,9 @@ package io.openems.edge.common.component;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Hashtable;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -179,10 +181,40 @@ public interface OpenemsComponent {
 	/**
 	 * Returns all Channels.
 	 *
+	 * <p>
+	 * Lazy Channels (see {@link Doc#isLazy()}) are only contained once they were
+	 * accessed; see {@link #lazyChannelIds()} and {@link #lazyChannelValues()}.
+	 *
 	 * @return a Collection of Channels
 	 */
 	public Collection<Channel<?>> channels();
 
+	/**
+	 * Returns the Channel-IDs of lazy Channels whose Channel object was not
+	 * created yet. Together with {@link #channels()} these are all Channels of the
+	 * Component.
+	 *
+	 * @return a Collection of Channel-IDs
+	 */
+	public default Collection<io.openems.edge.common.channel.ChannelId> lazyChannelIds() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns the latest values of lazy Channels whose Channel object was not
+	 * created yet, without creating it.
+	 *
+	 * <p>
+	 * Persistence services and APIs that iterate {@link #channels()} use this
+	 * method to also consider the values of lazy Channels.
+	 *
+	 * @return a map of Channel-ID to value; Channels without value are not
+	 *         contained
+	 */
+	public default Map<io.openems.edge.common.channel.ChannelId, Object> lazyChannelValues() {
+		return Collections.emptyMap();
+	}
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		// Running State of the component. Keep values in sync with 'Level' enum!
 		STATE(new StateCollectorChannelDoc() //
@@ -1,7 +1,17 @@
 package io.openems.edge.common.component;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
 import org.junit.Test;
 
+import io.openems.common.channel.Level;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+
 public class AbstractOpenemsComponentTest {
 
 	private static class DummyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
@@ -20,4 +30,59 @@ public class AbstractOpenemsComponentTest {
 		new DummyComponent(null);
 	}
 
+	private static enum LazyChannelId implements io.openems.edge.common.channel.ChannelId {
+		CELL_VOLTAGE(Doc.of(OpenemsType.INTEGER).lazy()), //
+		CELL_ERROR(Doc.of(Level.WARNING).lazy());
+
+		private final Doc doc;
+
+		private LazyChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static class LazyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		public LazyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					LazyChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+
+	}
+
+	@Test
+	public void testLazyChannels() {
+		var sut = new LazyComponent("lazy0");
+		var channels = sut.channels().size();
+		assertTrue(sut.isLazyChannel(LazyChannelId.CELL_VOLTAGE));
+		assertEquals(2, sut.lazyChannelIds().size());
+
+		// Values are stored without creating the Channel
+		sut._setNextValueLazily(LazyChannelId.CELL_VOLTAGE, 3300);
+		sut._setNextValueLazily(LazyChannelId.CELL_ERROR, false);
+		assertEquals(channels, sut.channels().size());
+		assertEquals(Map.of(LazyChannelId.CELL_VOLTAGE, 3300, LazyChannelId.CELL_ERROR, false),
+				sut.lazyChannelValues());
+
+		// Access creates the Channel and applies the stored value
+		assertEquals(3300, sut.channel(LazyChannelId.CELL_VOLTAGE).value().get());
+		assertFalse(sut.isLazyChannel(LazyChannelId.CELL_VOLTAGE));
+		assertEquals(channels + 1, sut.channels().size());
+		assertEquals(1, sut.lazyChannelIds().size());
+		assertEquals(Map.of(LazyChannelId.CELL_ERROR, false), sut.lazyChannelValues());
+
+		// Active StateChannels are created, so that they are considered for the State
+		sut._setNextValueLazily(LazyChannelId.CELL_ERROR, true);
+		assertFalse(sut.isLazyChannel(LazyChannelId.CELL_ERROR));
+		assertTrue(sut.lazyChannelIds().isEmpty());
+	}
+
 }
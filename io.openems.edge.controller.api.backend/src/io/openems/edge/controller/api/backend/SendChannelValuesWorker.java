@@ -4,11 +4,14 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,8 +22,11 @@ import com.google.gson.JsonElement;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.type.TypeUtils;
 
 /**
  * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
@@ -95,22 +101,30 @@ public class SendChannelValuesWorker {
 	/**
 	 * Cycles through all Channels and collects the value.
 	 *
+	 * <p>
+	 * Values of lazy Channels are collected without creating their Channel
+	 * objects.
+	 *
 	 * @param enabledComponents the enabled components
 	 * @return collected data
 	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
+	protected ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
 		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
+			return Stream.concat(//
+					enabledComponents.parallelStream() //
+							.flatMap(component -> component.channels().parallelStream()) //
+							.filter(channel -> this.isPersisted(channel.channelDoc())) //
+							.map(channel -> Map.entry(channel.address().toString(), channel.value().asJson())), //
+					enabledComponents.parallelStream() //
+							.flatMap(component -> component.lazyChannelValues().entrySet().stream() //
+									.filter(entry -> this.isPersisted(entry.getKey().doc())) //
+									.map(entry -> Map.entry(
+											new ChannelAddress(component.id(), entry.getKey().id()).toString(),
+											TypeUtils.getAsJson(entry.getKey().doc().getType(), entry.getValue())))))
 					.collect(//
 							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
+									Entry::getKey, //
+									Entry::getValue, //
 									// simple/stupid merge function to avoid
 									// 'java.lang.IllegalArgumentException Duplicate Key'
 									(t, u) -> {
@@ -125,6 +139,13 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	private boolean isPersisted(Doc doc) {
+		return // Ignore WRITE_ONLY Channels
+		doc.getAccessMode() != AccessMode.WRITE_ONLY //
+				// Ignore Low-Priority Channels
+				&& doc.getPersistencePriority().isAtLeast(this.parent.config.persistencePriority());
+	}
+
 	/*
 	 * From here things run asynchronously.
 	 */
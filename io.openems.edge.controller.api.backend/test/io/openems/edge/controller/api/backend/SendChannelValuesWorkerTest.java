@@ -0,0 +1,68 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+
+public class SendChannelValuesWorkerTest {
+
+	private static class LazyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		private enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			CELL_VOLTAGE(Doc.of(OpenemsType.INTEGER).lazy());
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		private LazyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+	}
+
+	@Test
+	public void testLazyChannel() {
+		final var lazy = new LazyComponent("lazy0");
+		final var parent = new BackendApiImpl();
+		parent.config = MyConfig.create() //
+				.setId("ctrl0") //
+				.setPersistencePriority(PersistencePriority.VERY_LOW) //
+				.build();
+		final var sut = new SendChannelValuesWorker(parent);
+		try {
+			lazy._setNextValueLazily(LazyComponent.ChannelId.CELL_VOLTAGE, 3300);
+			var values = sut.collectData(List.of(lazy));
+
+			// Value is collected without creating the Channel
+			assertEquals(new JsonPrimitive(3300), values.get("lazy0/CellVoltage"));
+			assertTrue(lazy.isLazyChannel(LazyComponent.ChannelId.CELL_VOLTAGE));
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+}
@@ -236,6 +236,8 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 			// add component to process image
 			nextAddress = this.addComponentToProcessImage(nextAddress, component);
 		}
+
+		this.processImage.invalidateSnapshot();
 	}
 
 	/**
@@ -338,6 +340,7 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		}
 
 		this.updateCycleValues();
+		this.processImage.invalidateSnapshot();
 		this.apiWorker.run();
 	}
 
@@ -1,5 +1,7 @@
 package io.openems.edge.controller.api.modbus;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,7 +18,6 @@ import com.ghgande.j2mod.modbus.procimg.SimpleInputRegister;
 
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.modbusslave.ModbusRecord;
-import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
 
 /**
  * This implementation answers Modbus-TCP Slave requests.
@@ -27,12 +28,16 @@ public class MyProcessImage implements ProcessImage {
 
 	protected final AbstractModbusTcpApi parent;
 
+	private final AtomicInteger version = new AtomicInteger(0);
+	private final Object snapshotLock = new Object();
+	private volatile ProcessImageSnapshot snapshot = ProcessImageSnapshot.EMPTY;
+
 	protected MyProcessImage(AbstractModbusTcpApi parent) {
 		this.parent = parent;
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
 			var registers = this.getRegisterRange(offset, count);
@@ -51,7 +56,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
 
 		try {
@@ -65,30 +70,30 @@ public class MyProcessImage implements ProcessImage {
 				throw new MyIllegalAddressException(this, "Invalid length: " + length + "; max. 126 registers allowed");
 			}
 
-			var records = this.parent.records.subMap(offset, offset + count);
+			var snapshot = this.getSnapshot();
 			var result = new Register[count];
 			for (var i = 0; i < count;) {
 				// Get record for modbus address
 				var ref = i + offset;
-				var record = records.get(ref);
+				var record = snapshot.getRecord(ref);
 				if (record == null) {
-					record = new ModbusRecordUint16Reserved(ref);
+					result[i] = snapshot.getReservedRegister(ref);
+					i++;
+					continue;
 				}
 
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
 				// make sure this Record fits
-				if (result.length < i + registers.length) {
+				var words = record.getType().getWords();
+				if (result.length < i + words) {
 					throw new MyIllegalAddressException(this,
 							"Record for Modbus address [" + ref + "] does not fit in Result.");
 				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
+				for (var j = 0; j < words; j++) {
+					result[i + j] = snapshot.getRegister(record, ref, j);
 				}
 
 				// increase i by word length
-				i += registers.length;
+				i += words;
 			}
 			this.parent._setProcessImageFault(false);
 			return result;
@@ -100,28 +105,26 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
+	public Register getRegister(int ref) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
 
 		try {
-			var record = this.parent.records.get(ref);
+			var snapshot = this.getSnapshot();
+			var record = snapshot.getRecord(ref);
 
 			// make sure the ModbusRecord is available
 			if (record == null) {
 				throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
 			}
 
-			// Get Registers from Record
-			var registers = this.getRecordValueRegisters(record);
-
 			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
+			if (record.getType().getWords() > 1) {
 				throw new MyIllegalAddressException(this,
 						"Record for Modbus address [" + ref + "] requires more than one Register.");
 			}
 
 			this.parent._setProcessImageFault(false);
-			return registers[0];
+			return snapshot.getRegister(record, ref, 0);
 
 		} catch (Exception e) {
 			this.parent._setProcessImageFault(true);
@@ -130,13 +133,45 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	/**
-	 * Get value as byte-array and convert it to InputRegisters.
+	 * Invalidates the current {@link ProcessImageSnapshot}. The next read request
+	 * is going to build a new one.
+	 *
+	 * <p>
+	 * This is called once per Cycle and whenever the ModbusRecords change.
+	 */
+	protected void invalidateSnapshot() {
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Gets the current {@link ProcessImageSnapshot}; builds a new one if it was
+	 * invalidated.
+	 *
+	 * @return the {@link ProcessImageSnapshot}
+	 */
+	private ProcessImageSnapshot getSnapshot() {
+		var version = this.version.get();
+		var snapshot = this.snapshot;
+		if (snapshot.getVersion() == version) {
+			return snapshot;
+		}
+		synchronized (this.snapshotLock) {
+			snapshot = this.snapshot;
+			if (snapshot.getVersion() != version) {
+				snapshot = ProcessImageSnapshot.build(version, this.parent.records, this::getRecordValue);
+				this.snapshot = snapshot;
+			}
+			return snapshot;
+		}
+	}
+
+	/**
+	 * Get the current value of a {@link ModbusRecord} as byte-array.
 	 *
 	 * @param record the record
-	 * @return the Register
+	 * @return the value
 	 */
-	private Register[] getRecordValueRegisters(ModbusRecord record) {
-		var result = new MyRegister[record.getType().getWords()];
+	private byte[] getRecordValue(ModbusRecord record) {
 		final OpenemsComponent component;
 		{
 			var cmp = this.parent.getPossiblyDisabledComponent(record.getComponentId());
@@ -147,18 +182,7 @@ public class MyProcessImage implements ProcessImage {
 				component = cmp;
 			}
 		}
-
-		var value = record.getValue(component);
-		for (var j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
-					/*
-					 * On Set-Value event:
-					 */
-					register -> {
-						record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
-					});
-		}
-		return result;
+		return record.getValue(component);
 	}
 
 	/**********************************************
@@ -0,0 +1,136 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.function.Function;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
+
+/**
+ * Holds an immutable, pre-encoded copy of all registers of the Modbus/TCP
+ * process image.
+ *
+ * <p>
+ * A snapshot is built at most once per Cycle. Reads from any number of
+ * Modbus/TCP clients are then served from plain arrays without locking and
+ * without converting Channel values again.
+ */
+public class ProcessImageSnapshot {
+
+	/**
+	 * An empty {@link ProcessImageSnapshot}.
+	 */
+	public static final ProcessImageSnapshot EMPTY = new ProcessImageSnapshot(-1, new byte[0], new ModbusRecord[0]);
+
+	/**
+	 * Builds a {@link ProcessImageSnapshot}.
+	 *
+	 * @param version       the version of the snapshot, i.e. the Cycle counter
+	 * @param records       the {@link ModbusRecord}s by their start address
+	 * @param valueProvider provides the current value of a {@link ModbusRecord}
+	 *                      as byte array
+	 * @return the {@link ProcessImageSnapshot}
+	 */
+	public static ProcessImageSnapshot build(int version, NavigableMap<Integer, ModbusRecord> records,
+			Function<ModbusRecord, byte[]> valueProvider) {
+		if (records.isEmpty()) {
+			return new ProcessImageSnapshot(version, new byte[0], new ModbusRecord[0]);
+		}
+		var lastEntry = records.lastEntry();
+		var length = lastEntry.getKey() + lastEntry.getValue().getType().getWords();
+		var values = new byte[length * 2];
+		var recordsByAddress = new ModbusRecord[length];
+
+		for (Entry<Integer, ModbusRecord> entry : records.entrySet()) {
+			int address = entry.getKey();
+			if (address < 0) {
+				continue;
+			}
+			var record = entry.getValue();
+			recordsByAddress[address] = record;
+			var value = valueProvider.apply(record);
+			var byteLength = Math.min(value.length, record.getType().getWords() * 2);
+			System.arraycopy(value, 0, values, address * 2, byteLength);
+		}
+		return new ProcessImageSnapshot(version, values, recordsByAddress);
+	}
+
+	private final int version;
+	private final byte[] values;
+	private final ModbusRecord[] records;
+
+	private ProcessImageSnapshot(int version, byte[] values, ModbusRecord[] records) {
+		this.version = version;
+		this.values = values;
+		this.records = records;
+	}
+
+	/**
+	 * Gets the version of this snapshot.
+	 *
+	 * @return the version
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Gets the {@link ModbusRecord} that starts at the given address.
+	 *
+	 * @param address the Modbus address
+	 * @return the {@link ModbusRecord}; null if no record starts at this address
+	 */
+	public ModbusRecord getRecord(int address) {
+		if (address < 0 || address >= this.records.length) {
+			return null;
+		}
+		return this.records[address];
+	}
+
+	/**
+	 * Creates a {@link Register} for one word of a {@link ModbusRecord}. Writes
+	 * to the {@link Register} are forwarded to the {@link ModbusRecord}.
+	 *
+	 * <p>
+	 * The caller is responsible for checking that the word is within the
+	 * {@link ModbusRecord} via {@link #getRecord(int)}.
+	 *
+	 * @param record       the {@link ModbusRecord}
+	 * @param startAddress the start address of the {@link ModbusRecord}
+	 * @param index        the index of the word within the {@link ModbusRecord}
+	 * @return the {@link Register}
+	 */
+	public Register getRegister(ModbusRecord record, int startAddress, int index) {
+		var address = (startAddress + index) * 2;
+		return new MyRegister(index, this.values[address], this.values[address + 1], //
+				/*
+				 * On Set-Value event:
+				 */
+				register -> {
+					record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+				});
+	}
+
+	/**
+	 * Creates a 'Reserved' {@link Register} for an address that is not the start
+	 * of a {@link ModbusRecord}.
+	 *
+	 * @param address the Modbus address
+	 * @return the {@link Register}
+	 */
+	public Register getReservedRegister(int address) {
+		return new MyRegister(0, ModbusRecordUint16.UNDEFINED_VALUE[0], ModbusRecordUint16.UNDEFINED_VALUE[1], //
+				/*
+				 * On Set-Value event:
+				 */
+				register -> {
+					new ModbusRecordUint16Reserved(address).writeValue(register.getIndex(), register.getByte1(),
+							register.getByte2());
+				});
+	}
+
+}
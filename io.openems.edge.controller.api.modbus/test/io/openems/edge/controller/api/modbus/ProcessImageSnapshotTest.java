@@ -0,0 +1,46 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordString16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+
+public class ProcessImageSnapshotTest {
+
+	@Test
+	public void test() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		var uint16 = new ModbusRecordUint16(0, "Test", (short) 1234);
+		var string16 = new ModbusRecordString16(0, "Test", "OpenEMS");
+		records.put(0, uint16);
+		records.put(5, string16);
+
+		var sut = ProcessImageSnapshot.build(7, records, r -> r.getValue(null));
+		assertEquals(7, sut.getVersion());
+
+		assertSame(uint16, sut.getRecord(0));
+		assertEquals(1234, sut.getRegister(uint16, 0, 0).getValue());
+
+		// Gap
+		assertNull(sut.getRecord(1));
+		assertEquals(0xFFFF, sut.getReservedRegister(1).getValue());
+
+		// Multi-Word Record
+		assertSame(string16, sut.getRecord(5));
+		assertNull(sut.getRecord(6));
+		assertEquals('O' << 8 | 'p', sut.getRegister(string16, 5, 0).getValue());
+		assertEquals('e' << 8 | 'n', sut.getRegister(string16, 5, 1).getValue());
+
+		// Out of range
+		assertNull(sut.getRecord(-1));
+		assertNull(sut.getRecord(5 + 16));
+	}
+
+}
@@ -35,6 +35,12 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Send only Channels with a Persistence Priority greater-or-equals this.")
 	PersistencePriority persistencePriority() default PersistencePriority.VERY_LOW;
 
+	@AttributeDefinition(name = "Publish Interval [s]", description = "Minimum interval between publishing changed values; '0' publishes on every Cycle.")
+	int publishInterval() default 0;
+
+	@AttributeDefinition(name = "Publish per Component?", description = "Publish all Channel values of a changed Component as one JsonObject instead of one message per Channel.")
+	boolean publishPerComponent() default false;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
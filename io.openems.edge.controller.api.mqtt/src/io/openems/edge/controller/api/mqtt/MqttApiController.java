@@ -11,6 +11,7 @@ public interface MqttApiController extends Controller, OpenemsComponent, EventHa
 	public static final String TOPIC_PREFIX = "edge/%s/";
 	public static final String TOPIC_CHANNEL_PREFIX = "channel/";
 	public static final String TOPIC_CHANNEL_LAST_UPDATE = "lastUpdate";
+	public static final String TOPIC_COMPONENT_PREFIX = "component/";
 	public static final String TOPIC_EDGE_CONFIG = "edgeConfig/";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
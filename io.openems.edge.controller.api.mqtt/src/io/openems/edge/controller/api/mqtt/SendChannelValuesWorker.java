@@ -11,6 +11,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.slf4j.Logger;
@@ -18,13 +19,17 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
+import com.google.common.collect.Tables;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.type.TypeUtils;
 
 /**
  * Method {@link #collectData()} is called Synchronously with the Core.Cycle to
@@ -32,8 +37,10 @@ import io.openems.edge.common.component.OpenemsComponent;
  * asynchronous task.
  *
  * <p>
- * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * The logic tries to send changed values once per Cycle - or once per
+ * configured Publish Interval - and all values once every
+ * {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}. Optionally all values of
+ * a changed Component are sent as one message.
  */
 public class SendChannelValuesWorker {
 
@@ -66,6 +73,11 @@ public class SendChannelValuesWorker {
 	 */
 	private Instant lastSendValuesOfAllChannels = Instant.MIN;
 
+	/**
+	 * Keeps the last timestamp when data was collected.
+	 */
+	private Instant lastCollectData = Instant.MIN;
+
 	/**
 	 * Keeps the values of last successful send.
 	 */
@@ -97,6 +109,13 @@ public class SendChannelValuesWorker {
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
+		// Apply the configured Publish Interval
+		if (!this.sendValuesOfAllChannels.get() && Duration.between(this.lastCollectData, now)
+				.getSeconds() < this.parent.config.publishInterval()) {
+			return;
+		}
+		this.lastCollectData = now;
+
 		// Update the values of all channels
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
 		final var allValues = this.collectData(enabledComponents);
@@ -113,15 +132,20 @@ public class SendChannelValuesWorker {
 	 */
 	private ImmutableTable<String, String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
 		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(ImmutableTable.toImmutableTable(c -> c.address().getComponentId(),
-							c -> c.address().getChannelId(), c -> c.value().asJson()));
+			return Stream.concat(//
+					enabledComponents.parallelStream() //
+							.flatMap(component -> component.channels().parallelStream()) //
+							.filter(channel -> this.isPublished(channel.channelDoc())) //
+							.map(channel -> Tables.immutableCell(channel.address().getComponentId(),
+									channel.address().getChannelId(), channel.value().asJson())), //
+					// Values of lazy Channels are collected without creating their Channel objects
+					enabledComponents.parallelStream() //
+							.flatMap(component -> component.lazyChannelValues().entrySet().stream() //
+									.filter(entry -> this.isPublished(entry.getKey().doc())) //
+									.map(entry -> Tables.immutableCell(component.id(), entry.getKey().id(),
+											TypeUtils.getAsJson(entry.getKey().doc().getType(), entry.getValue())))))
+					.collect(ImmutableTable.toImmutableTable(Table.Cell::getRowKey, Table.Cell::getColumnKey,
+							Table.Cell::getValue));
 			// TODO remove values for disappeared components
 //			final Set<String> enabledComponentIds = enabledComponents.stream() //
 //					.map(c -> c.id()) //
@@ -141,6 +165,13 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	private boolean isPublished(Doc doc) {
+		return // Ignore WRITE_ONLY Channels
+		doc.getAccessMode() != AccessMode.WRITE_ONLY //
+				// Ignore Low-Priority Channels
+				&& doc.getPersistencePriority().isAtLeast(this.parent.config.persistencePriority());
+	}
+
 	/*
 	 * From here things run asynchronously.
 	 */
@@ -183,20 +214,37 @@ public class SendChannelValuesWorker {
 			// Send changed values
 			var allSendSuccessful = true;
 			List<String> sendTopics = new ArrayList<>();
+			var publishPerComponent = this.parent.parent.config.publishPerComponent();
 			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
+				var componentId = row.getKey();
+				var isComponentChanged = false;
 				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
-					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
-						var subtopic = row.getKey() + "/" + column.getKey();
-						sendTopics.add(subtopic);
-						if (!this.publish(row.getKey() + "/" + column.getKey(), column.getValue().toString())) {
-							allSendSuccessful = false;
-						}
+					if (Objects.equals(column.getValue(), lastAllValues.get(componentId, column.getKey()))) {
+						continue;
+					}
+					isComponentChanged = true;
+					if (publishPerComponent) {
+						// Publish the whole Component below
+						break;
+					}
+					var subtopic = componentId + "/" + column.getKey();
+					sendTopics.add(subtopic);
+					if (!this.publish(MqttApiController.TOPIC_CHANNEL_PREFIX + subtopic, column.getValue().toString())) {
+						allSendSuccessful = false;
+					}
+				}
+				if (publishPerComponent && isComponentChanged) {
+					var subtopic = MqttApiController.TOPIC_COMPONENT_PREFIX + componentId;
+					sendTopics.add(subtopic);
+					if (!this.publish(subtopic, toJson(row.getValue()).toString())) {
+						allSendSuccessful = false;
 					}
 				}
 			}
 
 			// Update lastUpdate timestamp
-			this.publish(MqttApiController.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp));
+			this.publish(MqttApiController.TOPIC_CHANNEL_PREFIX + MqttApiController.TOPIC_CHANNEL_LAST_UPDATE,
+					String.valueOf(this.timestamp));
 
 			// Successful?
 			if (allSendSuccessful) {
@@ -216,20 +264,34 @@ public class SendChannelValuesWorker {
 		}
 
 		/**
-		 * Publish a Channel value message.
+		 * Publish a value message.
 		 *
-		 * @param subTopic the Channel Subtopic
+		 * @param subTopic the Subtopic
 		 * @param value    the value Json.toString()
 		 * @return true if sent successfully; false otherwise
 		 */
 		private boolean publish(String subTopic, String value) {
 			return this.parent.parent.publish(//
-					/* topic */ MqttApiController.TOPIC_CHANNEL_PREFIX + subTopic, //
-					/* message */ value.toString(), //
+					/* topic */ subTopic, //
+					/* message */ value, //
 					MQTT_QOS, MQTT_RETAIN, MQTT_PROPERTIES //
 			);
 		}
 
+		/**
+		 * Converts the Channel values of one Component to a {@link JsonObject}.
+		 *
+		 * @param values the values by Channel-ID
+		 * @return the {@link JsonObject}
+		 */
+		private static JsonObject toJson(Map<String, JsonElement> values) {
+			var result = new JsonObject();
+			for (Entry<String, JsonElement> value : values.entrySet()) {
+				result.add(value.getKey(), value.getValue());
+			}
+			return result;
+		}
+
 	}
 
 }
\ No newline at end of file
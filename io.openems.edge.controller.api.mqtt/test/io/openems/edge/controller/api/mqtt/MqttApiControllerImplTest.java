@@ -29,6 +29,8 @@ public class MqttApiControllerImplTest {
 						.setPassword("guest") //
 						.setUri("ws://localhost:1883") //
 						.setPersistencePriority(PersistencePriority.VERY_LOW) //
+						.setPublishInterval(0) //
+						.setPublishPerComponent(false) //
 						.setDebugMode(true) //
 						.build());
 	}
@@ -10,6 +10,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String id;
 		public String uri;
 		public PersistencePriority persistencePriority;
+		public int publishInterval;
+		public boolean publishPerComponent;
 		public boolean debugMode;
 		public String clientId;
 		public String username;
@@ -48,6 +50,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setPublishInterval(int publishInterval) {
+			this.publishInterval = publishInterval;
+			return this;
+		}
+
+		public Builder setPublishPerComponent(boolean publishPerComponent) {
+			this.publishPerComponent = publishPerComponent;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -84,6 +96,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.persistencePriority;
 	}
 
+	@Override
+	public int publishInterval() {
+		return this.builder.publishInterval;
+	}
+
+	@Override
+	public boolean publishPerComponent() {
+		return this.builder.publishPerComponent;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
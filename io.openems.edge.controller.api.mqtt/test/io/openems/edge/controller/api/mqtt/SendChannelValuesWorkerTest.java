@@ -0,0 +1,181 @@
+package io.openems.edge.controller.api.mqtt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.paho.mqttv5.common.MqttMessage;
+import org.junit.Test;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.TimeLeapClock;
+
+public class SendChannelValuesWorkerTest {
+
+	private static final String LAST_UPDATE = MqttApiController.TOPIC_CHANNEL_PREFIX
+			+ MqttApiController.TOPIC_CHANNEL_LAST_UPDATE;
+	private static final String GRID_ACTIVE_POWER = MqttApiController.TOPIC_CHANNEL_PREFIX + "_sum/GridActivePower";
+
+	private static class TestController extends MqttApiControllerImpl {
+
+		private final List<String> topics = new CopyOnWriteArrayList<>();
+
+		private TestController(TimeLeapClock clock, DummySum sum, int publishInterval, boolean publishPerComponent) {
+			this.componentManager = new DummyComponentManager(clock) //
+					.addComponent(sum);
+			this.config = MyConfig.create() //
+					.setId("ctrl0") //
+					.setClientId("edge0") //
+					.setUri("ws://localhost:1883") //
+					.setPersistencePriority(PersistencePriority.VERY_LOW) //
+					.setPublishInterval(publishInterval) //
+					.setPublishPerComponent(publishPerComponent) //
+					.build();
+		}
+
+		@Override
+		protected boolean publish(String subTopic, MqttMessage message) {
+			this.topics.add(subTopic);
+			return true;
+		}
+
+		private long count(String topic) {
+			return this.topics.stream().filter(topic::equals).count();
+		}
+
+		private void awaitSends(long sends) throws InterruptedException {
+			for (var i = 0; i < 500 && this.count(LAST_UPDATE) < sends; i++) {
+				Thread.sleep(10);
+			}
+			assertEquals(sends, this.count(LAST_UPDATE));
+		}
+	}
+
+	private static class LazyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		private enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			CELL_VOLTAGE(Doc.of(OpenemsType.INTEGER).lazy());
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		private LazyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+	}
+
+	private static void setGridActivePower(DummySum sum, int value) {
+		sum._setGridActivePower(value);
+		sum.getGridActivePowerChannel().nextProcessImage();
+	}
+
+	@Test
+	public void testPublishInterval() throws Exception {
+		final var clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800L), ZoneOffset.UTC);
+		final var sum = new DummySum();
+		final var ctrl = new TestController(clock, sum, 10, false);
+		final var sut = new SendChannelValuesWorker(ctrl);
+		try {
+			// First Cycle sends all values
+			setGridActivePower(sum, 100);
+			sut.collectData();
+			ctrl.awaitSends(1);
+			assertEquals(1, ctrl.count(GRID_ACTIVE_POWER));
+
+			// Throttled within the Publish Interval
+			setGridActivePower(sum, 200);
+			clock.leap(5, ChronoUnit.SECONDS);
+			sut.collectData();
+			assertEquals(1, ctrl.count(LAST_UPDATE));
+
+			// Changed value is published after the Publish Interval
+			clock.leap(5, ChronoUnit.SECONDS);
+			sut.collectData();
+			ctrl.awaitSends(2);
+			assertEquals(2, ctrl.count(GRID_ACTIVE_POWER));
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testPublishPerComponent() throws Exception {
+		final var clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800L), ZoneOffset.UTC);
+		final var sum = new DummySum();
+		final var ctrl = new TestController(clock, sum, 0, true);
+		final var sut = new SendChannelValuesWorker(ctrl);
+		try {
+			setGridActivePower(sum, 100);
+			sut.collectData();
+			ctrl.awaitSends(1);
+			assertEquals(1, ctrl.count(MqttApiController.TOPIC_COMPONENT_PREFIX + "_sum"));
+			assertFalse(ctrl.topics.contains(GRID_ACTIVE_POWER));
+
+			// Unchanged Component is not published again
+			clock.leap(1, ChronoUnit.SECONDS);
+			sut.collectData();
+			ctrl.awaitSends(2);
+			assertEquals(1, ctrl.count(MqttApiController.TOPIC_COMPONENT_PREFIX + "_sum"));
+
+			// Changed Component is published as a whole
+			setGridActivePower(sum, 200);
+			clock.leap(1, ChronoUnit.SECONDS);
+			sut.collectData();
+			ctrl.awaitSends(3);
+			assertEquals(2, ctrl.count(MqttApiController.TOPIC_COMPONENT_PREFIX + "_sum"));
+			assertTrue(ctrl.topics.stream() //
+					.noneMatch(t -> t.startsWith(MqttApiController.TOPIC_CHANNEL_PREFIX + "_sum/")));
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testLazyChannel() throws Exception {
+		final var clock = new TimeLeapClock(Instant.ofEpochSecond(1577836800L), ZoneOffset.UTC);
+		final var lazy = new LazyComponent("lazy0");
+		final var ctrl = new TestController(clock, new DummySum(), 0, false);
+		((DummyComponentManager) ctrl.componentManager).addComponent(lazy);
+		final var sut = new SendChannelValuesWorker(ctrl);
+		try {
+			lazy._setNextValueLazily(LazyComponent.ChannelId.CELL_VOLTAGE, 3300);
+			sut.collectData();
+			ctrl.awaitSends(1);
+
+			// Value is published without creating the Channel
+			assertEquals(1, ctrl.count(MqttApiController.TOPIC_CHANNEL_PREFIX + "lazy0/CellVoltage"));
+			assertTrue(lazy.isLazyChannel(LazyComponent.ChannelId.CELL_VOLTAGE));
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+}
@@ -6,15 +6,19 @@ import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -62,6 +66,21 @@ import io.openems.edge.common.user.User;
 
 public class RestHandler extends AbstractHandler {
 
+	private static final String REGEX_SPECIAL_CHARACTERS = "\\.[]{}()<>*+-=!?^$|";
+	private static final int MAX_CACHED_PATTERNS = 100;
+
+	/**
+	 * Holds compiled {@link Pattern}s of recent requests.
+	 */
+	private static final Map<String, Pattern> PATTERN_CACHE = new LinkedHashMap<>(16, 0.75F, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+			return this.size() > MAX_CACHED_PATTERNS;
+		}
+	};
+
 	private final Logger log = LoggerFactory.getLogger(RestHandler.class);
 
 	private final AbstractRestApi parent;
@@ -265,13 +284,18 @@ public class RestHandler extends AbstractHandler {
 					+ channelAddress.toString() + "] Result [" + result.toString() + "]");
 		}
 
-		return this.sendOkResponse(baseRequest, response, result);
+		return this.sendGetResponse(baseRequest, request, response, result);
 	}
 
 	/**
 	 * Gets a list of Channels that match the {@link ChannelAddress}; regular
 	 * expressions are allowed.
 	 * 
+	 * <p>
+	 * Plain IDs are looked up directly and '.*' matches without evaluating a
+	 * regular expression. Other patterns are compiled once and cached. Matching
+	 * lazy Channels are created.
+	 * 
 	 * @param components     a list of {@link OpenemsComponent}s
 	 * @param channelAddress the {@link ChannelAddress} of the GET request
 	 * @return a list of matching {@link Channel}s
@@ -279,13 +303,113 @@ public class RestHandler extends AbstractHandler {
 	 */
 	protected static List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
 			throws PatternSyntaxException {
+		var componentIdMatcher = toMatcher(channelAddress.getComponentId());
+
+		final var channelId = channelAddress.getChannelId();
+		final Function<OpenemsComponent, Stream<Channel<?>>> channelsOfComponent;
+		if (isLiteral(channelId)) {
+			channelsOfComponent = component -> Stream.ofNullable(component._channel(channelId));
+		} else {
+			var channelIdMatcher = toMatcher(channelId);
+			channelsOfComponent = component -> Stream.concat(//
+					component.channels().stream() //
+							.filter(channel -> channelIdMatcher.test(channel.channelId().id())),
+					// Matching lazy Channels are created on request
+					component.lazyChannelIds().stream() //
+							.filter(id -> channelIdMatcher.test(id.id())) //
+							.<Channel<?>>map(id -> component._channel(id.id())));
+		}
+
 		return components.stream() //
-				.filter(component -> Pattern.matches(channelAddress.getComponentId(), component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelAddress.getChannelId(), channel.channelId().id()))
+				.filter(component -> componentIdMatcher.test(component.id())) //
+				.flatMap(channelsOfComponent) //
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Converts a regular expression to a {@link Predicate}.
+	 * 
+	 * @param regex the regular expression
+	 * @return a {@link Predicate} that tests if an ID matches
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	private static Predicate<String> toMatcher(String regex) throws PatternSyntaxException {
+		if (regex.equals(".*")) {
+			return id -> true;
+		}
+		if (isLiteral(regex)) {
+			return regex::equals;
+		}
+		var pattern = getPattern(regex);
+		return id -> pattern.matcher(id).matches();
+	}
+
+	/**
+	 * Checks if the given String contains no special characters of a regular
+	 * expression.
+	 * 
+	 * @param regex the regular expression
+	 * @return true if the String can be matched by simple equality
+	 */
+	private static boolean isLiteral(String regex) {
+		for (var i = 0; i < regex.length(); i++) {
+			if (REGEX_SPECIAL_CHARACTERS.indexOf(regex.charAt(i)) != -1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the compiled {@link Pattern} for a regular expression from cache.
+	 * 
+	 * @param regex the regular expression
+	 * @return the {@link Pattern}
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	private static Pattern getPattern(String regex) throws PatternSyntaxException {
+		synchronized (PATTERN_CACHE) {
+			var pattern = PATTERN_CACHE.get(regex);
+			if (pattern == null) {
+				pattern = Pattern.compile(regex);
+				PATTERN_CACHE.put(regex, pattern);
+			}
+			return pattern;
+		}
+	}
+
+	/**
+	 * Sends the result of a GET request. Adds an 'ETag' header and answers with
+	 * 'Not Modified' if the client already knows the result.
+	 * 
+	 * @param baseRequest the HTTP GET base-request
+	 * @param request     the HTTP GET request
+	 * @param response    the result to be returned
+	 * @param data        the result data
+	 * @return true if the response was sent
+	 * @throws OpenemsException on error
+	 */
+	private boolean sendGetResponse(Request baseRequest, HttpServletRequest request, HttpServletResponse response,
+			JsonElement data) throws OpenemsException {
+		var body = data.toString();
+		var etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+		response.setHeader("ETag", etag);
+		if (etag.equals(request.getHeader("If-None-Match"))) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			baseRequest.setHandled(true);
+			return true;
+		}
+		try {
+			response.setContentType("application/json");
+			response.setStatus(HttpServletResponse.SC_OK);
+			baseRequest.setHandled(true);
+			response.getWriter().write(body);
+			return true;
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to send Ok-Response: " + e.getMessage());
+		}
+	}
+
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
 		try {
 			response.setContentType("application/json");
@@ -11,7 +11,8 @@ import io.openems.edge.common.component.OpenemsComponent;
 public class DummyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-		DUMMY_CHANNEL(Doc.of(OpenemsType.INTEGER)); //
+		DUMMY_CHANNEL(Doc.of(OpenemsType.INTEGER)), //
+		LAZY_CHANNEL(Doc.of(OpenemsType.INTEGER).lazy()); //
 
 		private final Doc doc;
 
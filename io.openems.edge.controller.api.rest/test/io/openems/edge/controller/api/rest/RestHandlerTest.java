@@ -1,6 +1,7 @@
 package io.openems.edge.controller.api.rest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 
 import java.util.List;
@@ -48,6 +49,27 @@ public class RestHandlerTest {
 			assertEquals(dummyComponent.channel("DummyChannel"), result.get(0));
 		}
 
+		{
+			// Lazy Channel is created on request
+			var channelAddress = new ChannelAddress("foo0", "Lazy.*");
+			var result = RestHandler.getChannels(components, channelAddress);
+			assertEquals(1, result.size());
+			assertEquals(foo0.channel("LazyChannel"), result.get(0));
+			assertFalse(foo0.isLazyChannel(DummyComponent.ChannelId.LAZY_CHANNEL));
+		}
+
+		{
+			var channelAddress = new ChannelAddress("foo0", ".*");
+			var result = RestHandler.getChannels(components, channelAddress);
+			assertEquals(foo0.channels().size(), result.size());
+		}
+
+		{
+			var channelAddress = new ChannelAddress("foo0", "UnknownChannel");
+			var result = RestHandler.getChannels(components, channelAddress);
+			assertEquals(0, result.size());
+		}
+
 		{
 			var channelAddress = new ChannelAddress("*", "");
 			try {
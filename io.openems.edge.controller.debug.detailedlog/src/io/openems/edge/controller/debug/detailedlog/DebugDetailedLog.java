@@ -22,9 +22,12 @@ import com.google.common.collect.Multimap;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.EnumDoc;
 import io.openems.edge.common.channel.EnumReadChannel;
 import io.openems.edge.common.channel.StateChannel;
+import io.openems.edge.common.channel.StateChannelDoc;
 import io.openems.edge.common.channel.internal.StateCollectorChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -156,17 +159,28 @@ public class DebugDetailedLog extends AbstractOpenemsComponent implements Contro
 						case WRITE_ONLY:
 							channelText += "WRITE_ONLY";
 						}
-						// Build complete line
-						var line = String.format("%-" + WIDTH_FIRST + "s : %s", channel.channelId().id(), channelText);
-						// Print the line only if is not equal to the last printed line
-						if (!this.lastPrinted.containsKey(channel.address())
-								|| !this.lastPrinted.get(channel.address()).equals(line)) {
-							shouldPrint.put(channel.address(), line);
-						}
-						// Add line to last printed lines
-						this.lastPrinted.put(channel.address(), line);
+						this.addLine(shouldPrint, channel.address(), channelText);
 					});
 
+			// Lazy Channels are not part of channels(); print their values without creating
+			// the Channel objects. Lazy Channels are always READ_ONLY.
+			final var lazyValues = component.lazyChannelValues();
+			for (var channelId : component.lazyChannelIds()) {
+				var doc = channelId.doc();
+				var value = lazyValues.get(channelId);
+				var description = "";
+				if (doc instanceof EnumDoc) {
+					description = ((EnumDoc) doc).getOptionString((Integer) value);
+				} else if (doc instanceof StateChannelDoc && Boolean.TRUE.equals(value)) {
+					description = doc.getText();
+				}
+				var channelText = String.format("%15s %-3s %s", //
+						value == null ? Value.UNDEFINED_VALUE_STRING : value.toString(), //
+						doc.getUnit().getSymbol(), //
+						description.isEmpty() ? "" : "(" + description + ")");
+				this.addLine(shouldPrint, new ChannelAddress(component.id(), channelId.id()), channelText);
+			}
+
 			if (!shouldPrint.isEmpty()) {
 				if (!printedHeader) {
 					/*
@@ -185,6 +199,25 @@ public class DebugDetailedLog extends AbstractOpenemsComponent implements Contro
 		}
 	}
 
+	/**
+	 * Builds the complete line for a Channel and adds it to the lines that should
+	 * be printed if it is not equal to the last printed line.
+	 *
+	 * @param shouldPrint    the lines that should be printed
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param channelText    the descriptive text of the Channel
+	 */
+	private void addLine(Map<ChannelAddress, String> shouldPrint, ChannelAddress channelAddress,
+			String channelText) {
+		var line = String.format("%-" + WIDTH_FIRST + "s : %s", channelAddress.getChannelId(), channelText);
+		// Print the line only if is not equal to the last printed line
+		if (!this.lastPrinted.containsKey(channelAddress) || !this.lastPrinted.get(channelAddress).equals(line)) {
+			shouldPrint.put(channelAddress, line);
+		}
+		// Add line to last printed lines
+		this.lastPrinted.put(channelAddress, line);
+	}
+
 	private enum Inheritance {
 		EXTEND, IMPLEMENT;
 	}
@@ -1,5 +1,6 @@
 package io.openems.edge.controller.ess.timeofusetariff.discharge;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -7,6 +8,8 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -20,9 +23,12 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.osgi.service.metatype.annotations.Designate;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.exceptions.InvalidValueException;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -39,6 +45,8 @@ import io.openems.edge.timedata.api.TimedataProvider;
 import io.openems.edge.timedata.api.utils.CalculateActiveTime;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+import io.openems.edge.timeofusetariff.api.utils.DischargeSchedule;
+import io.openems.edge.timeofusetariff.api.utils.DischargeScheduleOptimizer;
 import io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils;
 
 @Designate(ocd = Config.class, factory = true)
@@ -98,6 +106,14 @@ public class TimeOfUseTariffDischargeImpl extends AbstractOpenemsComponent
 	private TreeMap<ZonedDateTime, Integer> socWithoutLogic = new TreeMap<>();
 	private ZonedDateTime lastAccessedTime = null;
 	private ZonedDateTime lastUpdatePriceTime = null;
+	private int usableCapacity = 0;
+
+	/**
+	 * Optimizes the schedule of target periods outside of the Cycle.
+	 */
+	private ExecutorService optimizerExecutor = null;
+	private final DischargeScheduleOptimizer optimizer = new DischargeScheduleOptimizer(
+			command -> this.optimizerExecutor.execute(command));
 
 	public TimeOfUseTariffDischargeImpl() {
 		super(//
@@ -111,6 +127,8 @@ public class TimeOfUseTariffDischargeImpl extends AbstractOpenemsComponent
 	void activate(ComponentContext context, Config config) {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
+		this.optimizerExecutor = Executors.newSingleThreadExecutor(
+				new ThreadFactoryBuilder().setNameFormat("Ctrl.TimeOfUseTariff:" + config.id() + "-%d").build());
 
 		// update filter for 'ess'
 		if (OpenemsComponent.updateReferenceFilter(this.cm, this.servicePid(), "ess", config.ess_id())) {
@@ -121,6 +139,7 @@ public class TimeOfUseTariffDischargeImpl extends AbstractOpenemsComponent
 	@Override
 	@Deactivate
 	protected void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.optimizerExecutor, 0);
 		super.deactivate();
 	}
 
@@ -204,8 +223,7 @@ public class TimeOfUseTariffDischargeImpl extends AbstractOpenemsComponent
 				// list of periods calculation.
 				if (remainingEnergy > 0) {
 					// Initiating the calculation
-					this.targetPeriods = this.calculateTargetPeriods(this.consumptionMap, this.quarterlyPricesMap,
-							remainingEnergy, this.boundarySpace);
+					this.targetPeriods = this.calculateTargetPeriods(availableEnergy, this.boundarySpace);
 					this._setTargetHoursCalculated(true);
 				}
 
@@ -253,6 +271,7 @@ public class TimeOfUseTariffDischargeImpl extends AbstractOpenemsComponent
 				/ 100 * limitSoc /* [current SoC] */);
 
 		availableEnergy = Math.max(0, availableEnergy - limitEnergy);
+		this.usableCapacity = (int) Math.max(0, netCapacity - limitEnergy / 3600000);
 
 		// Value is divided by 3600 * 1000 to convert from [Wmsec] to [Wh].
 		this.channel(TimeOfUseTariffDischarge.ChannelId.USABLE_CAPACITY).setNextValue(availableEnergy / 3600000);
@@ -536,41 +555,37 @@ public class TimeOfUseTariffDischargeImpl extends AbstractOpenemsComponent
 	 * This method returns the list of periods, during which ESS is avoided for
 	 * consumption.
 	 *
-	 * @param consumptionMap  predicted consumption data along with time in
-	 *                        {@link TreeMap} format.
-	 * @param quarterlyPrices {@link TreeMap} consisting of hourly electricity
-	 *                        prices along with time.
-	 * @param remainingEnergy Amount of energy that should be covered from grid for
-	 *                        consumption in night.
+	 * <p>
+	 * The periods are taken from the cost-optimal {@link DischargeSchedule} until
+	 * the end of the boundary space. It is only re-optimized - outside of the
+	 * Cycle - if predictions, prices or usable capacity changed; otherwise the
+	 * existing schedule is followed from the current available energy.
+	 *
+	 * @param availableEnergy Amount of energy available in the ess based on SoC
+	 *                        [Wmsec].
 	 * @param boundarySpace   the {@link BoundarySpace}
 	 * @return {@link List} list of target periods to avoid charging/discharging of
 	 *         the battery.
 	 */
-	private List<ZonedDateTime> calculateTargetPeriods(TreeMap<ZonedDateTime, Integer> consumptionMap,
-			TreeMap<ZonedDateTime, Float> quarterlyPrices, long remainingEnergy, BoundarySpace boundarySpace) {
+	private List<ZonedDateTime> calculateTargetPeriods(long availableEnergy, BoundarySpace boundarySpace) {
+		var start = this.consumptionMap.firstKey();
+		var periods = (int) Math.max(0, Duration.between(start, boundarySpace.proMoreThanCon).toMinutes() / 15);
+		var production = new int[periods];
+		var consumption = new int[periods];
+		var prices = new float[periods];
+		for (var i = 0; i < periods; i++) {
+			var time = start.plusMinutes(i * 15);
+			production[i] = Math.max(0, this.productionMap.getOrDefault(time, 0));
+			consumption[i] = this.consumptionMap.getOrDefault(time, 0);
+			prices[i] = this.quarterlyPricesMap.getOrDefault(time, Float.NaN);
+		}
+		this.optimizer.update(start, production, consumption, prices, this.usableCapacity);
 
-		List<ZonedDateTime> targetHours = new ArrayList<>();
 		var currentQuarterHour = TimeOfUseTariffUtils.getNowRoundedDownToMinutes(this.componentManager.getClock(), 15) //
 				.withZoneSameInstant(ZoneId.systemDefault());
 
-		List<Entry<ZonedDateTime, Float>> priceList = new ArrayList<>(quarterlyPrices //
-				.subMap(currentQuarterHour, boundarySpace.proMoreThanCon) //
-				.entrySet());
-		priceList.sort(Entry.comparingByValue());
-		long duration = 15 * 60 * 1000;
-
-		for (Entry<ZonedDateTime, Float> entry : priceList) {
-			targetHours.add(entry.getKey());
-
-			remainingEnergy = remainingEnergy - consumptionMap.get(entry.getKey()) * duration;
-
-			// checks if we have sufficient capacity.
-			if (remainingEnergy <= 0) {
-				break;
-			}
-		}
-
-		return targetHours;
+		// Value is divided by 3600 * 1000 to convert from [Wmsec] to [Wh].
+		return this.optimizer.getSchedule().getDelayedPeriods(currentQuarterHour, availableEnergy / 3600000);
 	}
 
 	@Override
@@ -77,6 +77,10 @@ public class AppValidateWorker extends AbstractWorker {
 
 	@Override
 	protected void forever() {
+		if (!this.parent.componentManager.isStartupCompleted()) {
+			// Deferred till Components are up and running
+			return;
+		}
 		this.validateApps();
 
 		this.parent._setDefectiveApp(!this.defectiveApps.isEmpty());
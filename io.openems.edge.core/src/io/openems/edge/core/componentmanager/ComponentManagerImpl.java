@@ -25,7 +25,10 @@ import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.runtime.ServiceComponentRuntime;
+import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
 import org.osgi.service.metatype.MetaTypeService;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
@@ -52,6 +55,7 @@ import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.user.User;
 import io.openems.edge.core.componentmanager.jsonrpc.ChannelExportXlsxRequest;
@@ -62,12 +66,14 @@ import io.openems.edge.core.componentmanager.jsonrpc.ChannelExportXlsxResponse;
 		name = ComponentManager.SINGLETON_SERVICE_PID, //
 		immediate = true, //
 		property = { //
-				"enabled=true" //
+				"enabled=true", //
+				EventConstants.EVENT_TOPIC + "=" + EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE //
 		})
 public class ComponentManagerImpl extends AbstractOpenemsComponent
-		implements ComponentManager, OpenemsComponent, JsonApi, ConfigurationListener {
+		implements ComponentManager, OpenemsComponent, JsonApi, ConfigurationListener, EventHandler {
 
 	private final List<ComponentManagerWorker> workers = new ArrayList<>();
+	private final StartupOrchestrator startupOrchestrator;
 	private final EdgeConfigWorker edgeConfigWorker;
 
 	protected BundleContext bundleContext;
@@ -92,6 +98,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 				OpenemsComponent.ChannelId.values(), //
 				ComponentManager.ChannelId.values() //
 		);
+		this.workers.add(this.startupOrchestrator = new StartupOrchestrator(this));
 		this.workers.add(new OsgiValidateWorker(this));
 		this.workers.add(new OutOfMemoryHeapDumpWorker(this));
 		this.workers.add(new DefaultConfigurationWorker(this));
@@ -616,6 +623,26 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		}
 	}
 
+	@Override
+	public void handleEvent(Event event) {
+		if (EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE.equals(event.getTopic())) {
+			this.startupOrchestrator.onCycle();
+		}
+	}
+
+	@Override
+	public boolean isStartupCompleted() {
+		return this.startupOrchestrator.isCompleted();
+	}
+
+	/**
+	 * Called by {@link StartupOrchestrator} once the startup is completed; starts
+	 * the deferred Workers.
+	 */
+	protected void onStartupCompleted() {
+		this.edgeConfigWorker.triggerNextRun();
+	}
+
 	@Override
 	public Clock getClock() {
 		var clockProvider = this.clockProvider;
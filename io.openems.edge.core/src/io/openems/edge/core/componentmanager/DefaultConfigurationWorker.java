@@ -2,6 +2,7 @@ package io.openems.edge.core.componentmanager;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
@@ -120,6 +121,21 @@ public class DefaultConfigurationWorker extends ComponentManagerWorker {
 			}
 		}
 
+		/*
+		 * Create Bridge.Http for Shelly devices that were configured before they
+		 * required it
+		 */
+		if (existingConfigs.stream().anyMatch(c -> //
+		"IO.Shelly.25".equals(c.factoryPid) || "IO.Shelly.Plug".equals(c.factoryPid)) //
+				&& existingConfigs.stream().noneMatch(c -> "Bridge.Http".equals(c.factoryPid))) {
+			this.createConfiguration(defaultConfigurationFailed, "Bridge.Http", Arrays.asList(//
+					new Property("id", "bridgeHttp0"), //
+					new Property("alias", ""), //
+					new Property("enabled", true), //
+					new Property("timeout", 5000) //
+			));
+		}
+
 		return defaultConfigurationFailed.get();
 	}
 
@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
@@ -37,6 +38,7 @@ import io.openems.common.types.EdgeConfig;
 import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetail;
 import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetailOpenemsType;
 import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetailState;
+import io.openems.common.types.EdgeConfig.Component.JsonFormat;
 import io.openems.common.types.OptionsEnum;
 import io.openems.common.utils.JsonUtils;
 import io.openems.edge.common.channel.Channel;
@@ -60,6 +62,7 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 	private final Queue<ConfigurationEvent> events = new ArrayDeque<>();
 
 	private EdgeConfig.ActualEdgeConfig.Builder cache = null;
+	private EdgeConfig lastEdgeConfig = null;
 
 	public EdgeConfigWorker(ComponentManagerImpl parent) {
 		super(parent);
@@ -67,6 +70,10 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 
 	@Override
 	protected synchronized void forever() {
+		if (!this.parent.isStartupCompleted()) {
+			// Deferred; EdgeConfig is still built on request
+			return;
+		}
 		this.getEdgeConfig();
 	}
 
@@ -88,7 +95,10 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 				wasConfigUpdated |= this.updateCacheFromEvent(event);
 			}
 			// Update Cache Channels
-			this.updateChannels(this.cache);
+			if (this.updateChannels(this.cache)) {
+				// Channel changes are not announced via event, but require a rebuild
+				this.lastEdgeConfig = null;
+			}
 
 		} else {
 
@@ -97,7 +107,12 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 			wasConfigUpdated = true;
 		}
 
-		var result = this.cache.buildEdgeConfig();
+		// Reuse the last EdgeConfig - and with it its cached JSON representation - if
+		// nothing changed
+		if (wasConfigUpdated || this.lastEdgeConfig == null) {
+			this.lastEdgeConfig = this.cache.buildEdgeConfig();
+		}
+		var result = this.lastEdgeConfig;
 
 		if (wasConfigUpdated) {
 			EventBuilder.from(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CONFIG_UPDATE) //
@@ -115,8 +130,14 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 
 	@Override
 	public synchronized void configurationEvent(ConfigurationEvent event) {
+		if (this.cache == null) {
+			// Cache was not built yet; it will contain this update
+			return;
+		}
 		this.events.offer(event);
-		this.triggerNextRun();
+		if (this.parent.isStartupCompleted()) {
+			this.triggerNextRun();
+		}
 	}
 
 	/**
@@ -131,7 +152,18 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 			var pid = event.getPid();
 			return this.readConfigurations(this.cache, "(service.pid=" + pid + ")");
 		}
-		// Something else - e.g. delete - create full EdgeConfig
+		if (event.getType() == ConfigurationEvent.CM_DELETED && event.getFactoryPid() != null) {
+			// Delete of a Factory Configuration: remove only the affected Component
+			var pid = event.getPid();
+			for (EdgeConfig.Component component : this.cache.getComponents().values()) {
+				if (pid.equals(component.getPid())) {
+					this.cache.removeComponent(component.getId());
+					return true;
+				}
+			}
+			return false;
+		}
+		// Something else - e.g. delete of a Singleton - create full EdgeConfig
 		this.cache = this.buildNewEdgeConfig();
 		return true;
 	}
@@ -167,7 +199,7 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 				this.log.warn("Component [" + component.id() + "] was missing!");
 				continue;
 			}
-			if (comp.getChannels().size() != component.channels().size()) {
+			if (comp.getChannels().size() != component.channels().size() + component.lazyChannelIds().size()) {
 				comp.setChannels(this.getChannels(component));
 				wasConfigUpdated = true;
 			}
@@ -200,41 +232,49 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 		var result = new TreeMap<String, EdgeConfig.Component.Channel>();
 		if (component != null) {
 			for (Channel<?> channel : component.channels()) {
-				var channelId = channel.channelId();
-				var doc = channelId.doc();
-				ChannelDetail detail = null;
-				switch (doc.getChannelCategory()) {
-				case ENUM: {
-					Map<String, JsonElement> values = new HashMap<>();
-					var d = (EnumDoc) doc;
-					for (OptionsEnum option : d.getOptions()) {
-						values.put(option.getName(), new JsonPrimitive(option.getValue()));
-					}
-					detail = new EdgeConfig.Component.Channel.ChannelDetailEnum(values);
-					break;
-				}
-				case OPENEMS_TYPE:
-					detail = new ChannelDetailOpenemsType();
-					break;
-				case STATE:
-					var d = (StateChannelDoc) doc;
-					var level = d.getLevel();
-					detail = new ChannelDetailState(level);
-					break;
-				}
-				result.put(channelId.id(), new EdgeConfig.Component.Channel(//
-						channelId.id(), //
-						doc.getType(), //
-						doc.getAccessMode(), //
-						doc.getText(), //
-						doc.getUnit(), //
-						detail //
-				));
+				addChannel(result, channel.channelId());
+			}
+			// Lazy Channels are listed without creating the Channel objects
+			for (var channelId : component.lazyChannelIds()) {
+				addChannel(result, channelId);
 			}
 		}
 		return result;
 	}
 
+	private static void addChannel(TreeMap<String, EdgeConfig.Component.Channel> result,
+			io.openems.edge.common.channel.ChannelId channelId) {
+		var doc = channelId.doc();
+		ChannelDetail detail = null;
+		switch (doc.getChannelCategory()) {
+		case ENUM: {
+			Map<String, JsonElement> values = new HashMap<>();
+			var d = (EnumDoc) doc;
+			for (OptionsEnum option : d.getOptions()) {
+				values.put(option.getName(), new JsonPrimitive(option.getValue()));
+			}
+			detail = new EdgeConfig.Component.Channel.ChannelDetailEnum(values);
+			break;
+		}
+		case OPENEMS_TYPE:
+			detail = new ChannelDetailOpenemsType();
+			break;
+		case STATE:
+			var d = (StateChannelDoc) doc;
+			var level = d.getLevel();
+			detail = new ChannelDetailState(level);
+			break;
+		}
+		result.put(channelId.id(), new EdgeConfig.Component.Channel(//
+				channelId.id(), //
+				doc.getType(), //
+				doc.getAccessMode(), //
+				doc.getText(), //
+				doc.getUnit(), //
+				detail //
+		));
+	}
+
 	/**
 	 * Read all existing configurations, even those that are not properly
 	 * initialized.
@@ -253,6 +293,7 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 			return false;
 		}
 
+		var wasConfigUpdated = false;
 		Set<String> missingComponentIds = new HashSet<>(builder.getComponents().keySet());
 		if (configs != null) {
 			for (Configuration config : configs) {
@@ -328,8 +369,15 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 				var channels = this.getChannels(componentId);
 
 				// Create EdgeConfig.Component and add it to Result
-				builder.addComponent(componentId, new EdgeConfig.Component(config.getPid(), componentId, componentAlias,
-						factoryPid, propertyMap, channels));
+				var component = new EdgeConfig.Component(config.getPid(), componentId, componentAlias, factoryPid,
+						propertyMap, channels);
+				var existingComponent = builder.getComponent(componentId);
+				if (existingComponent.isPresent() && isEqual(existingComponent.get(), component)) {
+					// Component did not change
+					continue;
+				}
+				builder.addComponent(componentId, component);
+				wasConfigUpdated = true;
 			}
 		}
 
@@ -339,9 +387,22 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 		if (filter == null) {
 			for (String missingComponentId : missingComponentIds) {
 				builder.removeComponent(missingComponentId);
+				wasConfigUpdated = true;
 			}
 		}
-		return true;
+		return wasConfigUpdated;
+	}
+
+	/**
+	 * Compares two {@link EdgeConfig.Component}s by their JSON representation.
+	 *
+	 * @param a the first {@link EdgeConfig.Component}
+	 * @param b the second {@link EdgeConfig.Component}
+	 * @return true if both are equal
+	 */
+	private static boolean isEqual(EdgeConfig.Component a, EdgeConfig.Component b) {
+		return Objects.equals(a.getPid(), b.getPid()) //
+				&& a.toJson(JsonFormat.COMPLETE).equals(b.toJson(JsonFormat.COMPLETE));
 	}
 
 	/**
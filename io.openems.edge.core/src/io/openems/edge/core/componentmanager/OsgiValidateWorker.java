@@ -105,7 +105,20 @@ public class OsgiValidateWorker extends ComponentManagerWorker {
 		}
 	}
 
+	/**
+	 * Restarts Components that were not activated for
+	 * {@link #RESTART_COMPONENTS_AFTER} checks.
+	 *
+	 * <p>
+	 * Components that are still waiting for one of their dependencies (see
+	 * {@link StartupOrchestrator#getDependencies(Dictionary)}) are not restarted,
+	 * as they are activated anyway once the dependency is available. All other
+	 * Components are independent of each other and restarted at once.
+	 */
 	private void restartDefectiveComponents() {
+		var activeComponentIds = this.parent.getEnabledComponents().stream() //
+				.map(OpenemsComponent::id) //
+				.collect(Collectors.toSet());
 		var it = this.restartComponents.entrySet().iterator();
 		while (it.hasNext()) {
 			var entry = it.next();
@@ -113,9 +126,15 @@ public class OsgiValidateWorker extends ComponentManagerWorker {
 				var componentId = entry.getKey();
 				// Update Configuration to try to restart Component
 				try {
-					this.parent.logInfo(this.log, "Trying to restart Component [" + componentId + "]");
 					var config = this.parent.getExistingConfigForId(componentId);
 					var properties = config.getProperties();
+					var missingDependencies = StartupOrchestrator.getMissingDependencies(properties,
+							activeComponentIds);
+					if (!missingDependencies.isEmpty()) {
+						// Wait for dependencies
+						continue;
+					}
+					this.parent.logInfo(this.log, "Trying to restart Component [" + componentId + "]");
 					config.update(properties);
 
 				} catch (IOException | OpenemsNamedException e) {
@@ -124,7 +143,6 @@ public class OsgiValidateWorker extends ComponentManagerWorker {
 				}
 				// Remove from list
 				it.remove();
-				return;
 			}
 		}
 	}
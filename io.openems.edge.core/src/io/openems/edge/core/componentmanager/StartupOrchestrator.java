@@ -0,0 +1,247 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.osgi.service.cm.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * This Worker orchestrates the startup of OpenEMS Edge.
+ *
+ * <p>
+ * Components are activated by the OSGi Declarative Services runtime as soon as
+ * their configuration is available and their references are satisfied. This
+ * worker derives the dependencies between configured Components from their
+ * '*.target' properties and
+ *
+ * <ul>
+ * <li>records a startup timeline, i.e. the time when each Component was first
+ * seen active
+ * <li>provides the dependencies to {@link OsgiValidateWorker}, so that only
+ * Components whose dependencies are active get restarted
+ * <li>defers non-critical Workers - like {@link EdgeConfigWorker} and the App
+ * validation - till {@link #STABLE_CYCLES} Cycles passed without newly
+ * activated Components
+ * </ul>
+ */
+public class StartupOrchestrator extends ComponentManagerWorker {
+
+	private static final int CYCLE_TIME = 1_000; // in ms
+	private static final int STABLE_CYCLES = 10;
+	private static final long STARTUP_TIMEOUT = 5 * 60_000; // in ms
+	private static final int TIMELINE_LOG_ENTRIES = 5;
+
+	/**
+	 * Matches Component-IDs in OSGi filters, e.g. '(&amp;(enabled=true)(id=ess0))'.
+	 */
+	private static final Pattern TARGET_ID = Pattern.compile("\\(id=([^()]+)\\)");
+
+	private final Logger log = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+	/**
+	 * Map from Component-ID to the time in [ms] after start when it was first seen
+	 * active.
+	 */
+	private final Map<String, Long> timeline = new LinkedHashMap<>();
+
+	/**
+	 * Map from Component-ID to the Component-IDs it is still waiting for.
+	 */
+	private final Map<String, Set<String>> waiting = new HashMap<>();
+
+	private final AtomicInteger stableCycles = new AtomicInteger(0);
+	private final long startTime = System.currentTimeMillis();
+
+	private volatile long firstCycle = -1;
+	private volatile boolean isCompleted = false;
+	private int configuredComponents = 0;
+
+	public StartupOrchestrator(ComponentManagerImpl parent) {
+		super(parent);
+	}
+
+	@Override
+	protected void forever() {
+		if (this.isCompleted) {
+			return;
+		}
+		var now = this.getElapsed();
+		var configs = this.readEnabledConfigurations();
+		var activeComponentIds = this.parent.getEnabledComponents().stream() //
+				.map(OpenemsComponent::id) //
+				.collect(Collectors.toSet());
+
+		final Map<String, Set<String>> waiting = new HashMap<>();
+		var hasNewComponents = false;
+		synchronized (this.timeline) {
+			for (var config : configs) {
+				var properties = config.getProperties();
+				if (properties == null) {
+					continue;
+				}
+				var componentId = DictionaryUtils.getAsOptionalString(properties, "id").orElse(null);
+				if (componentId == null) {
+					continue;
+				}
+				if (activeComponentIds.contains(componentId)) {
+					if (this.timeline.putIfAbsent(componentId, now) == null) {
+						hasNewComponents = true;
+					}
+				} else {
+					waiting.put(componentId, getMissingDependencies(properties, activeComponentIds));
+				}
+			}
+			this.waiting.clear();
+			this.waiting.putAll(waiting);
+			this.configuredComponents = configs.length;
+		}
+
+		if (hasNewComponents) {
+			// Startup is not stable yet
+			this.stableCycles.set(0);
+		}
+		if (this.stableCycles.get() >= STABLE_CYCLES || now > STARTUP_TIMEOUT) {
+			this.complete(now);
+		}
+	}
+
+	/**
+	 * Called after every Cycle.
+	 */
+	public void onCycle() {
+		if (this.isCompleted) {
+			return;
+		}
+		if (this.firstCycle < 0) {
+			this.firstCycle = this.getElapsed();
+		}
+		this.stableCycles.incrementAndGet();
+	}
+
+	/**
+	 * Is the startup completed?.
+	 *
+	 * @return true after {@link #STABLE_CYCLES} stable Cycles or after
+	 *         {@link #STARTUP_TIMEOUT}
+	 */
+	public boolean isCompleted() {
+		return this.isCompleted;
+	}
+
+	private void complete(long now) {
+		this.isCompleted = true;
+		this.parent._setStartupDuration(now);
+
+		String slowest;
+		synchronized (this.timeline) {
+			slowest = this.timeline.entrySet().stream() //
+					.sorted(Collections.reverseOrder(Comparator.comparingLong(Map.Entry::getValue))) //
+					.limit(TIMELINE_LOG_ENTRIES) //
+					.map(e -> e.getKey() + "[" + e.getValue() + "ms]") //
+					.collect(Collectors.joining(" "));
+			this.parent.logInfo(this.log, "Startup completed after [" + now + "ms]. " //
+					+ "First Cycle after [" + this.firstCycle + "ms]. " //
+					+ "Active Components [" + this.timeline.size() + "/" + this.configuredComponents + "]. " //
+					+ "Latest: " + slowest);
+		}
+		this.parent.onStartupCompleted();
+	}
+
+	private long getElapsed() {
+		return System.currentTimeMillis() - this.startTime;
+	}
+
+	/**
+	 * Gets the Component-IDs that are referenced in '*.target' properties of a
+	 * Component configuration.
+	 *
+	 * @param properties the configuration properties
+	 * @return the Component-IDs
+	 */
+	protected static Set<String> getDependencies(Dictionary<String, Object> properties) {
+		final Set<String> result = new TreeSet<>();
+		for (var keys = properties.keys(); keys.hasMoreElements();) {
+			var key = keys.nextElement();
+			if (!key.endsWith(".target")) {
+				continue;
+			}
+			var value = properties.get(key);
+			if (!(value instanceof String)) {
+				continue;
+			}
+			var matcher = TARGET_ID.matcher((String) value);
+			while (matcher.find()) {
+				result.add(matcher.group(1));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the dependencies of a Component configuration that are not active.
+	 *
+	 * @param properties         the configuration properties
+	 * @param activeComponentIds the IDs of the active Components
+	 * @return the Component-IDs
+	 */
+	protected static Set<String> getMissingDependencies(Dictionary<String, Object> properties,
+			Collection<String> activeComponentIds) {
+		var result = getDependencies(properties);
+		result.removeAll(activeComponentIds);
+		return result;
+	}
+
+	private Configuration[] readEnabledConfigurations() {
+		try {
+			var configs = this.parent.cm.listConfigurations("(enabled=true)");
+			if (configs != null) {
+				return configs;
+			}
+		} catch (Exception e) {
+			this.parent.logError(this.log, e.getMessage());
+		}
+		return new Configuration[0];
+	}
+
+	@Override
+	protected int getCycleTime() {
+		if (this.isCompleted) {
+			return ALWAYS_WAIT_FOR_TRIGGER_NEXT_RUN;
+		}
+		return CYCLE_TIME;
+	}
+
+	@Override
+	public String debugLog() {
+		if (this.isCompleted) {
+			return null;
+		}
+		synchronized (this.timeline) {
+			var result = new StringBuilder() //
+					.append("Startup:") //
+					.append(this.timeline.size()).append("/").append(this.configuredComponents);
+			this.waiting.entrySet().stream() //
+					.filter(e -> !e.getValue().isEmpty()) //
+					.sorted(Map.Entry.comparingByKey()) //
+					.forEach(e -> result //
+							.append(" ").append(e.getKey()) //
+							.append("[").append(String.join(",", e.getValue())).append("]"));
+			return result.toString();
+		}
+	}
+
+}
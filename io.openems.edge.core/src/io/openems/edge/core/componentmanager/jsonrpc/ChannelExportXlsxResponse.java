@@ -21,9 +21,13 @@ import io.openems.common.OpenemsConstants;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.response.Base64PayloadResponse;
 import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.EnumDoc;
 import io.openems.edge.common.channel.EnumReadChannel;
 import io.openems.edge.common.channel.StateChannel;
+import io.openems.edge.common.channel.StateChannelDoc;
 import io.openems.edge.common.channel.internal.StateCollectorChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
 /**
@@ -125,6 +129,31 @@ public class ChannelExportXlsxResponse extends Base64PayloadResponse {
 
 						row++;
 					}
+
+					// Lazy Channels are not part of channels(); export their values without creating
+					// the Channel objects. Lazy Channels are always READ_ONLY and have no Read Source.
+					final var lazyValues = component.lazyChannelValues();
+					List<ChannelId> lazyChannelIds = component.lazyChannelIds().stream() //
+							.sorted((c1, c2) -> c1.name().compareTo(c2.name())) //
+							.collect(Collectors.toList());
+					for (ChannelId channelId : lazyChannelIds) {
+						var doc = channelId.doc();
+						var value = lazyValues.get(channelId);
+						var description = "";
+						if (doc instanceof EnumDoc) {
+							description = ((EnumDoc) doc).getOptionString((Integer) value);
+						} else if (doc instanceof StateChannelDoc && Boolean.TRUE.equals(value)) {
+							description = doc.getText();
+						}
+
+						ws.value(row, COL_CHANNEL_ID, channelId.id());
+						ws.value(row, COL_VALUE, value == null ? Value.UNDEFINED_VALUE_STRING : value.toString());
+						ws.value(row, COL_UNIT, doc.getUnit().getSymbol());
+						ws.value(row, COL_DESCRIPTION, description);
+						ws.value(row, COL_ACCESS, doc.getAccessMode().getAbbreviation());
+
+						row++;
+					}
 				} finally {
 					if (wb != null) {
 						wb.finish();
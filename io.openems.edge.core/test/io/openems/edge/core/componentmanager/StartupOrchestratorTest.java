@@ -0,0 +1,27 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class StartupOrchestratorTest {
+
+	@Test
+	public void testGetDependencies() {
+		var properties = new Hashtable<String, Object>();
+		properties.put("id", "ctrlBalancing0");
+		properties.put("ess.target", "(&(enabled=true)(!(service.factoryPid=Ess.Cluster))(|(id=ess0)))");
+		properties.put("meter.target", "(&(enabled=true)(!(service.factoryPid=Meter))(|(id=meter0)(id=meter1)))");
+		properties.put("timedata.target", "(enabled=true)");
+		properties.put("ess_id", "(id=ignored)");
+
+		assertEquals(Set.of("ess0", "meter0", "meter1"), StartupOrchestrator.getDependencies(properties));
+		assertEquals(Set.of("meter1"),
+				StartupOrchestrator.getMissingDependencies(properties, List.of("ess0", "meter0", "_sum")));
+	}
+
+}
@@ -11,6 +11,8 @@ public class ErrorDoc extends StateChannelDoc {
 
 	public ErrorDoc(Level level) {
 		super(level);
+		// Only few of the thousands of error codes are ever active
+		this.lazy();
 	}
 
 	private static Map<Integer, ErrorDoc> mapCodeToDoc = new HashMap<>();
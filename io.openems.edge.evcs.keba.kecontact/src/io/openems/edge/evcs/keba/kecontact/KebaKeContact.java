@@ -1,10 +1,7 @@
 package io.openems.edge.evcs.keba.kecontact;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetAddress;
-import java.net.SocketException;
 import java.net.UnknownHostException;
 
 import org.osgi.service.component.ComponentContext;
@@ -53,7 +50,7 @@ public class KebaKeContact extends AbstractManagedEvcsComponent
 	public static final int UDP_PORT = 7090;
 
 	private final Logger log = LoggerFactory.getLogger(KebaKeContact.class);
-	private final ReadWorker readWorker = new ReadWorker(this);
+	private final ReportScheduler reportScheduler = new ReportScheduler(this);
 	private final ReadHandler readHandler = new ReadHandler(this);
 	private Boolean lastConnectionLostState = false;
 
@@ -94,25 +91,22 @@ public class KebaKeContact extends AbstractManagedEvcsComponent
 		this._setFixedMaximumHardwarePower(this.getConfiguredMaximumHardwarePower());
 
 		/*
-		 * subscribe on replies to report queries
+		 * subscribe on replies to report queries and start querying reports
 		 */
-		this.kebaKeContactCore.onReceive((ip, message) -> {
-			if (ip.equals(this.ip)) { // same IP -> handle message
-				this.readHandler.accept(message);
-				this.channel(Evcs.ChannelId.CHARGINGSTATION_COMMUNICATION_FAILED).setNextValue(false);
-			}
-		});
-
-		// start queryWorker
-		this.readWorker.activate(this.id() + "query");
-
+		this.reportScheduler.trigger();
+		this.kebaKeContactCore.register(this.ip, message -> {
+			this.readHandler.accept(message);
+			this.channel(Evcs.ChannelId.CHARGINGSTATION_COMMUNICATION_FAILED).setNextValue(false);
+		}, this.reportScheduler::sendDueReports);
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
-		this.readWorker.deactivate();
+		if (this.ip != null) {
+			this.kebaKeContactCore.unregister(this.ip);
+		}
 	}
 
 	@Override
@@ -144,14 +138,9 @@ public class KebaKeContact extends AbstractManagedEvcsComponent
 	 * @return true if sent
 	 */
 	protected boolean send(String s) {
-		var raw = s.getBytes();
-		var packet = new DatagramPacket(raw, raw.length, this.ip, KebaKeContact.UDP_PORT);
-		try (DatagramSocket datagrammSocket = new DatagramSocket()) {
-			datagrammSocket.send(packet);
+		try {
+			this.kebaKeContactCore.send(this.ip, s);
 			return true;
-		} catch (SocketException e) {
-			this.logError(this.log, "Unable to open UDP socket for sending [" + s + "] to [" + this.ip.getHostAddress()
-					+ "]: " + e.getMessage());
 		} catch (IOException e) {
 			this.logError(this.log,
 					"Unable to send [" + s + "] UDP message to [" + this.ip.getHostAddress() + "]: " + e.getMessage());
@@ -163,7 +152,8 @@ public class KebaKeContact extends AbstractManagedEvcsComponent
 	 * Triggers an immediate execution of query reports.
 	 */
 	protected void triggerQuery() {
-		this.readWorker.triggerNextRun();
+		this.reportScheduler.trigger();
+		this.kebaKeContactCore.trigger(this.ip);
 	}
 
 	@Override
@@ -183,8 +173,8 @@ public class KebaKeContact extends AbstractManagedEvcsComponent
 		}
 	}
 
-	public ReadWorker getReadWorker() {
-		return this.readWorker;
+	public ReportScheduler getReportScheduler() {
+		return this.reportScheduler;
 	}
 
 	public ReadHandler getReadHandler() {
@@ -17,7 +17,7 @@ import io.openems.edge.evcs.api.Phases;
 import io.openems.edge.evcs.api.Status;
 
 /**
- * Handles replies to Report Queries sent by {@link ReadWorker}.
+ * Handles replies to Report Queries sent by {@link ReportScheduler}.
  */
 public class ReadHandler implements Consumer<String> {
 
@@ -0,0 +1,98 @@
+package io.openems.edge.evcs.keba.kecontact;
+
+import java.util.concurrent.TimeUnit;
+
+import io.openems.edge.evcs.api.Evcs;
+import io.openems.edge.evcs.keba.kecontact.core.KebaKeContactCore;
+
+/**
+ * Decides when to query the reports of one KEBA KeContact.
+ *
+ * <p>
+ * {@link #sendDueReports(long)} is called by the {@link KebaKeContactCore} on
+ * its transport thread whenever the deadline returned by the previous call has
+ * passed. Deadlines of all charging stations are handled together by the core,
+ * so no thread is required per charging station.
+ */
+public class ReportScheduler {
+
+	private static final long MAX_TIME_TILL_REPLY = TimeUnit.SECONDS.toMillis(15);
+	private static final long MIN_TIME_BETWEEN_QUERIES = 10; // [ms]
+	private static final Report[] REPORTS = Report.values();
+	private static final String[] QUERIES = { "report 1", "report 2", "report 3" };
+
+	private final KebaKeContact parent;
+	private final long[] lastQuery = new long[REPORTS.length];
+	private final boolean[] validateReply = new boolean[REPORTS.length];
+
+	private long lastSend = Long.MIN_VALUE;
+	private volatile boolean isTriggered = true;
+
+	public ReportScheduler(KebaKeContact parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Requests all reports on the next call of {@link #sendDueReports(long)}.
+	 */
+	public void trigger() {
+		this.isTriggered = true;
+	}
+
+	/**
+	 * Sends all due report queries and validates the replies.
+	 *
+	 * @param now the current time in [ms]
+	 * @return the time of the next deadline in [ms]
+	 */
+	public long sendDueReports(long now) {
+		if (this.isTriggered) {
+			this.isTriggered = false;
+			for (var report : REPORTS) {
+				this.lastQuery[report.ordinal()] = Long.MIN_VALUE / 2;
+			}
+		}
+
+		var next = Long.MAX_VALUE;
+		for (var report : REPORTS) {
+			var i = report.ordinal();
+			var due = this.lastQuery[i] + TimeUnit.SECONDS.toMillis(report.getRequestSeconds());
+			if (due <= now) {
+				var earliest = this.lastSend + MIN_TIME_BETWEEN_QUERIES;
+				if (this.lastSend != Long.MIN_VALUE && earliest > now) {
+					// Do not flood the charging station with queries
+					next = Math.min(next, earliest);
+					continue;
+				}
+				this.lastQuery[i] = now;
+				this.lastSend = now;
+				this.parent.send(QUERIES[i]);
+				this.validateReply[i] = true;
+				due = now + TimeUnit.SECONDS.toMillis(report.getRequestSeconds());
+			}
+			next = Math.min(next, due);
+
+			// Sets the state of the component if the report doesn't answer in a few seconds
+			if (this.validateReply[i]) {
+				var timeout = this.lastQuery[i] + MAX_TIME_TILL_REPLY;
+				if (timeout <= now) {
+					this.currentCommunication(this.parent.getReadHandler().hasResultandReset(report));
+					this.validateReply[i] = false;
+				} else {
+					next = Math.min(next, timeout);
+				}
+			}
+		}
+		return next;
+	}
+
+	/**
+	 * Set the current fail state of the EVCS to true or false.
+	 *
+	 * @param receivedAMessage return value from the ReadHandler
+	 */
+	private void currentCommunication(boolean receivedAMessage) {
+		this.parent.channel(Evcs.ChannelId.CHARGINGSTATION_COMMUNICATION_FAILED).setNextValue(!receivedAMessage);
+	}
+
+}
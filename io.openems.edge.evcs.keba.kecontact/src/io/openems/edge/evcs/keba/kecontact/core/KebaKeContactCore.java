@@ -1,16 +1,55 @@
 package io.openems.edge.evcs.keba.kecontact.core;
 
+import java.io.IOException;
 import java.net.InetAddress;
-import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
 
+/**
+ * Shared UDP transport for all KEBA KeContact charging stations.
+ *
+ * <p>
+ * All messages are sent and received via one socket on
+ * {@link io.openems.edge.evcs.keba.kecontact.KebaKeContact#UDP_PORT}; replies
+ * are dispatched by the IP address of the sender.
+ */
 public interface KebaKeContactCore {
 
 	/**
-	 * Callback on receive of a message. InetAddress is the address of the sending
-	 * EVCS, String is the message.
+	 * Registers a charging station.
 	 *
-	 * @param callback Callback
+	 * <p>
+	 * Both callbacks are called on the single transport thread.
+	 *
+	 * @param ip         the IP address of the charging station
+	 * @param onReceive  handles every message received from the IP address
+	 * @param onDeadline called with the current time in [ms] once the previous
+	 *                   deadline has passed; returns the next deadline in [ms]
+	 */
+	public void register(InetAddress ip, Consumer<String> onReceive, LongUnaryOperator onDeadline);
+
+	/**
+	 * Unregisters the charging station with the given IP address.
+	 *
+	 * @param ip the IP address of the charging station
+	 */
+	public void unregister(InetAddress ip);
+
+	/**
+	 * Calls the 'onDeadline' callback of the charging station as soon as
+	 * possible.
+	 *
+	 * @param ip the IP address of the charging station
+	 */
+	public void trigger(InetAddress ip);
+
+	/**
+	 * Sends a message to a charging station.
+	 *
+	 * @param ip      the IP address of the charging station
+	 * @param message the message
+	 * @throws IOException on error
 	 */
-	public void onReceive(BiConsumer<InetAddress, String> callback);
+	public void send(InetAddress ip, String message) throws IOException;
 
 }
@@ -1,13 +1,22 @@
 package io.openems.edge.evcs.keba.kecontact.core;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetAddress;
-import java.net.SocketException;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.BiConsumer;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -24,76 +33,252 @@ import io.openems.edge.evcs.keba.kecontact.KebaKeContact;
 		immediate = false)
 public class KebaKeContactCoreImpl implements KebaKeContactCore {
 
+	private static final int BUFFER_SIZE = 512;
+
+	private static class Station {
+		private final InetSocketAddress address;
+		private final Consumer<String> onReceive;
+		private final LongUnaryOperator onDeadline;
+		private long deadline = Long.MIN_VALUE;
+
+		private Station(InetAddress ip, Consumer<String> onReceive, LongUnaryOperator onDeadline) {
+			this.address = new InetSocketAddress(ip, KebaKeContact.UDP_PORT);
+			this.onReceive = onReceive;
+			this.onDeadline = onDeadline;
+		}
+	}
+
 	private final Logger log = LoggerFactory.getLogger(KebaKeContactCoreImpl.class);
-	private final List<BiConsumer<InetAddress, String>> onReceiveCallbacks = new CopyOnWriteArrayList<>();
-	private ReceiveWorker receiveWorker = null;
+	private final Map<InetAddress, Station> stations = new ConcurrentHashMap<>();
+	private final Queue<Station> triggered = new ConcurrentLinkedQueue<>();
+	private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+	private volatile DatagramChannel channel = null;
+	private Selector selector = null;
+	private TransportWorker worker = null;
 
 	@Activate
 	void activate() throws OpenemsException {
-		this.receiveWorker = new ReceiveWorker(KebaKeContact.UDP_PORT);
-		this.receiveWorker.activate("kebaCore");
+		try {
+			this.selector = Selector.open();
+			this.openChannel();
+		} catch (IOException e) {
+			this.close();
+			throw new OpenemsException("Unable to open port [" + KebaKeContact.UDP_PORT
+					+ "] to receive UDP messages from KEBA KeContact. " + e.getMessage());
+		}
+		this.worker = new TransportWorker();
+		this.worker.activate("kebaCore");
+		this.log.info("Started Evcs.Keba.KeContact.Core listener on port [" + KebaKeContact.UDP_PORT + "]");
 	}
 
 	@Deactivate
 	protected void deactivate() {
-		if (this.receiveWorker != null) {
-			this.receiveWorker.deactivate();
+		if (this.worker != null) {
+			this.worker.deactivate();
+		}
+		this.close();
+		this.log.info("Stopped Evcs.Keba.KeContact.Core listener on port [" + KebaKeContact.UDP_PORT + "]");
+	}
+
+	private void openChannel() throws IOException {
+		var channel = DatagramChannel.open();
+		try {
+			channel.bind(new InetSocketAddress(KebaKeContact.UDP_PORT));
+			channel.configureBlocking(false);
+			channel.register(this.selector, SelectionKey.OP_READ);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		this.channel = channel;
+	}
+
+	private void close() {
+		try {
+			// Close the Selector first; the worker does not reopen the channel then
+			if (this.selector != null) {
+				this.selector.close();
+			}
+			if (this.channel != null) {
+				this.channel.close();
+			}
+		} catch (IOException e) {
+			this.log.warn("Unable to close UDP socket: " + e.getMessage());
 		}
 	}
 
 	@Override
-	public void onReceive(BiConsumer<InetAddress, String> callback) {
-		this.onReceiveCallbacks.add(callback);
+	public void register(InetAddress ip, Consumer<String> onReceive, LongUnaryOperator onDeadline) {
+		var station = new Station(ip, onReceive, onDeadline);
+		this.stations.put(ip, station);
+		this.triggered.add(station);
+		this.wakeup();
 	}
 
-	private class ReceiveWorker extends AbstractImmediateWorker {
+	@Override
+	public void unregister(InetAddress ip) {
+		this.stations.remove(ip);
+	}
 
-		private DatagramSocket socket;
+	@Override
+	public void trigger(InetAddress ip) {
+		var station = this.stations.get(ip);
+		if (station != null) {
+			this.triggered.add(station);
+			this.wakeup();
+		}
+	}
 
-		private ReceiveWorker(int port) throws OpenemsException {
-			try {
-				this.socket = new DatagramSocket(port);
-			} catch (SocketException e) {
-				throw new OpenemsException("Unable to open port [" + port
-						+ "] to receive UDP messages from KEBA KeContact. " + e.getMessage());
-			}
+	private void wakeup() {
+		var selector = this.selector;
+		if (selector != null && selector.isOpen()) {
+			selector.wakeup();
 		}
+	}
 
-		@Override
-		public void activate(String name) {
-			super.activate(name);
-			KebaKeContactCoreImpl.this.log
-					.info("Started Evcs.Keba.KeContact.Core listener on port [" + KebaKeContact.UDP_PORT + "]");
+	@Override
+	public void send(InetAddress ip, String message) throws IOException {
+		var station = this.stations.get(ip);
+		var address = station != null ? station.address : new InetSocketAddress(ip, KebaKeContact.UDP_PORT);
+		synchronized (this.sendBuffer) {
+			var buffer = this.sendBuffer;
+			buffer.clear();
+			if (!putAscii(buffer, message)) {
+				buffer.clear();
+				buffer.put(message.getBytes(StandardCharsets.UTF_8));
+			}
+			buffer.flip();
+			if (this.channel.send(buffer, address) == 0) {
+				throw new IOException("UDP send buffer is full");
+			}
 		}
+	}
 
-		@Override
-		public void deactivate() {
-			this.socket.close();
-			super.deactivate();
-			KebaKeContactCoreImpl.this.log
-					.info("Stopped Evcs.Keba.KeContact.Core listener on port [" + KebaKeContact.UDP_PORT + "]");
+	/**
+	 * Writes an ASCII string to the buffer without intermediate byte array.
+	 *
+	 * @param buffer the {@link ByteBuffer}
+	 * @param value  the string
+	 * @return false if the string contains non-ASCII characters
+	 */
+	private static boolean putAscii(ByteBuffer buffer, String value) {
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c > 0x7F) {
+				return false;
+			}
+			buffer.put((byte) c);
 		}
+		return true;
+	}
+
+	private class TransportWorker extends AbstractImmediateWorker {
+
+		private final Queue<Station> deadlines = new PriorityQueue<>(
+				Comparator.comparingLong((Station station) -> station.deadline));
+		private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		private final byte[] receiveBytes = new byte[BUFFER_SIZE];
 
 		@Override
-		protected void forever() {
-			// Wait for message
-			var packet = new DatagramPacket(new byte[512], 512);
+		protected void forever() throws IOException {
+			if (!KebaKeContactCoreImpl.this.selector.isOpen()) {
+				return; // deactivated
+			}
+			if (!KebaKeContactCoreImpl.this.channel.isOpen()) {
+				// e.g. closed by an interrupt of a sending thread
+				KebaKeContactCoreImpl.this.log.warn("Reopening UDP socket for KEBA KeContact");
+				KebaKeContactCoreImpl.this.openChannel();
+			}
+
+			var now = System.currentTimeMillis();
+
+			// (Re-)Schedule newly registered and triggered stations
+			Station station;
+			while ((station = KebaKeContactCoreImpl.this.triggered.poll()) != null) {
+				this.deadlines.remove(station);
+				station.deadline = now;
+				this.deadlines.add(station);
+			}
+
+			// Handle all due deadlines at once
+			while ((station = this.deadlines.peek()) != null && station.deadline <= now) {
+				this.deadlines.poll();
+				if (KebaKeContactCoreImpl.this.stations.get(station.address.getAddress()) != station) {
+					continue; // unregistered
+				}
+				try {
+					station.deadline = station.onDeadline.applyAsLong(now);
+				} catch (RuntimeException e) {
+					KebaKeContactCoreImpl.this.log.error("Error while querying KEBA KeContact ["
+							+ station.address.getAddress().getHostAddress() + "]: " + e.getMessage());
+					station.deadline = now + 1000;
+				}
+				this.deadlines.add(station);
+			}
+
+			// Wait for messages or the next deadline
+			var next = this.deadlines.peek();
+			var timeout = next == null ? 0 : Math.max(1, next.deadline - System.currentTimeMillis());
 			try {
-				this.socket.receive(packet);
-			} catch (IOException e) {
-				KebaKeContactCoreImpl.this.log
-						.error("Error while receiving data from KEBA KeContact: " + e.getMessage());
+				KebaKeContactCoreImpl.this.selector.select(timeout);
+				KebaKeContactCoreImpl.this.selector.selectedKeys().clear();
+			} catch (ClosedSelectorException e) {
+				return; // deactivated
 			}
 
-			// Read message
-			var ip = packet.getAddress();
-			var len = packet.getLength();
-			var data = packet.getData();
-			var message = new String(data, 0, len);
+			this.receive();
+		}
 
-			// call callbacks
-			KebaKeContactCoreImpl.this.onReceiveCallbacks.forEach(consumer -> consumer.accept(ip, message));
+		private void receive() {
+			while (true) {
+				var buffer = this.receiveBuffer;
+				buffer.clear();
+				InetSocketAddress sender;
+				try {
+					sender = (InetSocketAddress) KebaKeContactCoreImpl.this.channel.receive(buffer);
+				} catch (IOException e) {
+					if (KebaKeContactCoreImpl.this.channel.isOpen()) {
+						KebaKeContactCoreImpl.this.log
+								.error("Error while receiving data from KEBA KeContact: " + e.getMessage());
+					}
+					return;
+				}
+				if (sender == null) {
+					return; // no more messages
+				}
+				if (!KebaKeContactCoreImpl.this.stations.containsKey(sender.getAddress())) {
+					continue;
+				}
+				buffer.flip();
+				var length = buffer.remaining();
+				buffer.get(this.receiveBytes, 0, length);
+				KebaKeContactCoreImpl.this.dispatch(sender.getAddress(),
+						new String(this.receiveBytes, 0, length, StandardCharsets.UTF_8));
+			}
+		}
+	}
+
+	/**
+	 * Passes a received message to the charging station with the IP address of
+	 * the sender.
+	 *
+	 * @param sender  the IP address of the sender
+	 * @param message the message
+	 * @return false if no charging station is registered for the IP address
+	 */
+	protected boolean dispatch(InetAddress sender, String message) {
+		var station = this.stations.get(sender);
+		if (station == null) {
+			return false;
+		}
+		try {
+			station.onReceive.accept(message);
+		} catch (RuntimeException e) {
+			this.log.error("Error while handling message from KEBA KeContact [" + sender.getHostAddress() + "]: "
+					+ e.getMessage());
 		}
+		return true;
 	}
 
 }
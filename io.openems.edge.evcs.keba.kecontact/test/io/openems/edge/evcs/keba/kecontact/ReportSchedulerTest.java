@@ -0,0 +1,102 @@
+package io.openems.edge.evcs.keba.kecontact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.evcs.api.Evcs;
+
+public class ReportSchedulerTest {
+
+	private static class TestKebaKeContact extends KebaKeContact {
+
+		private final List<String> sent = new ArrayList<>();
+
+		@Override
+		protected boolean send(String s) {
+			this.sent.add(s);
+			return true;
+		}
+
+		@Override
+		protected void logInfoInDebugmode(Logger log, String string) {
+			// no Config
+		}
+
+		private Boolean getCommunicationFailed() {
+			Channel<Boolean> channel = this.channel(Evcs.ChannelId.CHARGINGSTATION_COMMUNICATION_FAILED);
+			return channel.getNextValue().get();
+		}
+	}
+
+	@Test
+	public void testSpacing() {
+		final var keba = new TestKebaKeContact();
+		final var sut = new ReportScheduler(keba);
+
+		// All reports are due initially; queries are sent 10 ms apart
+		assertEquals(1_010, sut.sendDueReports(1_000));
+		assertEquals(List.of("report 1"), keba.sent);
+		assertEquals(1_010, sut.sendDueReports(1_005));
+		assertEquals(1, keba.sent.size());
+		assertEquals(1_020, sut.sendDueReports(1_010));
+		assertEquals(List.of("report 1", "report 2"), keba.sent);
+
+		// Next deadline is the interval of 'report 3'
+		assertEquals(11_020, sut.sendDueReports(1_020));
+		assertEquals(List.of("report 1", "report 2", "report 3"), keba.sent);
+		assertEquals(11_020, sut.sendDueReports(5_000));
+		assertEquals(3, keba.sent.size());
+
+		// Only 'report 3' is queried again
+		sut.sendDueReports(11_020);
+		assertEquals(List.of("report 1", "report 2", "report 3", "report 3"), keba.sent);
+	}
+
+	@Test
+	public void testTrigger() {
+		final var keba = new TestKebaKeContact();
+		final var sut = new ReportScheduler(keba);
+		sut.sendDueReports(1_000);
+		sut.sendDueReports(1_010);
+		sut.sendDueReports(1_020);
+		assertEquals(3, keba.sent.size());
+
+		// All reports are queried again after a trigger, still 10 ms apart
+		sut.trigger();
+		assertEquals(2_010, sut.sendDueReports(2_000));
+		assertEquals("report 1", keba.sent.get(3));
+		sut.sendDueReports(2_010);
+		sut.sendDueReports(2_020);
+		assertEquals(List.of("report 1", "report 2", "report 3", "report 1", "report 2", "report 3"), keba.sent);
+	}
+
+	@Test
+	public void testReplyValidation() {
+		final var keba = new TestKebaKeContact();
+		final var sut = new ReportScheduler(keba);
+		sut.sendDueReports(1_000);
+		sut.sendDueReports(1_010);
+		sut.sendDueReports(1_020);
+
+		// Only 'report 1' is answered
+		keba.getReadHandler().accept("{\"ID\":\"1\"}");
+
+		// Replies are validated 15 s after the query
+		assertEquals(16_000, sut.sendDueReports(11_020));
+		assertEquals(16_010, sut.sendDueReports(16_000));
+		assertFalse(keba.getCommunicationFailed());
+
+		// Missing reply to 'report 2'
+		sut.sendDueReports(16_010);
+		assertTrue(keba.getCommunicationFailed());
+	}
+
+}
@@ -0,0 +1,53 @@
+package io.openems.edge.evcs.keba.kecontact.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class KebaKeContactCoreImplTest {
+
+	@Test
+	public void testDispatch() throws Exception {
+		final var ip1 = InetAddress.getByName("10.0.0.1");
+		final var ip2 = InetAddress.getByName("10.0.0.2");
+		final List<String> messages1 = new ArrayList<>();
+		final List<String> messages2 = new ArrayList<>();
+		final var sut = new KebaKeContactCoreImpl();
+		sut.register(ip1, messages1::add, now -> Long.MAX_VALUE);
+		sut.register(ip2, messages2::add, now -> Long.MAX_VALUE);
+
+		// Messages are passed to the charging station of the sender
+		assertTrue(sut.dispatch(ip1, "{\"ID\":\"1\"}"));
+		assertTrue(sut.dispatch(ip2, "{\"ID\":\"2\"}"));
+		assertTrue(sut.dispatch(ip1, "TCH-OK :done"));
+		assertEquals(List.of("{\"ID\":\"1\"}", "TCH-OK :done"), messages1);
+		assertEquals(List.of("{\"ID\":\"2\"}"), messages2);
+
+		// Messages from unknown senders are dropped
+		assertFalse(sut.dispatch(InetAddress.getByName("10.0.0.3"), "{\"ID\":\"3\"}"));
+
+		// Unregistered charging stations do not receive messages anymore
+		sut.unregister(ip1);
+		assertFalse(sut.dispatch(ip1, "{\"ID\":\"1\"}"));
+		assertEquals(2, messages1.size());
+	}
+
+	@Test
+	public void testDispatchError() throws Exception {
+		final var ip = InetAddress.getByName("10.0.0.1");
+		final var sut = new KebaKeContactCoreImpl();
+		sut.register(ip, message -> {
+			throw new IllegalStateException("Invalid message");
+		}, now -> Long.MAX_VALUE);
+
+		// Errors of one charging station do not stop the transport
+		assertTrue(sut.dispatch(ip, "invalid"));
+	}
+
+}
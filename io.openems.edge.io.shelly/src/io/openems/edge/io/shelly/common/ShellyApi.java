@@ -1,58 +1,59 @@
 package io.openems.edge.io.shelly.common;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
-import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.http.api.BridgeHttp;
+import io.openems.edge.bridge.http.api.HttpSubscription;
 
 /**
- * Implements the local Shelly REST Api.
+ * Implements the local Shelly REST Api via a {@link BridgeHttp}.
  *
  * <p>
  * See https://shelly-api-docs.shelly.cloud
  */
 public class ShellyApi {
 
+	private final BridgeHttp bridge;
 	private final String baseUrl;
 
-	public ShellyApi(String ip) {
+	public ShellyApi(BridgeHttp bridge, String ip) {
+		this.bridge = bridge;
 		this.baseUrl = "http://" + ip;
 	}
 
 	/**
-	 * Gets the status of the device.
+	 * Subscribes to the status of the device; polled every Cycle.
 	 *
 	 * <p>
 	 * See https://shelly-api-docs.shelly.cloud/#shelly2-5-status
 	 *
-	 * @return the status as JsonObject according to Shelly docs
-	 * @throws OpenemsNamedException on error
+	 * @param onStatus handles the status as JsonObject according to Shelly docs
+	 * @param onError  handles any error
+	 * @return the {@link HttpSubscription}; to be passed to
+	 *         {@link #unsubscribe(HttpSubscription)}
 	 */
-	public JsonObject getStatus() throws OpenemsNamedException {
-		return JsonUtils.getAsJsonObject(this.sendGetRequest("/status"));
+	public HttpSubscription subscribeStatus(ThrowingConsumer<JsonObject, OpenemsNamedException> onStatus,
+			Consumer<Throwable> onError) {
+		var subscription = new HttpSubscription(this.baseUrl + "/status", 1, //
+				body -> onStatus.accept(JsonUtils.parseToJsonObject(body)), //
+				onError);
+		this.bridge.subscribe(subscription);
+		return subscription;
 	}
 
 	/**
-	 * Gets the "ison" state of the relay with the given index.
+	 * Stops polling the status of the device.
 	 *
-	 * <p>
-	 * See https://shelly-api-docs.shelly.cloud/#shelly2-5-relay-index
-	 *
-	 * @param index the index of the relay
-	 * @return the boolean value
-	 * @throws OpenemsNamedException on error
+	 * @param subscription the {@link HttpSubscription}
 	 */
-	public boolean getRelayIson(int index) throws OpenemsNamedException {
-		var json = this.sendGetRequest("/relay/" + index);
-		return JsonUtils.getAsBoolean(json, "ison");
+	public void unsubscribe(HttpSubscription subscription) {
+		this.bridge.unsubscribe(subscription);
 	}
 
 	/**
@@ -60,47 +61,10 @@ public class ShellyApi {
 	 *
 	 * @param index the index of the relay
 	 * @param value true to turn on; false to turn off
-	 * @throws OpenemsNamedException on error
-	 */
-	public void setRelayTurn(int index, boolean value) throws OpenemsNamedException {
-		this.sendGetRequest("/relay/" + index + "?turn=" + (value ? "on" : "off"));
-	}
-
-	/**
-	 * Sends a get request to the Shelly API.
-	 *
-	 * @param endpoint the REST Api endpoint
-	 * @return a JsonObject or JsonArray
-	 * @throws OpenemsNamedException on error
+	 * @return a {@link CompletableFuture} that completes exceptionally on error
 	 */
-	private JsonElement sendGetRequest(String endpoint) throws OpenemsNamedException {
-		try {
-			var url = new URL(this.baseUrl + endpoint);
-			var con = (HttpURLConnection) url.openConnection();
-			con.setRequestMethod("GET");
-			con.setConnectTimeout(5000);
-			con.setReadTimeout(5000);
-			var status = con.getResponseCode();
-			String body;
-			try (var in = new BufferedReader(new InputStreamReader(con.getInputStream()))) {
-				// Read HTTP response
-				var content = new StringBuilder();
-				String line;
-				while ((line = in.readLine()) != null) {
-					content.append(line);
-					content.append(System.lineSeparator());
-				}
-				body = content.toString();
-			}
-			if (status < 300) {
-				// Parse response to JSON
-				return JsonUtils.parseToJsonObject(body);
-			}
-			throw new OpenemsException("Error while reading from Shelly API. Response code: " + status + ". " + body);
-		} catch (OpenemsNamedException | IOException e) {
-			throw new OpenemsException(
-					"Unable to read from Shelly API. " + e.getClass().getSimpleName() + ": " + e.getMessage());
-		}
+	public CompletableFuture<String> setRelayTurn(int index, boolean value) {
+		return this.bridge.request(this.baseUrl + "/relay/" + index + "?turn=" + (value ? "on" : "off"));
 	}
 
 }
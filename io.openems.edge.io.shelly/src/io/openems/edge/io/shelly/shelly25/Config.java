@@ -20,5 +20,11 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "IP-Address", description = "The IP address of the Shelly device.")
 	String ip();
 
+	@AttributeDefinition(name = "HTTP-Bridge-ID", description = "ID of HTTP bridge.")
+	String bridgeHttp_id() default "bridgeHttp0";
+
+	@AttributeDefinition(name = "HTTP-Bridge target filter", description = "This is auto-generated by 'HTTP-Bridge-ID'.")
+	String bridgeHttp_target() default "(enabled=true)";
+
 	String webconsole_configurationFactory_nameHint() default "IO Shelly 2.5 [{id}]";
 }
\ No newline at end of file
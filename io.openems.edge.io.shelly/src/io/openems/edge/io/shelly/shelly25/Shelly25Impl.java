@@ -2,11 +2,16 @@ package io.openems.edge.io.shelly.shelly25;
 
 import java.util.Objects;
 
+import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 import org.osgi.service.event.propertytypes.EventTopics;
@@ -14,8 +19,12 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.http.api.BridgeHttp;
+import io.openems.edge.bridge.http.api.HttpSubscription;
 import io.openems.edge.common.channel.BooleanWriteChannel;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -31,7 +40,6 @@ import io.openems.edge.io.shelly.common.ShellyApi;
 		configurationPolicy = ConfigurationPolicy.REQUIRE//
 )
 @EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
 		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
 })
 public class Shelly25Impl extends AbstractOpenemsComponent
@@ -40,7 +48,15 @@ public class Shelly25Impl extends AbstractOpenemsComponent
 	private final Logger log = LoggerFactory.getLogger(Shelly25Impl.class);
 
 	private final BooleanWriteChannel[] digitalOutputChannels;
+
+	@Reference
+	private ConfigurationAdmin cm;
+
+	@Reference(policy = ReferencePolicy.STATIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.MANDATORY)
+	private BridgeHttp bridgeHttp;
+
 	private ShellyApi shellyApi = null;
+	private HttpSubscription statusSubscription = null;
 
 	public Shelly25Impl() {
 		super(//
@@ -57,12 +73,25 @@ public class Shelly25Impl extends AbstractOpenemsComponent
 	@Activate
 	void activate(ComponentContext context, Config config) {
 		super.activate(context, config.id(), config.alias(), config.enabled());
-		this.shellyApi = new ShellyApi(config.ip());
+
+		// update filter for 'bridgeHttp'
+		if (OpenemsComponent.updateReferenceFilter(this.cm, this.servicePid(), "bridgeHttp",
+				config.bridgeHttp_id())) {
+			return;
+		}
+
+		this.shellyApi = new ShellyApi(this.bridgeHttp, config.ip());
+		if (config.enabled()) {
+			this.statusSubscription = this.shellyApi.subscribeStatus(this::processStatus, this::processError);
+		}
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
+		if (this.statusSubscription != null) {
+			this.shellyApi.unsubscribe(this.statusSubscription);
+		}
 		super.deactivate();
 	}
 
@@ -100,10 +129,6 @@ public class Shelly25Impl extends AbstractOpenemsComponent
 		}
 
 		switch (event.getTopic()) {
-		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
-			this.eventBeforeProcessImage();
-			break;
-
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
 			this.eventExecuteWrite();
 			break;
@@ -111,46 +136,44 @@ public class Shelly25Impl extends AbstractOpenemsComponent
 	}
 
 	/**
-	 * Execute on Cycle Event "Before Process Image".
+	 * Handles the status of the device; called outside of the Cycle.
+	 *
+	 * @param json the status
+	 * @throws OpenemsNamedException on error
 	 */
-	private void eventBeforeProcessImage() {
-		Boolean relay1IsOn;
-		Boolean relay2IsOn;
-		try {
-			var json = this.shellyApi.getStatus();
-			var relays = JsonUtils.getAsJsonArray(json, "relays");
-			var relay1 = JsonUtils.getAsJsonObject(relays.get(0));
-			relay1IsOn = JsonUtils.getAsBoolean(relay1, "ison");
-			var relay2 = JsonUtils.getAsJsonObject(relays.get(1));
-			relay2IsOn = JsonUtils.getAsBoolean(relay2, "ison");
-
-			this._setSlaveCommunicationFailed(false);
-
-		} catch (OpenemsNamedException | IndexOutOfBoundsException e) {
-			relay1IsOn = null;
-			relay2IsOn = null;
-			this.logError(this.log, "Unable to read from Shelly API: " + e.getMessage());
-			this._setSlaveCommunicationFailed(true);
-		}
+	private void processStatus(JsonObject json) throws OpenemsNamedException {
+		var relays = JsonUtils.getAsJsonArray(json, "relays");
+		var relay1 = JsonUtils.getAsJsonObject(relays.get(0));
+		var relay1IsOn = JsonUtils.getAsBoolean(relay1, "ison");
+		var relay2 = JsonUtils.getAsJsonObject(relays.get(1));
+		var relay2IsOn = JsonUtils.getAsBoolean(relay2, "ison");
+
 		this._setRelay1(relay1IsOn);
 		this._setRelay2(relay2IsOn);
+		this._setSlaveCommunicationFailed(false);
+	}
+
+	/**
+	 * Handles an error while reading the status; called outside of the Cycle.
+	 *
+	 * @param e the error
+	 */
+	private void processError(Throwable e) {
+		this.logError(this.log, "Unable to read from Shelly API: " + e.getMessage());
+		this._setRelay1(null);
+		this._setRelay2(null);
+		this._setSlaveCommunicationFailed(true);
 	}
 
 	/**
 	 * Execute on Cycle Event "Execute Write".
 	 */
 	private void eventExecuteWrite() {
-		try {
-			this.executeWrite(this.getRelay1Channel(), 0);
-			this.executeWrite(this.getRelay2Channel(), 1);
-
-			this._setSlaveCommunicationFailed(false);
-		} catch (OpenemsNamedException e) {
-			this._setSlaveCommunicationFailed(true);
-		}
+		this.executeWrite(this.getRelay1Channel(), 0);
+		this.executeWrite(this.getRelay2Channel(), 1);
 	}
 
-	private void executeWrite(BooleanWriteChannel channel, int index) throws OpenemsNamedException {
+	private void executeWrite(BooleanWriteChannel channel, int index) {
 		var readValue = channel.value().get();
 		var writeValue = channel.getNextWriteValueAndReset();
 		if (!writeValue.isPresent()) {
@@ -161,7 +184,8 @@ public class Shelly25Impl extends AbstractOpenemsComponent
 			// read value = write value
 			return;
 		}
-		this.shellyApi.setRelayTurn(index, writeValue.get());
+		this.shellyApi.setRelayTurn(index, writeValue.get()) //
+				.whenComplete((body, e) -> this._setSlaveCommunicationFailed(e != null));
 	}
 
-}
\ No newline at end of file
+}
@@ -22,6 +22,12 @@ import io.openems.edge.meter.api.MeterType;
 	@AttributeDefinition(name = "IP-Address", description = "The IP address of the Shelly device.")
 	String ip();
 
+	@AttributeDefinition(name = "HTTP-Bridge-ID", description = "ID of HTTP bridge.")
+	String bridgeHttp_id() default "bridgeHttp0";
+
+	@AttributeDefinition(name = "HTTP-Bridge target filter", description = "This is auto-generated by 'HTTP-Bridge-ID'.")
+	String bridgeHttp_target() default "(enabled=true)";
+
 	@AttributeDefinition(name = "Meter-Type", description = "What is measured by this Meter?")
 	MeterType type() default MeterType.CONSUMPTION_METERED;
 
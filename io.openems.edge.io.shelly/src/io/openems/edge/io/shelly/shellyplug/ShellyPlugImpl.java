@@ -2,11 +2,16 @@ package io.openems.edge.io.shelly.shellyplug;
 
 import java.util.Objects;
 
+import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 import org.osgi.service.event.propertytypes.EventTopics;
@@ -14,8 +19,12 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.http.api.BridgeHttp;
+import io.openems.edge.bridge.http.api.HttpSubscription;
 import io.openems.edge.common.channel.BooleanWriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -32,7 +41,6 @@ import io.openems.edge.meter.api.SymmetricMeter;
 		configurationPolicy = ConfigurationPolicy.REQUIRE//
 )
 @EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
 		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
 })
 public class ShellyPlugImpl extends AbstractOpenemsComponent
@@ -41,7 +49,15 @@ public class ShellyPlugImpl extends AbstractOpenemsComponent
 	private final Logger log = LoggerFactory.getLogger(ShellyPlugImpl.class);
 
 	private final BooleanWriteChannel[] digitalOutputChannels;
+
+	@Reference
+	private ConfigurationAdmin cm;
+
+	@Reference(policy = ReferencePolicy.STATIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.MANDATORY)
+	private BridgeHttp bridgeHttp;
+
 	private ShellyApi shellyApi = null;
+	private HttpSubscription statusSubscription = null;
 	private MeterType meterType = null;
 
 	public ShellyPlugImpl() {
@@ -59,13 +75,26 @@ public class ShellyPlugImpl extends AbstractOpenemsComponent
 	@Activate
 	void activate(ComponentContext context, Config config) {
 		super.activate(context, config.id(), config.alias(), config.enabled());
-		this.shellyApi = new ShellyApi(config.ip());
+
+		// update filter for 'bridgeHttp'
+		if (OpenemsComponent.updateReferenceFilter(this.cm, this.servicePid(), "bridgeHttp",
+				config.bridgeHttp_id())) {
+			return;
+		}
+
+		this.shellyApi = new ShellyApi(this.bridgeHttp, config.ip());
+		if (config.enabled()) {
+			this.statusSubscription = this.shellyApi.subscribeStatus(this::processStatus, this::processError);
+		}
 		this.meterType = config.type();
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
+		if (this.statusSubscription != null) {
+			this.shellyApi.unsubscribe(this.statusSubscription);
+		}
 		super.deactivate();
 	}
 
@@ -95,10 +124,6 @@ public class ShellyPlugImpl extends AbstractOpenemsComponent
 		}
 
 		switch (event.getTopic()) {
-		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
-			this.eventBeforeProcessImage();
-			break;
-
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
 			this.eventExecuteWrite();
 			break;
@@ -106,47 +131,47 @@ public class ShellyPlugImpl extends AbstractOpenemsComponent
 	}
 
 	/**
-	 * Execute on Cycle Event "Before Process Image".
+	 * Handles the status of the device; called outside of the Cycle.
+	 *
+	 * @param json the status
+	 * @throws OpenemsNamedException on error
 	 */
-	private void eventBeforeProcessImage() {
-		Boolean relayIson = null;
-		Integer power = null;
-		Long energy = null;
-		try {
-			var json = this.shellyApi.getStatus();
-			var relays = JsonUtils.getAsJsonArray(json, "relays");
-			var relay1 = JsonUtils.getAsJsonObject(relays.get(0));
-			relayIson = JsonUtils.getAsBoolean(relay1, "ison");
-			var meters = JsonUtils.getAsJsonArray(json, "meters");
-			var meter1 = JsonUtils.getAsJsonObject(meters.get(0));
-			power = Math.round(JsonUtils.getAsFloat(meter1, "power"));
-			energy = JsonUtils.getAsLong(meter1, "total") /* Unit: Wm */ / 60 /* Wh */;
-
-			this._setSlaveCommunicationFailed(false);
-
-		} catch (OpenemsNamedException e) {
-			this.logError(this.log, "Unable to read from Shelly API: " + e.getMessage());
-			this._setSlaveCommunicationFailed(true);
-		}
+	private void processStatus(JsonObject json) throws OpenemsNamedException {
+		var relays = JsonUtils.getAsJsonArray(json, "relays");
+		var relay1 = JsonUtils.getAsJsonObject(relays.get(0));
+		var relayIson = JsonUtils.getAsBoolean(relay1, "ison");
+		var meters = JsonUtils.getAsJsonArray(json, "meters");
+		var meter1 = JsonUtils.getAsJsonObject(meters.get(0));
+		var power = Math.round(JsonUtils.getAsFloat(meter1, "power"));
+		var energy = JsonUtils.getAsLong(meter1, "total") /* Unit: Wm */ / 60 /* Wh */;
+
 		this._setRelay(relayIson);
 		this._setActivePower(power);
 		this._setActiveProductionEnergy(energy);
+		this._setSlaveCommunicationFailed(false);
+	}
+
+	/**
+	 * Handles an error while reading the status; called outside of the Cycle.
+	 *
+	 * @param e the error
+	 */
+	private void processError(Throwable e) {
+		this.logError(this.log, "Unable to read from Shelly API: " + e.getMessage());
+		this._setRelay(null);
+		this._setActivePower(null);
+		this._setActiveProductionEnergy(null);
+		this._setSlaveCommunicationFailed(true);
 	}
 
 	/**
 	 * Execute on Cycle Event "Execute Write".
 	 */
 	private void eventExecuteWrite() {
-		try {
-			this.executeWrite(this.getRelayChannel(), 0);
-
-			this._setSlaveCommunicationFailed(false);
-		} catch (OpenemsNamedException e) {
-			this._setSlaveCommunicationFailed(true);
-		}
+		this.executeWrite(this.getRelayChannel(), 0);
 	}
 
-	private void executeWrite(BooleanWriteChannel channel, int index) throws OpenemsNamedException {
+	private void executeWrite(BooleanWriteChannel channel, int index) {
 		var readValue = channel.value().get();
 		var writeValue = channel.getNextWriteValueAndReset();
 		if (!writeValue.isPresent()) {
@@ -157,7 +182,8 @@ public class ShellyPlugImpl extends AbstractOpenemsComponent
 			// read value = write value
 			return;
 		}
-		this.shellyApi.setRelayTurn(index, writeValue.get());
+		this.shellyApi.setRelayTurn(index, writeValue.get()) //
+				.whenComplete((body, e) -> this._setSlaveCommunicationFailed(e != null));
 	}
 
 	@Override
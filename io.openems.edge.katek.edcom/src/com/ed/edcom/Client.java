@@ -20,14 +20,17 @@
 package com.ed.edcom;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.net.Socket;
+import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -38,6 +41,10 @@ import com.ed.data.history.ADataItem;
 
 /**
  * Client implementation.
+ *
+ * <p>
+ * The communication of all clients is driven by one shared, non-blocking
+ * {@link EdcomReactor}; no thread is created per client.
  */
 public final class Client implements Comparable<Client>, Runnable, Closeable {
 
@@ -49,9 +56,15 @@ public final class Client implements Comparable<Client>, Runnable, Closeable {
 
 	public static final int PIC_REFRESH_PERIOD = 5000; // ms
 
-	private Socket sc = null;
+	static final int CONNECT_TIMEOUT_MS = 2000;
+	private static final int MAX_STEPS_PER_RUN = 16;
+
+	private SocketChannel sc = null;
+	private SelectionKey key = null;
+	private long connectStartTime;
 	private final byte[] out_buf;
 	private final byte[] in_buf;
+	private final ByteBuffer in_bb;
 	private final InetAddress ipDevice;
 	private final InetAddress ipHost;
 
@@ -77,8 +90,9 @@ public final class Client implements Comparable<Client>, Runnable, Closeable {
 	private static final int MAX_DSP_RESPONCE_LEN = 1024;
 	private int readVarIndex;
 	private int writeVarIndex;
-	private boolean threadRuning = true;
-	private final Thread task;
+	private boolean started = false;
+	/** Next scheduled run; only accessed by the {@link EdcomReactor} thread. */
+	long deadline;
 	private DspVar pic_version;
 	private int[] comVersion = { 0, 0 };
 
@@ -102,14 +116,13 @@ public final class Client implements Comparable<Client>, Runnable, Closeable {
 		this.ipHost = hostAddress;
 		this.startDelay = startDelay;
 		in_buf = new byte[MaxMBTelSize];
+		in_bb = ByteBuffer.wrap(in_buf);
 		out_buf = new byte[MaxMBTelSize];
 		msgBytes = new byte[MaxMBTelSize];
 		reqVal = new ArrayList<>();
 		pack = new ArrayList<>();
 		dev_serial_num = new DspVar("dev_serial_num", DspVar.TYPE_UINT8, 20, null, 5000);
 		pic_version = new DspVar("pic_version", DspVar.TYPE_UINT16, 0, null, 30000);
-		task = new Thread(this, "edcom" + devAddress.getHostAddress());
-
 	}
 
 	/**
@@ -228,9 +241,19 @@ public final class Client implements Comparable<Client>, Runnable, Closeable {
 
 	/**
 	 * Start communication
+	 *
+	 * @throws IllegalThreadStateException if the client was already started
 	 */
-	public void start() throws IllegalThreadStateException {
-		task.start();
+	public synchronized void start() throws IllegalThreadStateException {
+		if (started) {
+			throw new IllegalThreadStateException("Client was already started");
+		}
+		started = true;
+		try {
+			EdcomReactor.getInstance().register(this, startDelay);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	/**
@@ -242,6 +265,7 @@ public final class Client implements Comparable<Client>, Runnable, Closeable {
 	@Override
 	public void close() throws IOException {
 		stop = true;
+		EdcomReactor.getInstance().trigger(this);
 	}
 
 	/**
@@ -466,37 +490,102 @@ public final class Client implements Comparable<Client>, Runnable, Closeable {
 
 	/**
 	 * Run implementation.
+	 *
+	 * @deprecated the communication is driven by a shared {@link EdcomReactor};
+	 *             use {@link #start()}
 	 */
+	@Deprecated
 	@Override
 	public void run() {
-		try {
-			Thread.sleep(startDelay);
-		} catch (Exception e) {
-		}
-		while (threadRuning) {
+		start();
+	}
+
+	private int hs_state = 0;
+	private long timeLastPack = 0;
+	private int reconnctCounter = 0;
+
+	/**
+	 * Run the protocol state machine until it has to wait. Only called by the
+	 * {@link EdcomReactor} thread.
+	 *
+	 * @param selector the {@link Selector} of the {@link EdcomReactor}
+	 * @return delay in milliseconds until the next run; -1 if the client was
+	 *         closed
+	 */
+	long process(Selector selector) {
+		for (int i = 0; i < MAX_STEPS_PER_RUN; i++) {
+			if (stop) {
+				closeChannel();
+				setConnected(false);
+				return -1;
+			}
+			long delay;
 			try {
-				client();
-				if (stop) { // stop thread
-					threadRuning = false;
-					if (sc != null) {
-						sc.close();
-					}
-					break;
-				}
-				Thread.sleep(1);
+				delay = client(selector);
 			} catch (Exception e) {
 				hs_state = -1;
+				delay = 0;
+			}
+			if (delay > 0) {
+				return delay;
 			}
 		}
+		return EdcomReactor.TICK_MS;
 	}
 
-	private OutputStream out;
-	private InputStream in;
-	private int hs_state = 0;
-	private long timeLastPack = 0;
-	private int reconnctCounter = 0;
+	private void closeChannel() {
+		if (sc != null) {
+			try {
+				sc.close(); // also cancels the key
+			} catch (IOException e) {
+				// ignore
+			}
+			sc = null;
+			key = null;
+		}
+	}
 
-	private void client() throws Exception {
+	private void onConnected() {
+		key.interestOps(SelectionKey.OP_READ);
+		reconnctCounter = 0;
+		hs_state = 2;
+		bRecon = false;
+		setConnected(true);
+		visible = true;
+		pack.clear();
+		flushRaw = true;
+	}
+
+	/**
+	 * Read available bytes without blocking
+	 *
+	 * @return number of bytes read into in_buf; 0 if none available
+	 * @throws IOException on error or if the connection was closed by the device
+	 */
+	private int readInput() throws IOException {
+		in_bb.clear();
+		int n = sc.read(in_bb);
+		if (n < 0) {
+			throw new EOFException("Connection closed by device");
+		}
+		return n;
+	}
+
+	private void skipInput() throws IOException {
+		while (readInput() > 0) {
+			// discard
+		}
+	}
+
+	/**
+	 * One step of the protocol state machine
+	 *
+	 * @param selector the {@link Selector}
+	 * @return delay in milliseconds until the next step; 0 to continue
+	 *         immediately
+	 * @throws Exception on error
+	 */
+	private long client(Selector selector) throws Exception {
 		if (dev_serial_num.isValid()) {
 			descriptor = dev_serial_num.getCString();
 		}
@@ -504,208 +593,179 @@ public final class Client implements Comparable<Client>, Runnable, Closeable {
 			comVersion[0] = pic_version.getByte(0) & 0xFF;
 			comVersion[1] = pic_version.getByte(1) & 0xFF;
 		}
+		long ctime = System.currentTimeMillis();
 		switch (hs_state) {
 		default:
 		case -1: // error
 			setConnected(false);
-			try {
-				if (sc != null) {
-					sc.close();
-				}
-				if (reconnctCounter > 3) {
-					visible = false;
-					Thread.sleep(10000);
-				} else {
-					Thread.sleep(1000);
-				}
-				hs_state = 0;
-			} catch (Exception e) {
-				hs_state = -1;
+			closeChannel();
+			hs_state = 0;
+			if (reconnctCounter > 3) {
+				visible = false;
+				return 10000;
 			}
-			break;
+			return 1000;
 		case 0: // get ip from board
 			setConnected(false);
-			try {
-				if (ipDevice == null) {
-					hs_state = -1;
-				} else {
-					hs_state = 1;
-				}
-			} catch (Exception e) {
+			if (ipDevice == null) {
 				hs_state = -1;
+			} else {
+				hs_state = 1;
 			}
-			break;
+			return 0;
 		case 1: // try to connect
 			if (reconnctCounter < 100) {
 				reconnctCounter++;
 			}
 			setConnected(false);
-			try {
-				if (sc != null) {
-					sc.close();
-				}
-				sc = new Socket();
-				sc.bind(new InetSocketAddress(ipHost, 0));
-				sc.connect(new InetSocketAddress(ipDevice, ServerPort), 2000);
-				sc.setTcpNoDelay(false);
-				if (sc.isConnected()) {
-					reconnctCounter = 0;
-					hs_state = 2;
-					bRecon = false;
-					setConnected(true);
-					visible = true;
-					pack.clear();
-					flushRaw = true;
-					out = sc.getOutputStream();
-					in = sc.getInputStream();
-				} else {
-					hs_state = -1;
-				}
-			} catch (Exception e) {
+			closeChannel();
+			sc = SocketChannel.open();
+			sc.configureBlocking(false);
+			sc.setOption(StandardSocketOptions.TCP_NODELAY, false);
+			sc.bind(new InetSocketAddress(ipHost, 0));
+			key = sc.register(selector, SelectionKey.OP_CONNECT, this);
+			connectStartTime = ctime;
+			hs_state = 3;
+			if (sc.connect(new InetSocketAddress(ipDevice, ServerPort))) {
+				onConnected();
+				return 0;
+			}
+			return CONNECT_TIMEOUT_MS;
+		case 3: // wait for connection
+			if (sc.finishConnect()) {
+				onConnected();
+				return 0;
+			}
+			if (connectStartTime + CONNECT_TIMEOUT_MS <= ctime) {
 				hs_state = -1;
+				return 0;
 			}
-			break;
+			return connectStartTime + CONNECT_TIMEOUT_MS - ctime;
 		case 2: // read & write
-			try {
-				if (!sc.isConnected() || sc.isClosed() || !sc.isBound() || bRecon) {
-					hs_state = -1;
-					break;
+			if (!sc.isOpen() || !sc.isConnected() || bRecon) {
+				hs_state = -1;
+				return 0;
+			}
+			if (reqVal.isEmpty() && pack.isEmpty()) {
+				hs_state = -1;
+				return 2000;
+			} // nothing to send ?
+			// Raw data telegrams
+			if (flushRaw) { // clear old data
+				pack.clear();
+				cdp = null;
+				flushRaw = false;
+				transState = 0;
+				return 10;
+			}
+			// Send
+			switch (transState) {
+			default:
+			case 0: // create telegram
+				skipInput(); // late or unsolicited data
+				cdp = null;
+				telSize = createMessage();
+				if (cdp != null) {
+					extStatus = 1;
 				}
-				if (reqVal.isEmpty() && pack.isEmpty()) {
-					hs_state = -1;
-					Thread.sleep(2000);
-					break;
-				} // nothing to send ?
-				// Raw data telegrams
-				if (flushRaw) { // clear old data
-					pack.clear();
-					cdp = null;
-					flushRaw = false;
-					transState = 0;
-					Thread.sleep(10);
+				if (telSize > 0) {
+					transState = 10;
+				} else {
+					return EdcomReactor.TICK_MS;
 				}
-				// Send
-				switch (transState) {
-				default:
-				case 0: // create telegram
-					cdp = null;
-					telSize = createMessage();
-					if (cdp != null) {
-						extStatus = 1;
-					}
-					if (telSize > 0) {
-						transState = 10;
-					} else {
-						break;
+			case 10:
+				skipInput();
+				mb_state = 0; // reset input protocol
+				transState = 1;
+				telIx = 0;
+				reqPackSize = MaxPackSize;
+			case 1: // send in blocks
+				int ps = reqPackSize;
+				int rest = telSize - telIx;
+				if (rest < reqPackSize) {
+					ps = rest;
+				}
+				int n = sc.write(ByteBuffer.wrap(out_buf, telIx, ps));
+				telIx += n;
+				if (n < ps) {
+					return EdcomReactor.TICK_MS; // socket buffer full; retry
+				}
+				transState = 2; // complete
+				startDelay = 0;
+				return 0;
+			case 2: // delay, wait for antwort
+				if (telIx >= telSize) {
+					if (cdp != null) { // was raw data ?
+						cdp.ts = System.currentTimeMillis(); // time stamp
+						cdp.retryCount--;
 					}
-				case 10:
-					in.skip(in.available());
-					mb_state = 0; // reset input protocol
+					timeLastPack = System.currentTimeMillis();
+					transState = 3;
+				} // complete ?
+				else {
 					transState = 1;
-					telIx = 0;
-					reqPackSize = MaxPackSize;
-				case 1: // send in blocks
-					int ps = reqPackSize;
-					int rest = telSize - telIx;
-					if (rest < reqPackSize) {
-						ps = rest;
-					}
-					out.write(out_buf, telIx, ps);
-					out.flush();
-					telIx += ps;
-					transState = 2; // complete
-					startDelay = 0;
-					break;
-				case 2: // delay, wait for antwort
-					if (telIx >= telSize) {
-						if (cdp != null) { // was raw data ?
-							cdp.ts = System.currentTimeMillis(); // time stamp
-							cdp.retryCount--;
-						}
-						timeLastPack = System.currentTimeMillis();
-						transState = 3;
-					} // complete ?
-					else {
-						transState = 1;
-					}
-					break;
-				case 3: // wait for asc
-					if (cdp != null) {
-						if (cdp.acknowledge != null) {
-							if (in.available() > 0) {
-								int n = in.read(in_buf);
-								if (n > 0) {
-									if (processInput(in_buf, n)) {
-										if (findKey(msgBytes, msgLen, cdp.acknowledge) > 0) {
-											cdp.acknowledgeStatus = 1;
-											transState = 0;
-											if (pack.isEmpty()) {
-												extStatus = 2;
-											}
-										}
+				}
+				return 0;
+			case 3: // wait for asc
+				long timeout;
+				if (cdp != null) {
+					timeout = cdp.timeOut + timeLastPack;
+					if (cdp.acknowledge != null) {
+						int r = readInput();
+						if (r > 0) {
+							if (processInput(in_buf, r)) {
+								if (findKey(msgBytes, msgLen, cdp.acknowledge) > 0) {
+									cdp.acknowledgeStatus = 1;
+									transState = 0;
+									if (pack.isEmpty()) {
+										extStatus = 2;
 									}
+									return 0;
 								}
 							}
-							if ((cdp.timeOut + timeLastPack) < System.currentTimeMillis()) {
-								if (cdp.retryCount > 0) { // retry ?
-									transState = 10;
-								} else {
-									transState = 0;
-									extStatus = -1;
-									cdp.acknowledgeStatus = -1;
-									flushRaw = true;
-								}
-							} // timeout complete?
-						} // need asc ?
-						else {
-							if ((cdp.timeOut + timeLastPack) < System.currentTimeMillis()) {
-								transState = 0;
-							} // timeout complete?
 						}
-					} else {
-						if (in.available() > 0) { // read data
-							int n = in.read(in_buf);
-							if (n > 0) {
-								if (processInput(in_buf, n)) {
-									if (adu_unit_id == 0x30) {
-										readPicMsg(msgLen);
-										if (validPicMessageCnt < 3) {
-											validPicMessageCnt++;
-										}
-									} // read pic message ?
-									readFromBuf(msgBytes, msgLen);
-									transState = 0;
-								}
+						if (timeout < System.currentTimeMillis()) {
+							if (cdp.retryCount > 0) { // retry ?
+								transState = 10;
+							} else {
+								transState = 0;
+								extStatus = -1;
+								cdp.acknowledgeStatus = -1;
+								flushRaw = true;
 							}
-						}
-						if ((PackDelayMs + timeLastPack) < System.currentTimeMillis()) {
+							return 0;
+						} // timeout complete?
+					} // need asc ?
+					else {
+						if (timeout < System.currentTimeMillis()) {
 							transState = 0;
+							return 0;
 						} // timeout complete?
 					}
-					break;
-				}
-				hs_state = 2;
-			} catch (Exception e) {
-				hs_state = -1;
-			}
-			break;
-		case 4:
-			try {
-				if (sc != null) {
-					sc.close();
+				} else {
+					timeout = PackDelayMs + timeLastPack;
+					int r = readInput(); // read data
+					if (r > 0) {
+						if (processInput(in_buf, r)) {
+							if (adu_unit_id == 0x30) {
+								readPicMsg(msgLen);
+								if (validPicMessageCnt < 3) {
+									validPicMessageCnt++;
+								}
+							} // read pic message ?
+							readFromBuf(msgBytes, msgLen);
+							transState = 0;
+							return 0;
+						}
+					}
+					if (timeout < System.currentTimeMillis()) {
+						transState = 0;
+						return 0;
+					} // timeout complete?
 				}
-				hs_state = 5;
-			} catch (Exception e) {
-				hs_state = -1;
-			}
-			break;
-		case 5:
-			try {
-				Thread.sleep(1);
-			} catch (Exception e) {
-				hs_state = -1;
+				// wait for data or timeout
+				return Math.max(1, timeout - System.currentTimeMillis() + 1);
 			}
-			break;
 		}
 	}
 
@@ -0,0 +1,175 @@
+// CHECKSTYLE:OFF
+/*
+*   EDCOM 8.1 is a java cross platform library for communication with 10kW
+*   hybrid Inverter (Katek Memmingen GmbH).
+*   Copyright (C) 2022 Katek Memmingen GmbH
+*
+*   This program is free software: you can redistribute it and/or modify
+*   it under the terms of the GNU Lesser General Public License as published by
+*   the Free Software Foundation, either version 3 of the License, or
+*   (at your option) any later version.
+*
+*   This program is distributed in the hope that it will be useful,
+*   but WITHOUT ANY WARRANTY; without even the implied warranty of
+*   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*   GNU General Public License for more details.
+*
+*   You should have received a copy of the GNU Lesser General Public License
+*   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.ed.edcom;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single-threaded event loop that drives the connections of all
+ * {@link Client}s.
+ *
+ * <p>
+ * Socket I/O is non-blocking and multiplexed via one {@link Selector}; delays
+ * of the {@link Client} protocol are scheduled on a {@link TimerWheel} instead
+ * of sleeping. The thread is started with the first and stopped with the last
+ * {@link Client}.
+ */
+final class EdcomReactor implements Runnable {
+
+	static final long TICK_MS = 10;
+	private static final int NUMBER_OF_SLOTS = 512;
+
+	private static final EdcomReactor INSTANCE = new EdcomReactor();
+
+	/**
+	 * Get the shared instance
+	 *
+	 * @return the {@link EdcomReactor}
+	 */
+	static EdcomReactor getInstance() {
+		return INSTANCE;
+	}
+
+	private final Set<Client> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Queue<Client> triggered = new ConcurrentLinkedQueue<>();
+	private final Queue<Client> started = new ConcurrentLinkedQueue<>();
+
+	// guarded by 'this'
+	private Thread thread = null;
+	private Selector selector = null;
+
+	// only accessed by the reactor thread
+	private TimerWheel<Client> wheel = null;
+
+	private EdcomReactor() {
+	}
+
+	/**
+	 * Register a client; its communication starts after the given delay
+	 *
+	 * @param client     the {@link Client}
+	 * @param startDelay start delay in milliseconds
+	 * @throws IOException if the {@link Selector} can not be opened
+	 */
+	synchronized void register(Client client, long startDelay) throws IOException {
+		if (this.thread == null) {
+			this.selector = Selector.open();
+			this.thread = new Thread(this, "edcom");
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+		this.clients.add(client);
+		client.deadline = System.currentTimeMillis() + Math.max(0, startDelay);
+		this.started.add(client);
+		this.selector.wakeup();
+	}
+
+	/**
+	 * Process a client as soon as possible, e.g. after it was closed
+	 *
+	 * @param client the {@link Client}
+	 */
+	synchronized void trigger(Client client) {
+		if (this.thread != null) {
+			this.triggered.add(client);
+			this.selector.wakeup();
+		}
+	}
+
+	@Override
+	public void run() {
+		Selector selector;
+		synchronized (this) {
+			selector = this.selector;
+		}
+		this.wheel = new TimerWheel<>(TICK_MS, NUMBER_OF_SLOTS, System.currentTimeMillis());
+		while (true) {
+			try {
+				selector.select(this.wheel.getTickMs());
+			} catch (IOException e) {
+				// retry on next loop
+			}
+
+			// I/O events
+			Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+			while (keys.hasNext()) {
+				SelectionKey key = keys.next();
+				keys.remove();
+				this.process((Client) key.attachment(), selector);
+			}
+
+			// Newly started and explicitly triggered clients
+			Client client;
+			while ((client = this.started.poll()) != null) {
+				this.wheel.schedule(client, client.deadline);
+			}
+			while ((client = this.triggered.poll()) != null) {
+				this.process(client, selector);
+			}
+
+			// Timers; stale entries of rescheduled clients are skipped
+			this.wheel.expire(System.currentTimeMillis(), (c, deadline) -> {
+				if (c.deadline == deadline) {
+					this.process(c, selector);
+				}
+			});
+
+			synchronized (this) {
+				if (this.clients.isEmpty()) {
+					try {
+						selector.close();
+					} catch (IOException e) {
+						// ignore
+					}
+					this.selector = null;
+					this.thread = null;
+					this.triggered.clear();
+					return;
+				}
+			}
+		}
+	}
+
+	private void process(Client client, Selector selector) {
+		synchronized (this) {
+			if (!this.clients.contains(client)) {
+				return;
+			}
+		}
+		long delay = client.process(selector);
+		if (delay < 0) {
+			synchronized (this) {
+				this.clients.remove(client);
+			}
+			return;
+		}
+		client.deadline = System.currentTimeMillis() + delay;
+		this.wheel.schedule(client, client.deadline);
+	}
+}
+//CHECKSTYLE:ON
@@ -0,0 +1,123 @@
+// CHECKSTYLE:OFF
+/*
+*   EDCOM 8.1 is a java cross platform library for communication with 10kW
+*   hybrid Inverter (Katek Memmingen GmbH).
+*   Copyright (C) 2022 Katek Memmingen GmbH
+*
+*   This program is free software: you can redistribute it and/or modify
+*   it under the terms of the GNU Lesser General Public License as published by
+*   the Free Software Foundation, either version 3 of the License, or
+*   (at your option) any later version.
+*
+*   This program is distributed in the hope that it will be useful,
+*   but WITHOUT ANY WARRANTY; without even the implied warranty of
+*   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+*   GNU General Public License for more details.
+*
+*   You should have received a copy of the GNU Lesser General Public License
+*   along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.ed.edcom;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Hashed timer wheel. Not thread-safe; only used by the {@link EdcomReactor}
+ * thread.
+ *
+ * <p>
+ * Scheduling and expiring are O(1) per entry, independent of the number of
+ * scheduled entries. Deadlines are rounded to the tick of the wheel.
+ *
+ * @param <T> the type of the scheduled items
+ */
+final class TimerWheel<T> {
+
+	private static final class Entry<T> {
+		private final T item;
+		private final long deadline;
+		private final long tick;
+
+		private Entry(T item, long deadline, long tick) {
+			this.item = item;
+			this.deadline = deadline;
+			this.tick = tick;
+		}
+	}
+
+	private final long tickMs;
+	private final List<List<Entry<T>>> slots;
+	private final int mask;
+	private long currentTick;
+
+	/**
+	 * Constructor
+	 *
+	 * @param tickMs        duration of one tick in milliseconds
+	 * @param numberOfSlots number of slots; rounded up to a power of two
+	 * @param now           the current time in milliseconds
+	 */
+	TimerWheel(long tickMs, int numberOfSlots, long now) {
+		int size = Integer.highestOneBit(Math.max(1, numberOfSlots - 1)) << 1;
+		this.tickMs = tickMs;
+		this.slots = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			this.slots.add(new ArrayList<>());
+		}
+		this.mask = size - 1;
+		this.currentTick = now / tickMs;
+	}
+
+	/**
+	 * Schedule an item
+	 *
+	 * @param item     the item
+	 * @param deadline the deadline in milliseconds
+	 */
+	void schedule(T item, long deadline) {
+		long tick = Math.max(this.currentTick, deadline / this.tickMs);
+		this.slots.get((int) (tick & this.mask)).add(new Entry<>(item, deadline, tick));
+	}
+
+	/**
+	 * Expire all items whose tick has been reached
+	 *
+	 * @param now    the current time in milliseconds
+	 * @param action called with every expired item and its deadline
+	 */
+	void expire(long now, ObjLongConsumer<T> action) {
+		long nowTick = now / this.tickMs;
+		if (nowTick < this.currentTick) {
+			return;
+		}
+		List<Entry<T>> expired = new ArrayList<>();
+		long ticks = Math.min(nowTick - this.currentTick + 1, this.slots.size());
+		for (long i = 0; i < ticks; i++) {
+			Iterator<Entry<T>> iterator = this.slots.get((int) ((this.currentTick + i) & this.mask)).iterator();
+			while (iterator.hasNext()) {
+				Entry<T> entry = iterator.next();
+				if (entry.tick <= nowTick) {
+					iterator.remove();
+					expired.add(entry);
+				}
+			}
+		}
+		this.currentTick = nowTick + 1;
+		for (Entry<T> entry : expired) {
+			action.accept(entry.item, entry.deadline);
+		}
+	}
+
+	/**
+	 * Get duration of one tick
+	 *
+	 * @return tick in milliseconds
+	 */
+	long getTickMs() {
+		return this.tickMs;
+	}
+}
+//CHECKSTYLE:ON
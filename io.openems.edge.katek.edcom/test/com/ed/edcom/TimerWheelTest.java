@@ -0,0 +1,39 @@
+package com.ed.edcom;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimerWheelTest {
+
+	@Test
+	public void test() {
+		var sut = new TimerWheel<String>(10, 4, 1000);
+		var expired = new ArrayList<String>();
+
+		sut.schedule("a", 1005);
+		sut.schedule("b", 1025);
+		sut.schedule("c", 1100); // more than one round
+		sut.schedule("d", 500); // already due
+
+		sut.expire(1009, (item, deadline) -> expired.add(item));
+		assertEquals(List.of("a", "d"), expired);
+
+		sut.expire(1030, (item, deadline) -> expired.add(item));
+		assertEquals(List.of("a", "d", "b"), expired);
+
+		sut.expire(1099, (item, deadline) -> expired.add(item));
+		assertEquals(3, expired.size());
+
+		// Deadline is passed to the action
+		sut.expire(5000, (item, deadline) -> {
+			assertEquals(1100, deadline);
+			expired.add(item);
+		});
+		assertEquals(List.of("a", "d", "b", "c"), expired);
+	}
+
+}
@@ -1,15 +1,25 @@
 package io.openems.edge.predictor.api.oneday;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -17,13 +27,29 @@ import io.openems.edge.common.component.OpenemsComponent;
 public abstract class AbstractPredictor24Hours extends AbstractOpenemsComponent
 		implements Predictor24Hours, OpenemsComponent {
 
+	/**
+	 * An immutable pair of a {@link Prediction24Hours} and the 15-minutes slot it
+	 * was created for.
+	 */
+	private static class TimestampedPrediction {
+		private final Prediction24Hours prediction;
+		private final ZonedDateTime timestamp;
+
+		private TimestampedPrediction(Prediction24Hours prediction, ZonedDateTime timestamp) {
+			this.prediction = prediction;
+			this.timestamp = timestamp;
+		}
+	}
+
 	protected static class PredictionContainer {
-		private Prediction24Hours latestPrediction = null;
-		private ZonedDateTime latestPredictionTimestamp = null;
+		private final AtomicReference<TimestampedPrediction> latest = new AtomicReference<>();
+		private final AtomicBoolean isRefreshing = new AtomicBoolean(false);
 	}
 
-	private final Map<ChannelAddress, PredictionContainer> predictions = new HashMap<>();
+	private final Map<ChannelAddress, PredictionContainer> predictions = new ConcurrentHashMap<>();
 	private ChannelAddress[] channelAddresses = {};
+	private ExecutorService executor = null;
+	private boolean isDeactivated = false;
 
 	protected abstract ClockProvider getClockProvider();
 
@@ -42,6 +68,9 @@ public abstract class AbstractPredictor24Hours extends AbstractOpenemsComponent
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
 			String[] channelAddresses) throws OpenemsNamedException {
 		super.activate(context, id, alias, enabled);
+		synchronized (this) {
+			this.isDeactivated = false;
+		}
 		var channelAddressesArray = new ChannelAddress[channelAddresses.length];
 		for (var i = 0; i < channelAddresses.length; i++) {
 			channelAddressesArray[i] = ChannelAddress.fromString(channelAddresses[i]);
@@ -49,28 +78,117 @@ public abstract class AbstractPredictor24Hours extends AbstractOpenemsComponent
 		this.channelAddresses = channelAddressesArray;
 	}
 
+	@Override
+	protected void deactivate() {
+		synchronized (this) {
+			this.isDeactivated = true;
+			if (this.executor != null) {
+				ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+				this.executor = null;
+			}
+		}
+		super.deactivate();
+	}
+
+	/**
+	 * Gets the {@link Executor} that runs
+	 * {@link #createNewPrediction(ChannelAddress)} for a new 15-minutes slot.
+	 *
+	 * <p>
+	 * Defaults to a single background thread, so that expensive queries do not
+	 * block the Cycle. Override to run synchronously, e.g. in tests.
+	 *
+	 * @return the {@link Executor}
+	 * @throws RejectedExecutionException if the Predictor was deactivated
+	 */
+	protected synchronized Executor getPredictionExecutor() throws RejectedExecutionException {
+		if (this.isDeactivated) {
+			throw new RejectedExecutionException("Predictor [" + this.id() + "] is deactivated");
+		}
+		if (this.executor == null) {
+			this.executor = Executors.newSingleThreadExecutor(
+					new ThreadFactoryBuilder().setNameFormat("Predictor:" + this.id() + "-%d").build());
+		}
+		return this.executor;
+	}
+
 	@Override
 	public ChannelAddress[] getChannelAddresses() {
 		return this.channelAddresses;
 	}
 
+	/**
+	 * Gets the {@link Prediction24Hours} for the current 15-minutes slot.
+	 *
+	 * <p>
+	 * The very first prediction is created synchronously. Afterwards a new
+	 * prediction is created on the {@link #getPredictionExecutor()} whenever a
+	 * new slot starts; until it is available the previous prediction is
+	 * returned, shifted to the current slot.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return the {@link Prediction24Hours}
+	 */
 	@Override
 	public Prediction24Hours get24HoursPrediction(ChannelAddress channelAddress) {
 		var now = roundZonedDateTimeDownTo15Minutes(ZonedDateTime.now(this.getClockProvider().getClock()));
-		var container = this.predictions.get(channelAddress);
-		if (container == null) {
-			container = new PredictionContainer();
-			this.predictions.put(channelAddress, container);
+		var container = this.predictions.computeIfAbsent(channelAddress, c -> new PredictionContainer());
+
+		var latest = container.latest.get();
+		if (latest == null) {
+			// Create first prediction
+			latest = new TimestampedPrediction(this.createNewPrediction(channelAddress), now);
+			container.latest.set(latest);
+			return latest.prediction;
 		}
-		if (container.latestPredictionTimestamp == null || now.isAfter(container.latestPredictionTimestamp)) {
-			// Create new prediction
-			var prediction = this.createNewPrediction(channelAddress);
-			container.latestPrediction = prediction;
-			container.latestPredictionTimestamp = now;
-		} else {
+		if (!now.isAfter(latest.timestamp)) {
 			// Reuse existing prediction
+			return latest.prediction;
+		}
+
+		// Create new prediction in background
+		if (container.isRefreshing.compareAndSet(false, true)) {
+			try {
+				this.getPredictionExecutor().execute(() -> {
+					try {
+						container.latest
+								.set(new TimestampedPrediction(this.createNewPrediction(channelAddress), now));
+					} finally {
+						container.isRefreshing.set(false);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				// Predictor was deactivated; keep serving the previous prediction
+				container.isRefreshing.set(false);
+			}
+		}
+
+		latest = container.latest.get();
+		if (!now.isAfter(latest.timestamp)) {
+			return latest.prediction;
+		}
+		return shift(latest.prediction, Duration.between(latest.timestamp, now).toMinutes() / 15);
+	}
+
+	/**
+	 * Shifts a {@link Prediction24Hours} by the given number of 15-minutes slots
+	 * into the past; the missing values at the end are null.
+	 *
+	 * @param prediction the {@link Prediction24Hours}
+	 * @param slots      the number of slots
+	 * @return the shifted {@link Prediction24Hours}
+	 */
+	protected static Prediction24Hours shift(Prediction24Hours prediction, long slots) {
+		if (slots <= 0) {
+			return prediction;
+		}
+		if (slots >= Prediction24Hours.NUMBER_OF_VALUES) {
+			return Prediction24Hours.EMPTY;
 		}
-		return container.latestPrediction;
+		var values = prediction.getValues();
+		var result = new Integer[Prediction24Hours.NUMBER_OF_VALUES];
+		System.arraycopy(values, (int) slots, result, 0, Prediction24Hours.NUMBER_OF_VALUES - (int) slots);
+		return new Prediction24Hours(result);
 	}
 
 	/**
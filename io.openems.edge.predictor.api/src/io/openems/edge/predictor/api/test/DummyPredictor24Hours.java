@@ -4,6 +4,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executor;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.ChannelAddress;
@@ -36,6 +37,12 @@ public class DummyPredictor24Hours extends AbstractPredictor24Hours implements P
 		this.prediction24Hours = prediction24Hours;
 	}
 
+	@Override
+	protected Executor getPredictionExecutor() {
+		// Create predictions synchronously
+		return Runnable::run;
+	}
+
 	@Override
 	protected ClockProvider getClockProvider() {
 		return this.clockProvider;
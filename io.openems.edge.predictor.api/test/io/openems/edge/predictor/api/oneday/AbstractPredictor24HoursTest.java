@@ -0,0 +1,125 @@
+package io.openems.edge.predictor.api.oneday;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.component.ClockProvider;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.TimeLeapClock;
+
+public class AbstractPredictor24HoursTest {
+
+	private static final ChannelAddress SUM_PRODUCTION = new ChannelAddress("_sum", "ProductionActivePower");
+
+	private static class TestPredictor extends AbstractPredictor24Hours {
+
+		private final TimeLeapClock clock;
+		private final Queue<Runnable> tasks;
+		private final AtomicInteger predictions = new AtomicInteger();
+
+		/**
+		 * Creates a {@link TestPredictor}.
+		 *
+		 * @param clock the {@link TimeLeapClock}
+		 * @param tasks collects the refresh tasks; null for the default
+		 *              {@link Executor}
+		 */
+		private TestPredictor(TimeLeapClock clock, Queue<Runnable> tasks) throws OpenemsNamedException {
+			super(OpenemsComponent.ChannelId.values());
+			this.clock = clock;
+			this.tasks = tasks;
+			super.activate(null, "predictor0", "", true, new String[] { SUM_PRODUCTION.toString() });
+		}
+
+		@Override
+		protected Executor getPredictionExecutor() {
+			if (this.tasks == null) {
+				return super.getPredictionExecutor();
+			}
+			return this.tasks::add;
+		}
+
+		@Override
+		protected ClockProvider getClockProvider() {
+			return () -> this.clock;
+		}
+
+		@Override
+		protected Prediction24Hours createNewPrediction(ChannelAddress channelAddress) {
+			// Value of every slot encodes the number of the prediction and the slot
+			var number = this.predictions.incrementAndGet();
+			var values = new Integer[Prediction24Hours.NUMBER_OF_VALUES];
+			for (var i = 0; i < values.length; i++) {
+				values[i] = number * 1000 + i;
+			}
+			return new Prediction24Hours(values);
+		}
+	}
+
+	private static TimeLeapClock createClock() {
+		return new TimeLeapClock(Instant.ofEpochSecond(1577836800L) /* starts at 1. January 2020 00:00:00 */,
+				ZoneOffset.UTC);
+	}
+
+	@Test
+	public void testBackgroundRefresh() throws Exception {
+		final var clock = createClock();
+		final var tasks = new ArrayDeque<Runnable>();
+		final var sut = new TestPredictor(clock, tasks);
+
+		// First prediction is created synchronously
+		var first = sut.get24HoursPrediction(SUM_PRODUCTION);
+		assertEquals(1000, (int) first.getValues()[0]);
+		assertEquals(1, sut.predictions.get());
+
+		// Reused within the same slot
+		assertSame(first, sut.get24HoursPrediction(SUM_PRODUCTION));
+		assertEquals(0, tasks.size());
+
+		// Next slot: refresh is pending; stale prediction is shifted by one slot
+		clock.leap(15, ChronoUnit.MINUTES);
+		var stale = sut.get24HoursPrediction(SUM_PRODUCTION);
+		assertEquals(1, tasks.size());
+		assertEquals(1001, (int) stale.getValues()[0]);
+		assertNull(stale.getValues()[Prediction24Hours.NUMBER_OF_VALUES - 1]);
+
+		// Only one refresh at a time
+		stale = sut.get24HoursPrediction(SUM_PRODUCTION);
+		assertEquals(1, tasks.size());
+		assertEquals(1001, (int) stale.getValues()[0]);
+
+		// Refreshed prediction is served once it is available
+		tasks.poll().run();
+		assertEquals(2, sut.predictions.get());
+		assertEquals(2000, (int) sut.get24HoursPrediction(SUM_PRODUCTION).getValues()[0]);
+		assertEquals(0, tasks.size());
+	}
+
+	@Test
+	public void testDeactivated() throws Exception {
+		final var clock = createClock();
+		final var sut = new TestPredictor(clock, null);
+		sut.get24HoursPrediction(SUM_PRODUCTION);
+		sut.deactivate();
+
+		// No refresh after deactivation; the stale prediction is served
+		clock.leap(15, ChronoUnit.MINUTES);
+		assertEquals(1001, (int) sut.get24HoursPrediction(SUM_PRODUCTION).getValues()[0]);
+		Thread.sleep(100);
+		assertEquals(1, sut.predictions.get());
+	}
+
+}
@@ -0,0 +1,158 @@
+package io.openems.edge.predictor.similardaymodel;
+
+import java.time.Instant;
+
+import io.openems.edge.predictor.api.oneday.Prediction24Hours;
+
+/**
+ * Holds the history of one Channel for the Similar-Day-Model.
+ *
+ * <p>
+ * Values are kept in a ring buffer with one value per 15 minutes, covering the
+ * configured number of weeks. The buffer is filled once from Timedata and then
+ * updated from the live Channel value, so no further Timedata queries are
+ * required.
+ */
+public class SimilarDayHistory {
+
+	/**
+	 * Number of 15-minutes slots per week.
+	 */
+	public static final int SLOTS_PER_WEEK = 7 * Prediction24Hours.NUMBER_OF_VALUES;
+
+	private static final int SLOT_SECONDS = 15 * 60;
+	private static final int NULL = Integer.MIN_VALUE;
+	private static final long NONE = -1;
+
+	private final int numOfWeeks;
+	private final int[] values;
+
+	private long firstSlot = NONE;
+	private long lastSlot = NONE;
+	private boolean isWarmedUp = false;
+
+	private long sampleSlot = NONE;
+	private long sampleSum = 0;
+	private int sampleCount = 0;
+
+	public SimilarDayHistory(int numOfWeeks) {
+		this.numOfWeeks = numOfWeeks;
+		this.values = new int[numOfWeeks * SLOTS_PER_WEEK];
+	}
+
+	/**
+	 * Gets the 15-minutes slot of an {@link Instant}, counted since epoch.
+	 *
+	 * @param instant the {@link Instant}
+	 * @return the slot
+	 */
+	public static long toSlot(Instant instant) {
+		return Math.floorDiv(instant.getEpochSecond(), SLOT_SECONDS);
+	}
+
+	/**
+	 * Is the history initialized from Timedata?.
+	 *
+	 * @return true if it is initialized
+	 */
+	public synchronized boolean isWarmedUp() {
+		return this.isWarmedUp;
+	}
+
+	/**
+	 * Marks the history as initialized from Timedata.
+	 */
+	public synchronized void setWarmedUp() {
+		this.isWarmedUp = true;
+	}
+
+	/**
+	 * Sets the value of a slot. Slots that were skipped since the last value are
+	 * cleared; slots that are older than the covered weeks are ignored.
+	 *
+	 * @param slot  the slot
+	 * @param value the value; possibly null
+	 */
+	public synchronized void put(long slot, Integer value) {
+		if (this.lastSlot == NONE) {
+			this.firstSlot = slot;
+			this.lastSlot = slot;
+
+		} else if (slot > this.lastSlot) {
+			for (var s = Math.max(this.lastSlot + 1, slot - this.values.length + 1); s < slot; s++) {
+				this.values[this.index(s)] = NULL;
+			}
+			this.lastSlot = slot;
+
+		} else if (slot <= this.lastSlot - this.values.length) {
+			return;
+		}
+
+		this.values[this.index(slot)] = value == null ? NULL : value;
+		this.firstSlot = Math.max(Math.min(this.firstSlot, slot), this.lastSlot - this.values.length + 1);
+	}
+
+	/**
+	 * Adds a live sample. When a new slot starts, the average of all samples of
+	 * the previous slot is stored.
+	 *
+	 * @param slot  the current slot
+	 * @param value the sample; possibly null
+	 */
+	public synchronized void addSample(long slot, Integer value) {
+		if (slot != this.sampleSlot) {
+			if (this.sampleSlot != NONE) {
+				this.put(this.sampleSlot, this.sampleCount > 0 ? (int) (this.sampleSum / this.sampleCount) : null);
+			}
+			this.sampleSlot = slot;
+			this.sampleSum = 0;
+			this.sampleCount = 0;
+		}
+		if (value != null) {
+			this.sampleSum += value;
+			this.sampleCount++;
+		}
+	}
+
+	/**
+	 * Gets the prediction for the next 24 hours, starting at the given slot.
+	 *
+	 * <p>
+	 * Every value is the average of the values at the same time on the same
+	 * weekday of the previous weeks. Weeks without history are ignored; missing
+	 * values within the history count as zero.
+	 *
+	 * @param currentSlot the current slot
+	 * @return the 96 prediction values
+	 */
+	public synchronized Integer[] getPrediction(long currentSlot) {
+		var result = new Integer[Prediction24Hours.NUMBER_OF_VALUES];
+		if (this.lastSlot == NONE) {
+			return result;
+		}
+		for (var i = 0; i < result.length; i++) {
+			long sum = 0;
+			var count = 0;
+			for (var week = 1; week <= this.numOfWeeks; week++) {
+				var slot = currentSlot - (long) week * SLOTS_PER_WEEK + i;
+				if (slot < this.firstSlot || slot > this.lastSlot) {
+					continue;
+				}
+				count++;
+				var value = this.values[this.index(slot)];
+				if (value != NULL) {
+					sum += value;
+				}
+			}
+			if (count > 0) {
+				result[i] = (int) (sum / count);
+			}
+		}
+		return result;
+	}
+
+	private int index(long slot) {
+		return (int) Math.floorMod(slot, (long) this.values.length);
+	}
+
+}
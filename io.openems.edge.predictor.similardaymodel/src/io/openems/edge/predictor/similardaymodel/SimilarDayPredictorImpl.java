@@ -1,12 +1,11 @@
 package io.openems.edge.predictor.similardaymodel;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -14,6 +13,9 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +29,7 @@ import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.predictor.api.oneday.AbstractPredictor24Hours;
 import io.openems.edge.predictor.api.oneday.Prediction24Hours;
@@ -39,8 +42,11 @@ import io.openems.edge.timedata.api.Timedata;
 		immediate = true, //
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
-
-public class SimilarDayPredictorImpl extends AbstractPredictor24Hours implements Predictor24Hours, OpenemsComponent {
+@EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE //
+})
+public class SimilarDayPredictorImpl extends AbstractPredictor24Hours
+		implements Predictor24Hours, OpenemsComponent, EventHandler {
 
 	private final Logger log = LoggerFactory.getLogger(SimilarDayPredictorImpl.class);
 
@@ -58,6 +64,8 @@ public class SimilarDayPredictorImpl extends AbstractPredictor24Hours implements
 
 	protected Config config;
 
+	private final Map<ChannelAddress, SimilarDayHistory> histories = new ConcurrentHashMap<>();
+
 	@Reference
 	private ComponentManager componentManager;
 
@@ -72,6 +80,7 @@ public class SimilarDayPredictorImpl extends AbstractPredictor24Hours implements
 	@Activate
 	protected void activate(ComponentContext context, Config config) throws OpenemsNamedException {
 		this.config = config;
+		this.histories.clear();
 		super.activate(context, this.config.id(), this.config.alias(), this.config.enabled(),
 				this.config.channelAddresses());
 	}
@@ -88,134 +97,64 @@ public class SimilarDayPredictorImpl extends AbstractPredictor24Hours implements
 	}
 
 	@Override
-	protected Prediction24Hours createNewPrediction(ChannelAddress channelAddress) {
-
-		var now = ZonedDateTime.now(this.componentManager.getClock());
-		// From now time to Last 4 weeks
-		var fromDate = now.minus(this.config.numOfWeeks(), ChronoUnit.WEEKS);
-
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
-
-		// Query database
-		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
-		} catch (OpenemsNamedException e) {
-			this.logError(this.log, e.getMessage());
-			e.printStackTrace();
-			return Prediction24Hours.EMPTY;
-		}
-
-		// Extract data
-		List<Integer> result = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				})
-				// get as Array
-				.collect(Collectors.toList());
-
-		// Num of Data per day
-		// TODO change this variable based on the resolution which is 900 in query
-		var numOfDataPerDay = 96;
-
-		var mainData = getSlicedArrayList(result, numOfDataPerDay);
-
-		// Getting the indexes of the last four similar days
-		var lastFourSimilarDays = getCorrectIndexes(mainData, NUM_OF_DAYS_OF_WEEK, PREDCTION_FOR_ONE_DAY);
-
-		// Getting the average predictions
-		var nextOneDayPredictions = getAverage(lastFourSimilarDays);
-
-		return new Prediction24Hours(nextOneDayPredictions.stream().toArray(Integer[]::new));
-	}
-
-	/**
-	 * This methods takes a List of integers and returns a 2dimension List of
-	 * integers, specific to correct days.
-	 *
-	 * @param arrlist array list of all data.
-	 * @param n       number of data per day.
-	 * @return 2dimension array list
-	 */
-	private static List<List<Integer>> getSlicedArrayList(List<Integer> arrlist, int n) {
-		List<List<Integer>> twoDimensionalArrayList = new ArrayList<>();
-		for (var i = 0; i < arrlist.size(); i = i + n) {
-			twoDimensionalArrayList.add(arrlist.subList(i, i + n));
+	public void handleEvent(Event event) {
+		if (!this.isEnabled()) {
+			return;
 		}
-		return twoDimensionalArrayList;
-
-	}
-
-	/**
-	 * This methods get the average of data based on the indexes.
-	 *
-	 * @param twoDimensionalArrayList The actual data.
-	 * @return Average values of the last four days.
-	 */
-	private static List<Integer> getAverage(List<List<Integer>> twoDimensionalArrayList) {
-		List<Integer> averageList = new ArrayList<>();
-		var rows = twoDimensionalArrayList.size();
-		var cols = twoDimensionalArrayList.get(0).size();
-		for (var i = 0; i < cols; i++) {
-			var sumRow = 0;
-			for (var j = 0; j < rows; j++) {
-				if (twoDimensionalArrayList.get(j).get(i) != null) {
-					sumRow += twoDimensionalArrayList.get(j).get(i);
-				}
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			var slot = SimilarDayHistory.toSlot(Instant.now(this.componentManager.getClock()));
+			for (var channelAddress : this.getChannelAddresses()) {
+				this.getHistory(channelAddress).addSample(slot, this.getChannelValue(channelAddress));
 			}
-			averageList.add(sumRow / twoDimensionalArrayList.size());
+			break;
 		}
-		return averageList;
-
 	}
 
-	/**
-	 * Data manipulation, to get the proper indexes.
-	 *
-	 * @param mainData      all data points.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param whichDay      current actual day.
-	 * @return proper indexed days.
-	 */
-	private static List<List<Integer>> getCorrectIndexes(List<List<Integer>> mainData, int numDaysOfWeek,
-			int whichDay) {
-		List<Integer> indexes = new ArrayList<>();
-		List<List<Integer>> days = new ArrayList<>();
-		for (var i = 0; i < mainData.size(); i++) {
-			if (isMember(whichDay, numDaysOfWeek, i)) {
-				indexes.add(i);
+	@Override
+	protected Prediction24Hours createNewPrediction(ChannelAddress channelAddress) {
+		var now = ZonedDateTime.now(this.componentManager.getClock());
+		var history = this.getHistory(channelAddress);
+
+		if (!history.isWarmedUp()) {
+			// Initialize history from database once; afterwards it is updated from the
+			// live Channel value
+			var fromDate = now.minus(this.config.numOfWeeks(), ChronoUnit.WEEKS);
+			final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+			try {
+				queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
+						new Resolution(15, ChronoUnit.MINUTES));
+			} catch (OpenemsNamedException e) {
+				this.logError(this.log, e.getMessage());
+				e.printStackTrace();
+				return Prediction24Hours.EMPTY;
 			}
-		}
 
-		for (Integer i : indexes) {
-			days.add(mainData.get(i));
+			for (var entry : queryResult.entrySet()) {
+				var value = entry.getValue().get(channelAddress);
+				history.put(SimilarDayHistory.toSlot(entry.getKey().toInstant()),
+						value == null || value.isJsonNull() ? null : value.getAsInt());
+			}
+			history.setWarmedUp();
 		}
 
-		return days;
+		return new Prediction24Hours(history.getPrediction(SimilarDayHistory.toSlot(now.toInstant())));
+	}
 
+	private SimilarDayHistory getHistory(ChannelAddress channelAddress) {
+		return this.histories.computeIfAbsent(channelAddress, c -> new SimilarDayHistory(this.config.numOfWeeks()));
 	}
 
-	/**
-	 * Check if the day belongs to correct day.
-	 *
-	 * @param whichDay      current actual day.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param nthTerm       nthterm
-	 * @return boolean value to represent is value member of correct day
-	 */
-	private static boolean isMember(int whichDay, int numDaysOfWeek, int nthTerm) {
-		if (numDaysOfWeek == 0) {
-			return nthTerm == whichDay;
+	private Integer getChannelValue(ChannelAddress channelAddress) {
+		try {
+			var value = this.componentManager.getChannel(channelAddress).value().get();
+			if (value instanceof Number) {
+				return ((Number) value).intValue();
+			}
+		} catch (IllegalArgumentException | OpenemsNamedException e) {
+			// Channel is not available
 		}
-		return (nthTerm - whichDay) % numDaysOfWeek == 0 && (nthTerm - whichDay) / numDaysOfWeek >= 0;
-
+		return null;
 	}
 
 }
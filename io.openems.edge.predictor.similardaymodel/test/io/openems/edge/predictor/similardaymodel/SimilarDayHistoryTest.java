@@ -0,0 +1,62 @@
+package io.openems.edge.predictor.similardaymodel;
+
+import static io.openems.edge.predictor.similardaymodel.SimilarDayHistory.SLOTS_PER_WEEK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SimilarDayHistoryTest {
+
+	@Test
+	public void testPrediction() {
+		var sut = new SimilarDayHistory(2);
+		var now = 10 * SLOTS_PER_WEEK;
+
+		// Two weeks of history: value 100 in the first, 300 in the second week
+		for (var slot = now - 2 * SLOTS_PER_WEEK; slot < now; slot++) {
+			sut.put(slot, slot < now - SLOTS_PER_WEEK ? 100 : 300);
+		}
+		var prediction = sut.getPrediction(now);
+		assertEquals(200, (int) prediction[0]);
+		assertEquals(200, (int) prediction[95]);
+
+		// Oldest value is overwritten by the ring buffer
+		sut.put(now, 500);
+		assertEquals(400, (int) sut.getPrediction(now + SLOTS_PER_WEEK)[0]);
+	}
+
+	@Test
+	public void testMissingHistory() {
+		var sut = new SimilarDayHistory(4);
+		assertNull(sut.getPrediction(1000)[0]);
+
+		// Only one week of history -> average of that week
+		var now = 10 * SLOTS_PER_WEEK;
+		for (var slot = now - SLOTS_PER_WEEK; slot < now; slot++) {
+			sut.put(slot, 50);
+		}
+		assertEquals(50, (int) sut.getPrediction(now)[10]);
+
+		// Gaps count as zero
+		sut.put(now - SLOTS_PER_WEEK + 3, null);
+		assertEquals(0, (int) sut.getPrediction(now)[3]);
+	}
+
+	@Test
+	public void testSamples() {
+		var sut = new SimilarDayHistory(1);
+		var slot = 5L * SLOTS_PER_WEEK;
+		sut.addSample(slot, 10);
+		sut.addSample(slot, 20);
+		sut.addSample(slot, null);
+		sut.addSample(slot + 1, 40);
+		sut.addSample(slot + 2, null);
+
+		var prediction = sut.getPrediction(slot + SLOTS_PER_WEEK);
+		assertEquals(15, (int) prediction[0]);
+		assertEquals(40, (int) prediction[1]);
+		assertNull(prediction[2]);
+	}
+
+}
@@ -52,9 +52,13 @@ public class SimilardayModelPredictorTest {
 		var prediction = sut.get24HoursPrediction(METER1_ACTIVE_POWER);
 		var p = prediction.getValues();
 
-		assertEquals(predictedValues[0], p[0]);
-		assertEquals(predictedValues[48], p[48]);
-		assertEquals(predictedValues[95], p[95]);
+		// History is aligned by timestamp. DummyTimedata does not return the very
+		// first value (2019-12-04 00:00), which used to shift all values by one slot.
+		// The first slot therefore averages only the three later weeks.
+		assertEquals(19109283, (int) p[0]); // (values[960] + values[1632] + values[2304]) / 3
+		assertEquals(predictedValues[0], p[1]);
+		assertEquals(predictedValues[48], p[49]);
+		assertEquals(predictedValues[94], p[95]);
 
 		System.out.println(Arrays.toString(prediction.getValues()));
 
@@ -25,9 +25,11 @@ import com.google.gson.JsonElement;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 
+import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -135,38 +137,21 @@ public class InfluxTimedataImpl extends AbstractOpenemsComponent
 								// ignore not available channels
 								return;
 							}
-							Object value = valueOpt.get();
-							var address = channel.address().toString();
-							try {
-								switch (channel.getType()) {
-								case BOOLEAN:
-									point.addField(address, (Boolean) value ? 1 : 0);
-									break;
-								case SHORT:
-									point.addField(address, (Short) value);
-									break;
-								case INTEGER:
-									point.addField(address, (Integer) value);
-									break;
-								case LONG:
-									point.addField(address, (Long) value);
-									break;
-								case FLOAT:
-									point.addField(address, (Float) value);
-									break;
-								case DOUBLE:
-									point.addField(address, (Double) value);
-									break;
-								case STRING:
-									point.addField(address, (String) value);
-									break;
-								}
-							} catch (IllegalArgumentException e) {
-								this.log.warn("Unable to add Channel [" + address + "] value [" + value + "]: "
-										+ e.getMessage());
+							if (this.addField(point, channel.address().toString(), channel.getType(),
+									valueOpt.get())) {
+								addedAtLeastOneChannelValue.set(true);
+							}
+						});
+
+						// Values of lazy Channels are written without creating their Channel objects
+						component.lazyChannelValues().forEach((channelId, value) -> {
+							if (channelId.doc().getAccessMode() == AccessMode.WRITE_ONLY) {
 								return;
 							}
-							addedAtLeastOneChannelValue.set(true);
+							var address = new ChannelAddress(component.id(), channelId.id()).toString();
+							if (this.addField(point, address, channelId.doc().getType(), value)) {
+								addedAtLeastOneChannelValue.set(true);
+							}
 						});
 					});
 
@@ -176,6 +161,47 @@ public class InfluxTimedataImpl extends AbstractOpenemsComponent
 		}
 	}
 
+	/**
+	 * Adds a Channel value as field to the {@link Point}.
+	 *
+	 * @param point   the {@link Point}
+	 * @param address the Channel-Address as String
+	 * @param type    the {@link OpenemsType} of the Channel
+	 * @param value   the value
+	 * @return true if the field was added
+	 */
+	private boolean addField(Point point, String address, OpenemsType type, Object value) {
+		try {
+			switch (type) {
+			case BOOLEAN:
+				point.addField(address, (Boolean) value ? 1 : 0);
+				break;
+			case SHORT:
+				point.addField(address, (Short) value);
+				break;
+			case INTEGER:
+				point.addField(address, (Integer) value);
+				break;
+			case LONG:
+				point.addField(address, (Long) value);
+				break;
+			case FLOAT:
+				point.addField(address, (Float) value);
+				break;
+			case DOUBLE:
+				point.addField(address, (Double) value);
+				break;
+			case STRING:
+				point.addField(address, (String) value);
+				break;
+			}
+		} catch (IllegalArgumentException e) {
+			this.log.warn("Unable to add Channel [" + address + "] value [" + value + "]: " + e.getMessage());
+			return false;
+		}
+		return true;
+	}
+
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
@@ -117,21 +117,42 @@ public class RecordWorker extends AbstractImmediateWorker {
 					continue;
 				}
 
-				if (this.records.offer(//
-						new Record(timestamp.getEpochSecond(), channel.address(), channel.channelDoc().getUnit(),
-								value.getAsDouble()))) {
-					this.parent._setQueueIsFull(false);
-
-				} else {
-					this.parent.logWarn(this.log, "Unable to add record [" + channel.address() + "]. Queue is full!");
-					this.parent._setQueueIsFull(true);
+				this.record(timestamp.getEpochSecond(), channel.address(), channel.channelDoc().getUnit(),
+						value.getAsDouble());
+			}
+
+			// Lazy Channels only keep their latest value
+			for (var entry : component.lazyChannelValues().entrySet()) {
+				var doc = entry.getKey().doc();
+				if (doc.getPersistencePriority().isLowerThan(this.parent.persistencePriority)) {
+					continue;
 				}
+				this.record(timestamp.getEpochSecond(), new ChannelAddress(component.id(), entry.getKey().id()),
+						doc.getUnit(), this.getChannelMapFunction(doc.getType()).applyAsDouble(entry.getValue()));
 			}
 		}
 
 		this.readChannelValuesSince = nextReadChannelValuesSince;
 	}
 
+	/**
+	 * Adds a record to the queue for writing to RRD4J.
+	 *
+	 * @param timestamp the timestamp in [s]
+	 * @param address   the {@link ChannelAddress}
+	 * @param unit      the {@link Unit} of the Channel
+	 * @param value     the value
+	 */
+	protected void record(long timestamp, ChannelAddress address, Unit unit, double value) {
+		if (this.records.offer(new Record(timestamp, address, unit, value))) {
+			this.parent._setQueueIsFull(false);
+
+		} else {
+			this.parent.logWarn(this.log, "Unable to add record [" + address + "]. Queue is full!");
+			this.parent._setQueueIsFull(true);
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var record = this.records.take();
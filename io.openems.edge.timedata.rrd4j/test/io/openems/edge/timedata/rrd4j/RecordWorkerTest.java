@@ -0,0 +1,82 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
+
+public class RecordWorkerTest {
+
+	private static class LazyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		private enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			CELL_VOLTAGE(Doc.of(OpenemsType.INTEGER) //
+					.unit(Unit.MILLIVOLT) //
+					.persistencePriority(PersistencePriority.HIGH) //
+					.lazy());
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		private LazyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+	}
+
+	private static class TestRecordWorker extends RecordWorker {
+
+		private final Map<ChannelAddress, Double> records = new HashMap<>();
+
+		private TestRecordWorker(Rrd4jTimedataImpl parent) {
+			super(parent);
+		}
+
+		@Override
+		protected void record(long timestamp, ChannelAddress address, Unit unit, double value) {
+			this.records.put(address, value);
+		}
+	}
+
+	@Test
+	public void testLazyChannel() {
+		final var lazy = new LazyComponent("lazy0");
+		final var timedata = new Rrd4jTimedataImpl();
+		timedata.componentManager = new DummyComponentManager() //
+				.addComponent(lazy);
+		timedata.persistencePriority = PersistencePriority.VERY_LOW;
+		final var sut = new TestRecordWorker(timedata);
+
+		lazy._setNextValueLazily(LazyComponent.ChannelId.CELL_VOLTAGE, 3300);
+		sut.collectData();
+
+		// Value is recorded without creating the Channel
+		assertEquals(3300., sut.records.get(new ChannelAddress("lazy0", "CellVoltage")), 0.001);
+		assertTrue(lazy.isLazyChannel(LazyComponent.ChannelId.CELL_VOLTAGE));
+	}
+
+}
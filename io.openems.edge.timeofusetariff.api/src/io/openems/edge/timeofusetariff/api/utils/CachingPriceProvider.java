@@ -0,0 +1,198 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingFunction;
+import io.openems.common.utils.FileUtils;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * Fetches electricity prices via HTTP on behalf of a
+ * {@link io.openems.edge.timeofusetariff.api.TimeOfUseTariff} implementation
+ * and keeps them available across restarts.
+ *
+ * <ul>
+ * <li>All instances share one {@link OkHttpClient} and with it its connection
+ * pool
+ * <li>Requests are conditional, i.e. 'If-None-Match' and 'If-Modified-Since'
+ * are sent if the server provided an 'ETag' or 'Last-Modified' before. On '304
+ * Not Modified' the known prices stay valid.
+ * <li>Parsed prices are held as {@link QuarterlyPrices} and persisted to a file
+ * in the OpenEMS Data Directory, which is read again on startup
+ * <li>{@link #getPrices(Clock)} builds {@link TimeOfUsePrices} at most once per
+ * 15 minutes
+ * </ul>
+ */
+public class CachingPriceProvider {
+
+	private static final String CACHE_PATH = "timeofusetariff";
+	private static final int HTTP_NOT_MODIFIED = 304;
+
+	private static final OkHttpClient HTTP_CLIENT = new OkHttpClient();
+
+	private static class State {
+		private final QuarterlyPrices prices;
+		private final ZonedDateTime updateTime;
+		private final String etag;
+		private final String lastModified;
+
+		private State(QuarterlyPrices prices, ZonedDateTime updateTime, String etag, String lastModified) {
+			this.prices = prices;
+			this.updateTime = updateTime;
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+	}
+
+	private static class CachedTimeOfUsePrices {
+		private final State state;
+		private final ZonedDateTime now;
+		private final TimeOfUsePrices prices;
+
+		private CachedTimeOfUsePrices(State state, ZonedDateTime now, TimeOfUsePrices prices) {
+			this.state = state;
+			this.now = now;
+			this.prices = prices;
+		}
+	}
+
+	/**
+	 * Gets the default cache file for a Component in the OpenEMS Data Directory.
+	 *
+	 * @param componentId the Component-ID
+	 * @return the {@link Path}; null if no OpenEMS Data Directory is configured
+	 */
+	public static Path getCacheFile(String componentId) {
+		return FileUtils.getJsonFileInDataDir(CACHE_PATH, componentId);
+	}
+
+	private final Logger log = LoggerFactory.getLogger(CachingPriceProvider.class);
+	private final Path cacheFile;
+	private final AtomicReference<State> state = new AtomicReference<>();
+	private final AtomicReference<CachedTimeOfUsePrices> cachedPrices = new AtomicReference<>();
+
+	/**
+	 * Constructs a {@link CachingPriceProvider} and reads previously persisted
+	 * prices from the cache file.
+	 *
+	 * @param cacheFile the cache file; null to disable persistence
+	 */
+	public CachingPriceProvider(Path cacheFile) {
+		this.cacheFile = cacheFile;
+		this.state.set(this.readCacheFile());
+	}
+
+	/**
+	 * Executes the HTTP request and updates the prices on success.
+	 *
+	 * @param request the {@link Request}
+	 * @param parser  parses the response body to prices by the start of their
+	 *                15-minute period
+	 * @return the HTTP status code
+	 * @throws IOException           on HTTP error
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public int fetch(Request request,
+			ThrowingFunction<String, ? extends SortedMap<ZonedDateTime, Float>, OpenemsNamedException> parser)
+			throws IOException, OpenemsNamedException {
+		var state = this.state.get();
+		var builder = request.newBuilder();
+		if (state != null && state.etag != null) {
+			builder.header("If-None-Match", state.etag);
+		}
+		if (state != null && state.lastModified != null) {
+			builder.header("If-Modified-Since", state.lastModified);
+		}
+
+		try (var response = HTTP_CLIENT.newCall(builder.build()).execute()) {
+			var httpStatusCode = response.code();
+			if (httpStatusCode == HTTP_NOT_MODIFIED && state != null) {
+				return httpStatusCode;
+			}
+			if (!response.isSuccessful()) {
+				throw new IOException("Unexpected code " + response);
+			}
+
+			var prices = QuarterlyPrices.from(parser.apply(response.body().string()));
+			var newState = new State(prices, ZonedDateTime.now(), response.header("ETag"),
+					response.header("Last-Modified"));
+			this.state.set(newState);
+			this.writeCacheFile(newState);
+			return httpStatusCode;
+		}
+	}
+
+	/**
+	 * Gets the {@link TimeOfUsePrices} for the next 24 hours.
+	 *
+	 * @param clock the {@link Clock}
+	 * @return the {@link TimeOfUsePrices}; empty if no prices are available
+	 */
+	public TimeOfUsePrices getPrices(Clock clock) {
+		var state = this.state.get();
+		if (state == null) {
+			return TimeOfUsePrices.empty(ZonedDateTime.now(clock));
+		}
+		var now = TimeOfUseTariffUtils.getNowRoundedDownToMinutes(clock, 15);
+		var cached = this.cachedPrices.get();
+		if (cached != null && cached.state == state && cached.now.isEqual(now)) {
+			return cached.prices;
+		}
+		var prices = state.prices.toTimeOfUsePrices(now, state.updateTime);
+		this.cachedPrices.set(new CachedTimeOfUsePrices(state, now, prices));
+		return prices;
+	}
+
+	private State readCacheFile() {
+		if (this.cacheFile == null || !Files.exists(this.cacheFile)) {
+			return null;
+		}
+		try {
+			var json = JsonUtils.parseToJsonObject(Files.readString(this.cacheFile, StandardCharsets.UTF_8));
+			var prices = QuarterlyPrices.fromJson(Instant.parse(JsonUtils.getAsString(json, "start")),
+					JsonUtils.getAsJsonArray(json, "prices"));
+			var updateTime = Instant.parse(JsonUtils.getAsString(json, "updateTime")).atZone(ZoneId.systemDefault());
+			return new State(prices, updateTime, //
+					JsonUtils.getAsOptionalString(json, "etag").orElse(null), //
+					JsonUtils.getAsOptionalString(json, "lastModified").orElse(null));
+		} catch (IOException | OpenemsNamedException | RuntimeException e) {
+			this.log.warn("Unable to read cached prices from [" + this.cacheFile + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeCacheFile(State state) {
+		if (this.cacheFile == null) {
+			return;
+		}
+		var json = JsonUtils.buildJsonObject() //
+				.addProperty("updateTime", state.updateTime) //
+				.addProperty("start", state.prices.getStart().toString()) //
+				.add("prices", state.prices.toJson()) //
+				.addPropertyIfNotNull("etag", state.etag) //
+				.addPropertyIfNotNull("lastModified", state.lastModified) //
+				.build();
+		try {
+			FileUtils.writeJsonAtomically(this.cacheFile, json);
+		} catch (IOException e) {
+			this.log.warn("Unable to write cached prices to [" + this.cacheFile + "]: " + e.getMessage());
+		}
+	}
+
+}
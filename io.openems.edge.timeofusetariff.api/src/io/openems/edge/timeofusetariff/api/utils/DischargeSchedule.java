@@ -0,0 +1,155 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds a cost-optimal policy for delaying the discharge of an energy storage
+ * system in 15-minute periods.
+ *
+ * <p>
+ * The policy is calculated by dynamic programming over the discretized energy
+ * content of the battery: for every period and every possible energy content
+ * it holds whether discharge should be delayed, i.e. consumption should be
+ * covered from grid, to save the stored energy for more expensive periods.
+ * Because the policy covers all energy states, a deviation of the actual State
+ * of Charge from the predicted trajectory does not require a new optimization.
+ *
+ * <p>
+ * Energy that remains in the battery at the end of the horizon is assumed to
+ * have no value, i.e. the horizon should end when production is expected to
+ * exceed consumption again.
+ */
+public final class DischargeSchedule {
+
+	/**
+	 * Number of discrete energy states the usable capacity is divided into.
+	 */
+	public static final int NUMBER_OF_ENERGY_STATES = 1000;
+
+	private static final int PERIOD_MINUTES = 15;
+
+	/**
+	 * Optimizes a {@link DischargeSchedule}.
+	 *
+	 * <p>
+	 * All arrays are indexed by 15-minute period starting at 'start'; the length
+	 * of 'consumption' defines the horizon. Null values are not allowed; a
+	 * {@link Float#NaN} price never delays discharge.
+	 *
+	 * @param start       the start of the first period
+	 * @param production  the predicted production power per period [W]
+	 * @param consumption the predicted consumption power per period [W]
+	 * @param prices      the electricity prices per period
+	 * @param capacity    the usable capacity of the battery [Wh]
+	 * @return the {@link DischargeSchedule}
+	 */
+	public static DischargeSchedule optimize(ZonedDateTime start, int[] production, int[] consumption,
+			float[] prices, int capacity) {
+		final var periods = consumption.length;
+		final var energyStep = Math.max(1, (capacity + NUMBER_OF_ENERGY_STATES - 1) / NUMBER_OF_ENERGY_STATES);
+		final var maxState = capacity / energyStep;
+
+		// Net consumption per period in energy steps; negative values charge the
+		// battery
+		final var netConsumption = new int[periods];
+		for (var t = 0; t < periods; t++) {
+			var energy = (consumption[t] - production[t]) / 4.; // [W] per 15 minutes to [Wh]
+			netConsumption[t] = (int) Math.round(energy / energyStep);
+		}
+
+		// Backward induction; 'next' holds the minimal cost from period t+1 onwards
+		final var delay = new boolean[periods][];
+		var next = new double[maxState + 1];
+		var current = new double[maxState + 1];
+		for (var t = periods - 1; t >= 0; t--) {
+			final var net = netConsumption[t];
+			final var price = prices[t];
+			final var isDelayPossible = net > 0 && !Float.isNaN(price);
+			final var delayT = new boolean[maxState + 1];
+			for (var s = 0; s <= maxState; s++) {
+				var nextState = nextState(s, net, maxState);
+				var allowCost = next[nextState];
+				if (isDelayPossible) {
+					// Consumption that is not covered by the battery is taken from grid
+					allowCost += (double) price * (net - (s - nextState));
+					var delayCost = (double) price * net + next[s];
+					if (delayCost < allowCost) {
+						current[s] = delayCost;
+						delayT[s] = true;
+						continue;
+					}
+				}
+				current[s] = allowCost;
+			}
+			delay[t] = delayT;
+			var tmp = next;
+			next = current;
+			current = tmp;
+		}
+
+		return new DischargeSchedule(start, energyStep, maxState, netConsumption, delay);
+	}
+
+	private static int nextState(int state, int netConsumption, int maxState) {
+		return Math.max(0, Math.min(maxState, state - netConsumption));
+	}
+
+	private final ZonedDateTime start;
+	private final int energyStep;
+	private final int maxState;
+	private final int[] netConsumption;
+	private final boolean[][] delay;
+
+	private DischargeSchedule(ZonedDateTime start, int energyStep, int maxState, int[] netConsumption,
+			boolean[][] delay) {
+		this.start = start;
+		this.energyStep = energyStep;
+		this.maxState = maxState;
+		this.netConsumption = netConsumption;
+		this.delay = delay;
+	}
+
+	/**
+	 * Gets the start of the first period.
+	 *
+	 * @return the start
+	 */
+	public ZonedDateTime getStart() {
+		return this.start;
+	}
+
+	/**
+	 * Gets the number of 15-minute periods.
+	 *
+	 * @return the number of periods
+	 */
+	public int getNumberOfPeriods() {
+		return this.delay.length;
+	}
+
+	/**
+	 * Follows the optimal policy from the given period and energy content and
+	 * returns the periods during which discharge should be delayed.
+	 *
+	 * @param from   the current 15-minute period
+	 * @param energy the currently usable energy in the battery [Wh]
+	 * @return a {@link List} of the start times of the delayed periods
+	 */
+	public List<ZonedDateTime> getDelayedPeriods(ZonedDateTime from, long energy) {
+		var result = new ArrayList<ZonedDateTime>();
+		var t = Math.max(0, (int) (Duration.between(this.start, from).toMinutes() / PERIOD_MINUTES));
+		var s = (int) Math.max(0, Math.min(this.maxState, energy / this.energyStep));
+		for (; t < this.delay.length; t++) {
+			if (this.delay[t][s]) {
+				result.add(this.start.plusMinutes(t * PERIOD_MINUTES));
+			} else {
+				s = nextState(s, this.netConsumption[t], this.maxState);
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,136 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Optimizes {@link DischargeSchedule}s outside of the Cycle.
+ *
+ * <p>
+ * {@link #update(ZonedDateTime, int[], int[], float[], int)} is called from
+ * the Cycle with the current predictions and prices. A new optimization is
+ * only started if any input changed; it runs on the given {@link Executor}
+ * while {@link #getSchedule()} keeps returning the previous schedule. Only the
+ * very first schedule is optimized synchronously, so that a controller has a
+ * schedule right from the start.
+ */
+public class DischargeScheduleOptimizer {
+
+	private static final class Input {
+
+		private final ZonedDateTime start;
+		private final int[] production;
+		private final int[] consumption;
+		private final float[] prices;
+		private final int capacity;
+
+		private Input(ZonedDateTime start, int[] production, int[] consumption, float[] prices, int capacity) {
+			this.start = start;
+			this.production = production;
+			this.consumption = consumption;
+			this.prices = prices;
+			this.capacity = capacity;
+		}
+
+		private DischargeSchedule optimize() {
+			return DischargeSchedule.optimize(this.start, this.production, this.consumption, this.prices,
+					this.capacity);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Input)) {
+				return false;
+			}
+			var other = (Input) obj;
+			return this.capacity == other.capacity //
+					&& this.start.isEqual(other.start) //
+					&& Arrays.equals(this.production, other.production) //
+					&& Arrays.equals(this.consumption, other.consumption) //
+					&& Arrays.equals(this.prices, other.prices);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(this.consumption);
+		}
+	}
+
+	private final Executor executor;
+	private final AtomicReference<DischargeSchedule> schedule = new AtomicReference<>();
+	private final AtomicReference<Input> pending = new AtomicReference<>();
+
+	private Input lastInput = null;
+
+	public DischargeScheduleOptimizer(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Updates the inputs of the optimization; see
+	 * {@link DischargeSchedule#optimize(ZonedDateTime, int[], int[], float[], int)}.
+	 *
+	 * <p>
+	 * The arrays must not be modified afterwards.
+	 *
+	 * @param start       the start of the first period
+	 * @param production  the predicted production power per period [W]
+	 * @param consumption the predicted consumption power per period [W]
+	 * @param prices      the electricity prices per period
+	 * @param capacity    the usable capacity of the battery [Wh]
+	 */
+	public synchronized void update(ZonedDateTime start, int[] production, int[] consumption, float[] prices,
+			int capacity) {
+		var input = new Input(start, production, consumption, prices, capacity);
+		if (input.equals(this.lastInput)) {
+			return;
+		}
+		this.lastInput = input;
+
+		if (this.schedule.get() == null) {
+			this.schedule.set(input.optimize());
+			return;
+		}
+
+		if (this.pending.getAndSet(input) != null) {
+			// An optimization is already queued; it picks up the latest input
+			return;
+		}
+		try {
+			this.executor.execute(this::optimizePending);
+		} catch (RejectedExecutionException e) {
+			this.pending.set(null);
+		}
+	}
+
+	private void optimizePending() {
+		Input input;
+		while ((input = this.pending.get()) != null) {
+			try {
+				this.schedule.set(input.optimize());
+			} catch (RuntimeException e) {
+				this.pending.set(null);
+				throw e;
+			}
+			if (this.pending.compareAndSet(input, null)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Gets the latest {@link DischargeSchedule}.
+	 *
+	 * @return the {@link DischargeSchedule}; null if none was optimized yet
+	 */
+	public DischargeSchedule getSchedule() {
+		return this.schedule.get();
+	}
+
+}
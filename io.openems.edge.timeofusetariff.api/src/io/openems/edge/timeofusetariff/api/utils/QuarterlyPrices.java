@@ -0,0 +1,154 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
+
+/**
+ * Holds an immutable, gap-free vector of electricity prices in 15-minute
+ * periods, backed by a primitive array.
+ *
+ * <p>
+ * Unknown prices are stored as {@link Float#NaN}. The price for any instant is
+ * looked up in O(1).
+ */
+public final class QuarterlyPrices {
+
+	private static final long PERIOD_SECONDS = 15 * 60;
+
+	/**
+	 * An empty {@link QuarterlyPrices}.
+	 */
+	public static final QuarterlyPrices EMPTY = new QuarterlyPrices(0, new float[0]);
+
+	/**
+	 * Builds {@link QuarterlyPrices} from a Map of prices.
+	 *
+	 * <p>
+	 * The first key defines the start of the first period. Keys are expected to be
+	 * aligned to 15 minutes; missing periods are stored as {@link Float#NaN}.
+	 *
+	 * @param prices the prices by the start of their period
+	 * @return the {@link QuarterlyPrices}
+	 */
+	public static QuarterlyPrices from(SortedMap<ZonedDateTime, Float> prices) {
+		if (prices.isEmpty()) {
+			return EMPTY;
+		}
+		var start = prices.firstKey().toEpochSecond();
+		var length = (int) ((prices.lastKey().toEpochSecond() - start) / PERIOD_SECONDS) + 1;
+		var values = new float[length];
+		Arrays.fill(values, Float.NaN);
+		for (Entry<ZonedDateTime, Float> entry : prices.entrySet()) {
+			if (entry.getValue() != null) {
+				values[(int) ((entry.getKey().toEpochSecond() - start) / PERIOD_SECONDS)] = entry.getValue();
+			}
+		}
+		return new QuarterlyPrices(start, values);
+	}
+
+	/**
+	 * Builds {@link QuarterlyPrices} from its JSON representation; see
+	 * {@link #toJson()}.
+	 *
+	 * @param start  the start of the first period
+	 * @param values the prices as {@link JsonArray}; 'null' for unknown
+	 * @return the {@link QuarterlyPrices}
+	 */
+	public static QuarterlyPrices fromJson(Instant start, JsonArray values) {
+		var result = new float[values.size()];
+		for (var i = 0; i < result.length; i++) {
+			var value = values.get(i);
+			result[i] = value.isJsonNull() ? Float.NaN : value.getAsFloat();
+		}
+		return new QuarterlyPrices(start.getEpochSecond(), result);
+	}
+
+	private final long start;
+	private final float[] values;
+
+	private QuarterlyPrices(long start, float[] values) {
+		this.start = start;
+		this.values = values;
+	}
+
+	/**
+	 * Gets the start of the first period.
+	 *
+	 * @return the start
+	 */
+	public Instant getStart() {
+		return Instant.ofEpochSecond(this.start);
+	}
+
+	/**
+	 * Is this {@link QuarterlyPrices} empty?.
+	 *
+	 * @return true if there are no periods
+	 */
+	public boolean isEmpty() {
+		return this.values.length == 0;
+	}
+
+	/**
+	 * Gets the price of the period that contains the given instant.
+	 *
+	 * @param instant the {@link Instant}
+	 * @return the price; {@link Float#NaN} if unknown
+	 */
+	public float getAt(Instant instant) {
+		var seconds = instant.getEpochSecond() - this.start;
+		if (seconds < 0) {
+			return Float.NaN;
+		}
+		var index = seconds / PERIOD_SECONDS;
+		if (index >= this.values.length) {
+			return Float.NaN;
+		}
+		return this.values[(int) index];
+	}
+
+	/**
+	 * Builds the {@link TimeOfUsePrices} for the next 24 hours.
+	 *
+	 * @param now        the current time; rounded down to 15 minutes
+	 * @param updateTime the time when the prices were retrieved
+	 * @return the {@link TimeOfUsePrices}
+	 */
+	public TimeOfUsePrices toTimeOfUsePrices(ZonedDateTime now, ZonedDateTime updateTime) {
+		var result = new Float[TimeOfUsePrices.NUMBER_OF_VALUES];
+		var first = Math.floorDiv(now.toEpochSecond() - this.start, PERIOD_SECONDS);
+		for (var i = 0; i < result.length; i++) {
+			var index = first + i;
+			if (index >= 0 && index < this.values.length && !Float.isNaN(this.values[(int) index])) {
+				result[i] = this.values[(int) index];
+			}
+		}
+		return new TimeOfUsePrices(updateTime, result);
+	}
+
+	/**
+	 * Serializes the prices; see {@link #fromJson(Instant, JsonArray)}.
+	 *
+	 * @return the prices as {@link JsonArray}
+	 */
+	public JsonArray toJson() {
+		var result = new JsonArray(this.values.length);
+		for (float value : this.values) {
+			if (Float.isNaN(value)) {
+				result.add((JsonElement) null);
+			} else {
+				result.add(value);
+			}
+		}
+		return result;
+	}
+
+}
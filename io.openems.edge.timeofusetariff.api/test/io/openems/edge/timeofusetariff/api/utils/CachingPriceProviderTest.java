@@ -0,0 +1,111 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import okhttp3.Request;
+
+public class CachingPriceProviderTest {
+
+	private static final ZonedDateTime START = ZonedDateTime.parse("2022-01-01T00:00:00Z");
+	private static final Clock CLOCK = Clock.fixed(START.toInstant(), ZoneOffset.UTC);
+	private static final String ETAG = "\"v1\"";
+
+	private HttpServer server;
+	private Path cacheDir;
+	private final List<String> ifNoneMatchHeaders = new ArrayList<>();
+
+	@Before
+	public void before() throws IOException {
+		this.cacheDir = Files.createTempDirectory("openems-timeofusetariff");
+
+		// Local stub server that supports 'If-None-Match'
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/prices", exchange -> {
+			var ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+			this.ifNoneMatchHeaders.add(ifNoneMatch);
+			exchange.getResponseHeaders().add("ETag", ETAG);
+			if (ETAG.equals(ifNoneMatch)) {
+				exchange.sendResponseHeaders(304, -1);
+			} else {
+				var body = "100,110,120".getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, body.length);
+				exchange.getResponseBody().write(body);
+			}
+			exchange.close();
+		});
+		this.server.start();
+	}
+
+	@After
+	public void after() throws IOException {
+		this.server.stop(0);
+		try (var files = Files.walk(this.cacheDir)) {
+			files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+		}
+	}
+
+	@Test
+	public void test() throws IOException, OpenemsNamedException {
+		var cacheFile = this.cacheDir.resolve("timeOfUseTariff0.json");
+		var request = new Request.Builder() //
+				.url("http://127.0.0.1:" + this.server.getAddress().getPort() + "/prices") //
+				.build();
+
+		var sut = new CachingPriceProvider(cacheFile);
+		assertTrue(sut.getPrices(CLOCK).isEmpty());
+
+		// Initial fetch
+		assertEquals(200, sut.fetch(request, CachingPriceProviderTest::parse));
+		var prices = sut.getPrices(CLOCK);
+		assertEquals(110f, prices.getValues()[1], 0);
+		assertTrue(Files.exists(cacheFile));
+
+		// Same TimeOfUsePrices within the same 15 minutes
+		assertSame(prices, sut.getPrices(CLOCK));
+
+		// Conditional fetch keeps the prices
+		assertEquals(304, sut.fetch(request, CachingPriceProviderTest::parse));
+		assertSame(prices, sut.getPrices(CLOCK));
+		assertNull(this.ifNoneMatchHeaders.get(0));
+		assertEquals(ETAG, this.ifNoneMatchHeaders.get(1));
+
+		// After restart prices are available before the next fetch
+		var restarted = new CachingPriceProvider(cacheFile);
+		var restartedPrices = restarted.getPrices(CLOCK);
+		assertEquals(120f, restartedPrices.getValues()[2], 0);
+		assertEquals(prices.getUpdateTime().toInstant(), restartedPrices.getUpdateTime().toInstant());
+		assertEquals(304, restarted.fetch(request, CachingPriceProviderTest::parse));
+	}
+
+	private static TreeMap<ZonedDateTime, Float> parse(String body) {
+		var result = new TreeMap<ZonedDateTime, Float>();
+		var values = body.split(",");
+		for (var i = 0; i < values.length; i++) {
+			result.put(START.plusMinutes(i * 15), Float.parseFloat(values[i]));
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,85 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DischargeScheduleTest {
+
+	private static final ZonedDateTime START = ZonedDateTime.parse("2022-01-01T00:00:00Z");
+
+	private static final int[] PRODUCTION = { 0, 0, 0, 0, 0, 0 };
+	private static final int[] CONSUMPTION = { 4000, 4000, 4000, 4000, 4000, 4000 };
+	private static final float[] PRICES = { 300f, 100f, 200f, 50f, 250f, Float.NaN };
+
+	@Test
+	public void testOptimize() {
+		// Battery covers three of six periods with 1000 Wh each
+		var sut = DischargeSchedule.optimize(START, PRODUCTION, CONSUMPTION, PRICES, 10000);
+		assertEquals(6, sut.getNumberOfPeriods());
+
+		// Two cheapest periods are delayed; NaN price is never delayed
+		assertEquals(List.of(START.plusMinutes(15), START.plusMinutes(45)), sut.getDelayedPeriods(START, 3000));
+
+		// Enough energy: nothing delayed
+		assertTrue(sut.getDelayedPeriods(START, 6000).isEmpty());
+
+		// No energy: nothing to delay
+		assertTrue(sut.getDelayedPeriods(START, 0).isEmpty());
+
+		// Follow the policy from a later period with less energy than predicted
+		assertEquals(List.of(START.plusMinutes(45)), sut.getDelayedPeriods(START.plusMinutes(30), 2000));
+	}
+
+	@Test
+	public void testOptimizeWithProduction() {
+		// Surplus in period 2 recharges the battery, so delaying in period 0 does
+		// not pay off although period 1 is more expensive
+		var production = new int[] { 0, 0, 8000, 0 };
+		var consumption = new int[] { 4000, 4000, 0, 4000 };
+		var prices = new float[] { 100f, 200f, 100f, 300f };
+		var sut = DischargeSchedule.optimize(START, production, consumption, prices, 2000);
+		assertTrue(sut.getDelayedPeriods(START, 2000).isEmpty());
+
+		// Without the surplus the battery is saved for the most expensive period
+		production = new int[] { 0, 0, 0, 0 };
+		sut = DischargeSchedule.optimize(START, production, consumption, prices, 2000);
+		assertEquals(List.of(START, START.plusMinutes(15)), sut.getDelayedPeriods(START, 1000));
+	}
+
+	@Test
+	public void testOptimizer() {
+		var tasks = new ArrayList<Runnable>();
+		var sut = new DischargeScheduleOptimizer(tasks::add);
+		assertNull(sut.getSchedule());
+
+		// First schedule is optimized synchronously
+		sut.update(START, PRODUCTION, CONSUMPTION, PRICES, 10000);
+		var first = sut.getSchedule();
+		assertEquals(6, first.getNumberOfPeriods());
+		assertTrue(tasks.isEmpty());
+
+		// Unchanged inputs do not trigger an optimization
+		sut.update(START, PRODUCTION.clone(), CONSUMPTION.clone(), PRICES.clone(), 10000);
+		assertTrue(tasks.isEmpty());
+
+		// Changed inputs are coalesced into one optimization on the executor
+		sut.update(START, PRODUCTION, CONSUMPTION, PRICES, 9000);
+		sut.update(START, new int[3], new int[3], new float[3], 8000);
+		assertEquals(1, tasks.size());
+		assertSame(first, sut.getSchedule());
+
+		tasks.get(0).run();
+		assertNotSame(first, sut.getSchedule());
+		assertEquals(3, sut.getSchedule().getNumberOfPeriods());
+	}
+
+}
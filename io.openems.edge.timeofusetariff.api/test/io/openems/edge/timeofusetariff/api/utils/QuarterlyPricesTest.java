@@ -0,0 +1,51 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+public class QuarterlyPricesTest {
+
+	private static final ZonedDateTime START = ZonedDateTime.parse("2022-01-01T00:00:00Z");
+
+	@Test
+	public void test() {
+		var map = new TreeMap<ZonedDateTime, Float>();
+		map.put(START, 100f);
+		map.put(START.plusMinutes(15), 110f);
+		// gap at 00:30
+		map.put(START.plusMinutes(45), 130f);
+		var sut = QuarterlyPrices.from(map);
+
+		assertEquals(100f, sut.getAt(START.toInstant()), 0);
+		assertEquals(110f, sut.getAt(START.plusMinutes(29).toInstant()), 0);
+		assertTrue(Float.isNaN(sut.getAt(START.plusMinutes(30).toInstant())));
+		assertEquals(130f, sut.getAt(START.plusMinutes(59).toInstant()), 0);
+		assertTrue(Float.isNaN(sut.getAt(START.plusMinutes(60).toInstant())));
+		assertTrue(Float.isNaN(sut.getAt(START.minusMinutes(1).toInstant())));
+
+		// Index-aligned TimeOfUsePrices
+		var prices = sut.toTimeOfUsePrices(START.plusMinutes(15), START).getValues();
+		assertEquals(110f, prices[0], 0);
+		assertNull(prices[1]);
+		assertEquals(130f, prices[2], 0);
+		assertNull(prices[3]);
+
+		prices = sut.toTimeOfUsePrices(START.minusMinutes(15), START).getValues();
+		assertNull(prices[0]);
+		assertEquals(100f, prices[1], 0);
+
+		// JSON round trip
+		var copy = QuarterlyPrices.fromJson(sut.getStart(), sut.toJson());
+		assertEquals(sut.toJson(), copy.toJson());
+		assertEquals(START.toInstant(), copy.getStart());
+
+		assertTrue(QuarterlyPrices.from(new TreeMap<>()).isEmpty());
+	}
+
+}
@@ -11,7 +11,6 @@ import java.util.TreeMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -32,8 +31,7 @@ import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
-import io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils;
-import okhttp3.OkHttpClient;
+import io.openems.edge.timeofusetariff.api.utils.CachingPriceProvider;
 import okhttp3.Request;
 
 @Designate(ocd = Config.class, factory = true)
@@ -48,36 +46,22 @@ public class AwattarImpl extends AbstractOpenemsComponent implements TimeOfUseTa
 
 	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
 
-	private final AtomicReference<ImmutableSortedMap<ZonedDateTime, Float>> prices = new AtomicReference<>(
-			ImmutableSortedMap.of());
-
-	private ZonedDateTime updateTimeStamp = null;
+	private CachingPriceProvider priceProvider = null;
 
 	private final Runnable task = () -> {
 
 		/*
 		 * Update Map of prices
 		 */
-		var client = new OkHttpClient();
 		var request = new Request.Builder() //
 				.url(AWATTAR_API_URL) //
 				// aWATTar currently does not anymore require an Apikey.
 				// .header("Authorization", Credentials.basic(apikey, "")) //
 				.build();
 		int httpStatusCode;
-		try (var response = client.newCall(request).execute()) {
-			httpStatusCode = response.code();
-
-			if (!response.isSuccessful()) {
-				throw new IOException("Unexpected code " + response);
-			}
-
-			// Parse the response for the prices
-			this.prices.set(AwattarImpl.parsePrices(response.body().string()));
-
-			// store the time stamp
-			this.updateTimeStamp = ZonedDateTime.now();
-
+		try {
+			// Fetch and parse the prices; keeps the known prices on '304 Not Modified'
+			httpStatusCode = this.priceProvider.fetch(request, AwattarImpl::parsePrices);
 		} catch (IOException | OpenemsNamedException e) {
 			e.printStackTrace();
 			httpStatusCode = 0;
@@ -119,6 +103,7 @@ public class AwattarImpl extends AbstractOpenemsComponent implements TimeOfUseTa
 			return;
 		}
 
+		this.priceProvider = new CachingPriceProvider(CachingPriceProvider.getCacheFile(config.id()));
 		this.executor.schedule(this.task, 0, TimeUnit.SECONDS);
 	}
 
@@ -132,12 +117,12 @@ public class AwattarImpl extends AbstractOpenemsComponent implements TimeOfUseTa
 	@Override
 	public TimeOfUsePrices getPrices() {
 		// return empty TimeOfUsePrices if data is not yet available.
-		if (this.updateTimeStamp == null) {
+		var priceProvider = this.priceProvider;
+		if (priceProvider == null) {
 			return TimeOfUsePrices.empty(ZonedDateTime.now());
 		}
 
-		return TimeOfUseTariffUtils.getNext24HourPrices(Clock.systemDefaultZone() /* can be mocked for testing */,
-				this.prices.get(), this.updateTimeStamp);
+		return priceProvider.getPrices(Clock.systemDefaultZone() /* can be mocked for testing */);
 	}
 
 	/**
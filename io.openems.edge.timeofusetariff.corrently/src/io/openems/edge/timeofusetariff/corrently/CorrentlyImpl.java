@@ -11,7 +11,6 @@ import java.util.TreeMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -34,8 +33,7 @@ import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
-import io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils;
-import okhttp3.OkHttpClient;
+import io.openems.edge.timeofusetariff.api.utils.CachingPriceProvider;
 import okhttp3.Request;
 
 @Designate(ocd = Config.class, factory = true)
@@ -53,34 +51,20 @@ public class CorrentlyImpl extends AbstractOpenemsComponent implements TimeOfUse
 
 	private Config config = null;
 
-	private final AtomicReference<ImmutableSortedMap<ZonedDateTime, Float>> prices = new AtomicReference<>(
-			ImmutableSortedMap.of());
-
-	private ZonedDateTime updateTimeStamp = null;
+	private CachingPriceProvider priceProvider = null;
 
 	private final Runnable task = () -> {
 
 		/*
 		 * Update Map of prices
 		 */
-		var client = new OkHttpClient();
 		var request = new Request.Builder() //
 				.url(CORRENTLY_API_URL + this.config.zipcode() + "&resolution=900") //
 				.build();
 		int httpStatusCode;
-		try (var response = client.newCall(request).execute()) {
-			httpStatusCode = response.code();
-
-			if (!response.isSuccessful()) {
-				throw new IOException("Unexpected code " + response);
-			}
-
-			// Parse the response for the prices
-			this.prices.set(CorrentlyImpl.parsePrices(response.body().string()));
-
-			// store the time stamp
-			this.updateTimeStamp = ZonedDateTime.now();
-
+		try {
+			// Fetch and parse the prices; keeps the known prices on '304 Not Modified'
+			httpStatusCode = this.priceProvider.fetch(request, CorrentlyImpl::parsePrices);
 		} catch (IOException | OpenemsNamedException e) {
 			this.logWarn(this.log, "Unable to Update Corrently Time-Of-Use Price: " + e.getMessage());
 			httpStatusCode = 0;
@@ -121,6 +105,7 @@ public class CorrentlyImpl extends AbstractOpenemsComponent implements TimeOfUse
 			return;
 		}
 		this.config = config;
+		this.priceProvider = new CachingPriceProvider(CachingPriceProvider.getCacheFile(config.id()));
 		this.executor.schedule(this.task, 0, TimeUnit.SECONDS);
 	}
 
@@ -134,12 +119,12 @@ public class CorrentlyImpl extends AbstractOpenemsComponent implements TimeOfUse
 	@Override
 	public TimeOfUsePrices getPrices() {
 		// return empty TimeOfUsePrices if data is not yet available.
-		if (this.updateTimeStamp == null) {
+		var priceProvider = this.priceProvider;
+		if (priceProvider == null) {
 			return TimeOfUsePrices.empty(ZonedDateTime.now());
 		}
 
-		return TimeOfUseTariffUtils.getNext24HourPrices(Clock.systemDefaultZone() /* can be mocked for testing */,
-				this.prices.get(), this.updateTimeStamp);
+		return priceProvider.getPrices(Clock.systemDefaultZone() /* can be mocked for testing */);
 	}
 
 	/**
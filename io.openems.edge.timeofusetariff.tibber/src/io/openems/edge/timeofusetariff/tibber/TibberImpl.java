@@ -8,7 +8,6 @@ import java.time.temporal.ChronoUnit;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -18,8 +17,6 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.Designate;
 
-import com.google.common.collect.ImmutableSortedMap;
-
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.ThreadPoolUtils;
@@ -28,9 +25,8 @@ import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
-import io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils;
+import io.openems.edge.timeofusetariff.api.utils.CachingPriceProvider;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 
@@ -48,16 +44,12 @@ public class TibberImpl extends AbstractOpenemsComponent implements TimeOfUseTar
 
 	private Config config = null;
 
-	private final AtomicReference<ImmutableSortedMap<ZonedDateTime, Float>> prices = new AtomicReference<>(
-			ImmutableSortedMap.of());
-
-	private ZonedDateTime updateTimeStamp = null;
+	private CachingPriceProvider priceProvider = null;
 
 	protected final Runnable task = () -> {
 		/*
 		 * Update Map of prices
 		 */
-		var client = new OkHttpClient();
 		var request = new Request.Builder() //
 				.url(TIBBER_API_URL) //
 				.header("Authorization", this.config.accessToken()) //
@@ -69,22 +61,13 @@ public class TibberImpl extends AbstractOpenemsComponent implements TimeOfUseTar
 		var filterIsRequired = false;
 		var unableToUpdatePrices = false;
 
-		try (var response = client.newCall(request).execute()) {
-			httpStatusCode = response.code();
-
-			if (!response.isSuccessful()) {
-				throw new IOException("Unexpected code " + response);
-			}
-
+		try {
 			// Initialize status channel to false
 			this.channel(Tibber.ChannelId.FILTER_IS_REQUIRED).setNextValue(false);
 
-			// Parse the response for the prices
-			this.prices.set(Utils.parsePrices(response.body().string(), this.config.filter()));
-
-			// store the time stamp
-			this.updateTimeStamp = ZonedDateTime.now();
-
+			// Fetch and parse the prices; keeps the known prices on '304 Not Modified'
+			httpStatusCode = this.priceProvider.fetch(request,
+					body -> Utils.parsePrices(body, this.config.filter()));
 		} catch (IOException | OpenemsNamedException e) {
 			if (e instanceof FoundMultipleHomesException) {
 				filterIsRequired = true;
@@ -131,6 +114,7 @@ public class TibberImpl extends AbstractOpenemsComponent implements TimeOfUseTar
 			return;
 		}
 		this.config = config;
+		this.priceProvider = new CachingPriceProvider(CachingPriceProvider.getCacheFile(config.id()));
 		this.executor.schedule(this.task, 0, TimeUnit.SECONDS);
 	}
 
@@ -144,11 +128,11 @@ public class TibberImpl extends AbstractOpenemsComponent implements TimeOfUseTar
 	@Override
 	public TimeOfUsePrices getPrices() {
 		// return empty TimeOfUsePrices if data is not yet available.
-		if (this.updateTimeStamp == null) {
+		var priceProvider = this.priceProvider;
+		if (priceProvider == null) {
 			return TimeOfUsePrices.empty(ZonedDateTime.now());
 		}
 
-		return TimeOfUseTariffUtils.getNext24HourPrices(Clock.systemDefaultZone() /* can be mocked for testing */,
-				this.prices.get(), this.updateTimeStamp);
+		return priceProvider.getPrices(Clock.systemDefaultZone() /* can be mocked for testing */);
 	}
 }